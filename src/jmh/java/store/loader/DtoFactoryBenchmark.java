@@ -0,0 +1,91 @@
+package store.loader;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+import store.dto.ProductDto;
+
+/**
+ * 상품 파일 한 줄을 DTO 로 바꾸는 비용을 줄 단위로 잽니다. {@code reflectivePerRow} 는 {@link DtoFactory} 를 도입하기 전처럼 줄마다 {@code getMethods()} 로
+ * 팩토리 메서드를 찾아 {@code Method.invoke} 로 호출하고, {@code compiledFactory} 는 한 번 바인딩해 둔 MethodHandle 을 호출합니다. {@code loadFile} 은
+ * 같은 줄들을 파일에서 읽어 {@link FileDataLoader} 로 변환하는 전체 비용입니다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class DtoFactoryBenchmark {
+    private static final int ROW_COUNT = 10_000;
+    private static final String HEADER = "name,price,quantity,promotion";
+
+    private final DtoFactory<ProductDto> factory = DtoFactory.of(ProductDto.class);
+    private final FileDataLoader<ProductDto> loader = new FileDataLoader<>(ProductDto.class);
+    private String[][] rows;
+    private Path productsFile;
+
+    @Setup
+    public void setUp() throws IOException {
+        rows = new String[ROW_COUNT][];
+        List<String> lines = new ArrayList<>(List.of(HEADER));
+        for (int i = 0; i < ROW_COUNT; i++) {
+            rows[i] = new String[]{"상품" + i, String.valueOf(1000 + i), String.valueOf(i % 100), "null"};
+            lines.add(String.join(",", rows[i]));
+        }
+
+        productsFile = Files.createTempFile("products", ".md");
+        Files.write(productsFile, lines);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(productsFile);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROW_COUNT)
+    public void reflectivePerRow(final Blackhole blackhole) throws ReflectiveOperationException {
+        for (String[] row : rows) {
+            blackhole.consume(createReflectively(row));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROW_COUNT)
+    public void compiledFactory(final Blackhole blackhole) {
+        for (String[] row : rows) {
+            blackhole.consume(factory.create(row));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROW_COUNT)
+    public List<ProductDto> loadFile() {
+        return loader.load(productsFile.toString());
+    }
+
+    // DtoFactory 를 도입하기 전 FileDataLoader.convertToDto 가 줄마다 하던 탐색과 호출
+    private static Object createReflectively(final String[] fields) throws ReflectiveOperationException {
+        Method ofMethod = Arrays.stream(ProductDto.class.getMethods())
+                .filter(method -> method.getName().equals("of"))
+                .filter(method -> method.getParameterCount() == fields.length)
+                .filter(method -> Arrays.stream(method.getParameterTypes()).allMatch(String.class::equals))
+                .findFirst()
+                .orElseThrow(NoSuchMethodException::new);
+
+        return ofMethod.invoke(null, (Object[]) fields);
+    }
+}
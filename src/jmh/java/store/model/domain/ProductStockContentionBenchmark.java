@@ -0,0 +1,71 @@
+package store.model.domain;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * 여러 계산대가 적은 수의 인기 상품 재고를 동시에 차감할 때의 처리량을 스레드 수별로 잽니다. 모든 스레드가 같은 재고 묶음을 공유하며, 스레드마다 차례로 다음 재고를 차감합니다.
+ * 재고가 바닥나지 않도록 반복마다 충분한 수량으로 다시 만듭니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ProductStockContentionBenchmark {
+    private static final int PRICE = 1000;
+
+    @Param({"1", "16"})
+    private int hotSkuCount;
+
+    private ProductStock[] stocks;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        stocks = new ProductStock[hotSkuCount];
+        for (int i = 0; i < hotSkuCount; i++) {
+            stocks[i] = ProductStock.of(PRICE, Integer.MAX_VALUE);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Cursor {
+        private int next;
+
+        private ProductStock nextOf(final ProductStock[] stocks) {
+            next = (next + 1) % stocks.length;
+            return stocks[next];
+        }
+    }
+
+    @Benchmark
+    @Threads(1)
+    public boolean tryReduce1Thread(final Cursor cursor) {
+        return cursor.nextOf(stocks).tryReduce(1);
+    }
+
+    @Benchmark
+    @Threads(2)
+    public boolean tryReduce2Threads(final Cursor cursor) {
+        return cursor.nextOf(stocks).tryReduce(1);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public boolean tryReduce4Threads(final Cursor cursor) {
+        return cursor.nextOf(stocks).tryReduce(1);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public boolean tryReduce8Threads(final Cursor cursor) {
+        return cursor.nextOf(stocks).tryReduce(1);
+    }
+}
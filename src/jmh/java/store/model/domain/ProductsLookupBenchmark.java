@@ -0,0 +1,65 @@
+package store.model.domain;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import store.dto.ProductDto;
+
+/**
+ * 상품 수를 10 개부터 1,000,000 개까지 늘려 가며 상품명 조회와 상품 목록 생성 비용을 잽니다. 색인이 제 역할을 한다면 조회 비용은 상품 수와 거의 무관하고, 목록 생성 비용은 상품
+ * 수에 비례해야 합니다. 조회할 상품명은 고정된 시드로 미리 골라 두어 실행마다 같은 순서로 조회합니다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ProductsLookupBenchmark {
+    private static final int LOOKUP_COUNT = 1024;
+    private static final long SEED = 42;
+
+    @Param({"10", "1000", "100000", "1000000"})
+    private int catalogSize;
+
+    private final Promotions promotions = Promotions.from(List.of());
+    private List<ProductDto> productDtos;
+    private Products products;
+    private String[] lookupNames;
+
+    @Setup
+    public void setUp() {
+        productDtos = new ArrayList<>(catalogSize);
+        for (int i = 0; i < catalogSize; i++) {
+            productDtos.add(new ProductDto("상품" + i, 1000, 10, null));
+        }
+        products = Products.from(productDtos, promotions);
+
+        Random random = new Random(SEED);
+        lookupNames = new String[LOOKUP_COUNT];
+        for (int i = 0; i < LOOKUP_COUNT; i++) {
+            lookupNames[i] = "상품" + random.nextInt(catalogSize);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LOOKUP_COUNT)
+    public void findByName(final Blackhole blackhole) {
+        for (String name : lookupNames) {
+            blackhole.consume(products.findByName(name));
+        }
+    }
+
+    @Benchmark
+    public Products build() {
+        return Products.from(productDtos, promotions);
+    }
+}
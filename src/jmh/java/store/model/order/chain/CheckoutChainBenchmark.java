@@ -0,0 +1,84 @@
+package store.model.order.chain;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import store.dto.OrderItemDto;
+import store.dto.ProductDto;
+import store.dto.PromotionFileDto;
+import store.dto.ReceiptDto;
+import store.model.domain.Products;
+import store.model.domain.Promotion;
+import store.model.domain.Promotions;
+import store.model.order.OrderConfirmation;
+import store.model.order.OrderContext;
+
+/**
+ * 같은 주문을 처리기 체인({@link CheckoutChain})과 한 번의 순회로 합친 처리기({@link FusedCheckoutHandler})로 결제하는 비용을 주문 항목 수별로 비교합니다.
+ * 상품의 절반은 2+1 프로모션 상품이며, 고객은 모든 확인에 동의합니다. 재고가 바닥나지 않도록 반복마다 상품 목록을 다시 만듭니다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CheckoutChainBenchmark {
+    private static final LocalDateTime ORDER_DATE_TIME = LocalDateTime.of(2024, 2, 1, 10, 0);
+    private static final String PROMOTION_NAME = "2+1";
+    private static final int STOCK_QUANTITY = 100_000_000;
+    private static final int ORDER_QUANTITY = 5;
+
+    @Param({"1", "10", "100"})
+    private int itemCount;
+
+    private final OrderChain checkoutChain = CheckoutChain.create();
+    private final OrderChain fusedChain = OrderChain.of(new FusedCheckoutHandler());
+    private final OrderConfirmation confirmation = OrderConfirmation.answering(true, true, true);
+    private final Promotions promotions = Promotions.from(List.of(Promotion.from(
+            PromotionFileDto.of(PROMOTION_NAME, "2", "1", "2024-01-01", "2024-12-31")
+    )));
+    private Products products;
+    private List<OrderItemDto> orderItems;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        List<ProductDto> productDtos = new ArrayList<>();
+        orderItems = new ArrayList<>();
+        for (int i = 0; i < itemCount; i++) {
+            addProduct(productDtos, "상품" + i, i % 2 == 0);
+            orderItems.add(new OrderItemDto("상품" + i, ORDER_QUANTITY));
+        }
+        products = Products.from(productDtos, promotions);
+    }
+
+    private void addProduct(final List<ProductDto> productDtos, final String name, final boolean promotional) {
+        if (promotional) {
+            productDtos.add(new ProductDto(name, 1000, STOCK_QUANTITY, PROMOTION_NAME));
+        }
+        productDtos.add(new ProductDto(name, 1000, STOCK_QUANTITY, null));
+    }
+
+    @Benchmark
+    public ReceiptDto checkoutChain() {
+        return checkout(checkoutChain);
+    }
+
+    @Benchmark
+    public ReceiptDto fusedCheckout() {
+        return checkout(fusedChain);
+    }
+
+    private ReceiptDto checkout(final OrderChain chain) {
+        OrderContext orderContext = OrderContext.of(ORDER_DATE_TIME, orderItems, products, confirmation);
+        chain.handle(orderContext);
+        return orderContext.getReceipt();
+    }
+}
@@ -0,0 +1,108 @@
+package store.model.order.chain;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import store.dto.OrderItemDto;
+import store.dto.ProductDto;
+import store.dto.PromotionFileDto;
+import store.dto.ReceiptDto;
+import store.model.domain.Product;
+import store.model.domain.Products;
+import store.model.domain.Promotion;
+import store.model.domain.Promotions;
+import store.model.order.OrderConfirmation;
+import store.model.order.OrderContext;
+import store.model.order.OrderLines;
+import store.vo.MoneyAccumulator;
+
+/**
+ * 재고 차감까지 마친 주문으로 영수증 금액을 합산하는 비용을 잽니다. {@code intStreamTotals} 는 {@link store.vo.Money} 를 도입하기 전처럼 int 스트림으로,
+ * {@code accumulatorTotals} 는 {@link MoneyAccumulator} 로 같은 세 합계(총 금액, 프로모션 할인, 프로모션 적용 후 금액)를 구하며,
+ * {@code purchaseReceipt} 는 {@link PurchaseHandler} 가 영수증 전체를 만드는 비용입니다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ReceiptAggregationBenchmark {
+    private static final LocalDateTime ORDER_DATE_TIME = LocalDateTime.of(2024, 2, 1, 10, 0);
+    private static final String PROMOTION_NAME = "2+1";
+
+    @Param({"1", "10", "100"})
+    private int lineCount;
+
+    private final PurchaseHandler purchaseHandler = new PurchaseHandler();
+    private OrderContext orderContext;
+    private OrderLines orderLines;
+
+    @Setup
+    public void setUp() {
+        List<ProductDto> productDtos = new ArrayList<>();
+        List<OrderItemDto> orderItems = new ArrayList<>();
+        for (int i = 0; i < lineCount; i++) {
+            productDtos.add(new ProductDto("상품" + i, 1000 + i, 100, PROMOTION_NAME));
+            productDtos.add(new ProductDto("상품" + i, 1000 + i, 100, null));
+            orderItems.add(new OrderItemDto("상품" + i, 1 + i % 7));
+        }
+        Promotions promotions = Promotions.from(List.of(Promotion.from(
+                PromotionFileDto.of(PROMOTION_NAME, "2", "1", "2024-01-01", "2024-12-31")
+        )));
+
+        orderContext = OrderContext.of(ORDER_DATE_TIME, orderItems, Products.from(productDtos, promotions),
+                OrderConfirmation.answering(false, true, true));
+        CheckoutChain.create().handle(orderContext);
+        orderLines = orderContext.getOrderLines();
+    }
+
+    @Benchmark
+    public void intStreamTotals(final Blackhole blackhole) {
+        blackhole.consume(IntStream.range(0, orderLines.size())
+                .map(line -> priceOf(line) * orderLines.quantity(line)).sum());
+        blackhole.consume(IntStream.range(0, orderLines.size())
+                .map(line -> priceOf(line) * orderLines.freeQuantity(line)).sum());
+        blackhole.consume(IntStream.range(0, orderLines.size())
+                .map(line -> priceOf(line) * quantityAfterPromotion(line)).sum());
+    }
+
+    @Benchmark
+    public void accumulatorTotals(final Blackhole blackhole) {
+        MoneyAccumulator totalPrice = new MoneyAccumulator();
+        MoneyAccumulator promotionDiscount = new MoneyAccumulator();
+        MoneyAccumulator priceAfterPromotion = new MoneyAccumulator();
+        for (int line = 0; line < orderLines.size(); line++) {
+            totalPrice.add(priceOf(line), orderLines.quantity(line));
+            promotionDiscount.add(priceOf(line), orderLines.freeQuantity(line));
+            priceAfterPromotion.add(priceOf(line), quantityAfterPromotion(line));
+        }
+        blackhole.consume(totalPrice.total());
+        blackhole.consume(promotionDiscount.total());
+        blackhole.consume(priceAfterPromotion.total());
+    }
+
+    @Benchmark
+    public ReceiptDto purchaseReceipt() {
+        purchaseHandler.process(orderContext);
+        return orderContext.getReceipt();
+    }
+
+    private int priceOf(final int line) {
+        return orderLines.product(line).getNormalStock().getPrice();
+    }
+
+    private int quantityAfterPromotion(final int line) {
+        Product product = orderLines.product(line);
+        int quantityInSets = product.getPromotion().getCalculator().quantityInSets(orderLines.promotionalQuantity(line));
+        return orderLines.quantity(line) - quantityInSets;
+    }
+}
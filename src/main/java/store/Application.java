@@ -1,11 +1,35 @@
 package store;
 
+import java.nio.file.Path;
+import store.controller.BatchOrderController;
+import store.controller.BatchPolicy;
 import store.controller.StoreController;
+import store.metrics.HandlerMetricsRegistry;
+import store.metrics.MetricsReporter;
 import store.view.InputView;
 import store.view.OutputView;
 
 public class Application {
+    private static final String BATCH_OPTION = "--batch";
+    private static final int BATCH_ARGUMENT_COUNT = 3;
+
     public static void main(String[] args) {
+        HandlerMetricsRegistry.global().exposeToJmxIfEnabled();
+
+        MetricsReporter metricsReporter = MetricsReporter.fromSystemProperties(HandlerMetricsRegistry.global());
+        try {
+            run(args);
+        } finally {
+            metricsReporter.close();
+        }
+    }
+
+    private static void run(final String[] args) {
+        if (args.length == BATCH_ARGUMENT_COUNT && BATCH_OPTION.equals(args[0])) {
+            runBatch(Path.of(args[1]), Path.of(args[2]));
+            return;
+        }
+
         StoreController storeController = new StoreController(
                 new InputView(),
                 new OutputView()
@@ -13,4 +37,14 @@ public class Application {
 
         storeController.run();
     }
+
+    // 사용법: --batch <주문 파일> <영수증 파일>
+    private static void runBatch(final Path orderFile, final Path receiptFile) {
+        BatchOrderController batchOrderController = new BatchOrderController(
+                BatchPolicy.fromSystemProperties(),
+                new OutputView()
+        );
+
+        batchOrderController.run(orderFile, receiptFile);
+    }
 }
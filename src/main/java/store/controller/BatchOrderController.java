@@ -0,0 +1,157 @@
+package store.controller;
+
+import camp.nextstep.edu.missionutils.DateTimes;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.IntStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import store.model.domain.Products;
+import store.model.order.OrderConfirmation;
+import store.model.order.OrderContext;
+import store.model.order.PartitionedOrderExecutor;
+import store.model.order.chain.FusedCheckoutHandler;
+import store.model.order.chain.OrderChain;
+import store.model.order.chain.StockValidationHandler;
+import store.util.OrderParser;
+import store.view.OutputView;
+
+/**
+ * 주문 파일의 각 줄을 하나의 주문으로 보고 콘솔 입력 없이 처리하여 영수증을 파일로 씁니다. 고객 확인 질문에는 {@link BatchPolicy} 의 응답을 사용하며, 처리할 수 없는 주문은
+ * 오류 메시지를 남기고 다음 주문으로 넘어갑니다. 주문은 {@link PartitionedOrderExecutor} 로 병렬 처리하지만 재고와 영수증은 파일 순서대로 처리한 결과와 같습니다.
+ */
+public class BatchOrderController {
+    private static final String ERROR_FILE_IO = "주문 파일을 처리할 수 없습니다: ";
+    private static final String ERROR_CHECKOUT = "주문을 처리할 수 없습니다.";
+
+    private static final int ORDER_WINDOW_SIZE = 1024;
+
+    private final OutputView outputView;
+    private final OrderConfirmation confirmation;
+    private final OrderChain orderChain = OrderChain.of(new StockValidationHandler(), new FusedCheckoutHandler());
+    private final int partitions;
+    private final List<OrderContext> orderPool = new ArrayList<>();
+
+    public BatchOrderController(final BatchPolicy policy, final OutputView outputView) {
+        this(policy, outputView, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * @param partitions 주문을 나누어 처리할 파티션 수. 1 이면 주문을 한 스레드에서 차례로 처리합니다.
+     */
+    public BatchOrderController(final BatchPolicy policy, final OutputView outputView, final int partitions) {
+        this.outputView = outputView;
+        this.partitions = partitions;
+        this.confirmation = policy.toConfirmation();
+    }
+
+    public void run(final Path orderFile, final Path receiptFile) {
+        Products products = CatalogSource.load(outputView).products();
+
+        try (BufferedReader orders = Files.newBufferedReader(orderFile);
+                BufferedWriter receipts = Files.newBufferedWriter(receiptFile)) {
+            process(products, orders, receipts);
+        } catch (IOException e) {
+            throw new IllegalArgumentException(ERROR_FILE_IO + e.getMessage());
+        }
+    }
+
+    /**
+     * 주문을 일정 개수씩 읽어 파티션에서 병렬로 처리하고, 주문마다 영수증 또는 오류 메시지를 파일의 주문 순서대로 씁니다. 빈 줄은 건너뜁니다.
+     */
+    public void process(final Products products, final BufferedReader orders, final Writer receipts)
+            throws IOException {
+        try (PartitionedOrderExecutor executor = PartitionedOrderExecutor.start(partitions)) {
+            List<String> orderLines = readWindow(orders);
+            while (!orderLines.isEmpty()) {
+                writeAll(receipts, checkoutAll(executor, products, orderLines));
+                orderLines = readWindow(orders);
+            }
+        }
+    }
+
+    private List<String> readWindow(final BufferedReader orders) throws IOException {
+        List<String> orderLines = new ArrayList<>();
+        String orderLine = "";
+
+        while (orderLine != null && orderLines.size() < ORDER_WINDOW_SIZE) {
+            orderLine = orders.readLine();
+            addIfPresent(orderLines, orderLine);
+        }
+
+        return orderLines;
+    }
+
+    private static void addIfPresent(final List<String> orderLines, final String orderLine) {
+        if (orderLine != null && !orderLine.isBlank()) {
+            orderLines.add(orderLine);
+        }
+    }
+
+    // 형식이 잘못되었거나 없는 상품을 주문한 줄은 재고를 건드리지 않으므로 병렬 처리 전에 오류로 남긴다
+    private List<String> checkoutAll(
+            final PartitionedOrderExecutor executor,
+            final Products products,
+            final List<String> orderLines
+    ) {
+        List<ParsedOrder> parsedOrders = IntStream.range(0, orderLines.size())
+                .mapToObj(index -> parse(pooledOrder(index), products, orderLines.get(index)))
+                .toList();
+        List<OrderContext> orders = parsedOrders.stream().map(ParsedOrder::order).filter(Objects::nonNull).toList();
+        Iterator<String> receipts = executor.execute(orders, this::checkout, this::formatFailure).iterator();
+
+        return parsedOrders.stream()
+                .map(parsedOrder -> Objects.requireNonNullElseGet(parsedOrder.error(), receipts::next))
+                .toList();
+    }
+
+    // 한 번에 읽은 주문의 영수증을 모두 쓴 뒤에 다음 주문을 읽으므로, 읽은 순번마다 주문 객체를 하나씩 두고 재사용한다
+    private OrderContext pooledOrder(final int index) {
+        if (index == orderPool.size()) {
+            orderPool.add(OrderContext.empty());
+        }
+
+        return orderPool.get(index);
+    }
+
+    private ParsedOrder parse(final OrderContext order, final Products products, final String orderLine) {
+        try {
+            return new ParsedOrder(order.reset(DateTimes.now(), OrderParser.parse(orderLine), products, confirmation), null);
+        } catch (IllegalArgumentException | IllegalStateException e) {
+            return new ParsedOrder(null, outputView.formatError(e.getMessage()));
+        }
+    }
+
+    private String checkout(final OrderContext order) {
+        try {
+            orderChain.handle(order);
+            return outputView.formatReceipt(order.getReceipt());
+        } catch (IllegalArgumentException | IllegalStateException e) {
+            return outputView.formatError(e.getMessage());
+        }
+    }
+
+    // 예상하지 못한 예외로 처리에 실패한 주문도 그 주문만 오류로 남기고 나머지 주문은 계속 처리한다
+    private String formatFailure(final RuntimeException e) {
+        return outputView.formatError(Objects.requireNonNullElse(e.getMessage(), ERROR_CHECKOUT));
+    }
+
+    private static void writeAll(final Writer receipts, final List<String> results) throws IOException {
+        for (String result : results) {
+            receipts.write(result);
+            receipts.write(System.lineSeparator());
+        }
+    }
+
+    private record ParsedOrder(
+            OrderContext order,
+            String error
+    ) {
+    }
+}
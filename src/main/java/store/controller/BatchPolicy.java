@@ -0,0 +1,35 @@
+package store.controller;
+
+import store.model.order.OrderConfirmation;
+
+/**
+ * 배치 주문에서 고객 확인 질문에 대신 답할 응답입니다.
+ *
+ * @param addFreeItems      프로모션 증정 상품을 추가할지 여부
+ * @param acceptNormalPrice 프로모션 재고가 부족할 때 정가로 구매할지 여부
+ * @param membership        멤버십 할인을 적용할지 여부
+ */
+public record BatchPolicy(
+        boolean addFreeItems,
+        boolean acceptNormalPrice,
+        boolean membership
+) {
+    private static final String ADD_FREE_ITEMS_PROPERTY = "store.batch.addFreeItems";
+    private static final String ACCEPT_NORMAL_PRICE_PROPERTY = "store.batch.acceptNormalPrice";
+    private static final String MEMBERSHIP_PROPERTY = "store.batch.membership";
+
+    /**
+     * 시스템 속성에서 응답을 읽습니다. 지정하지 않은 항목은 증정 상품 추가와 정가 구매에 동의하고 멤버십 할인은 받지 않습니다.
+     */
+    public static BatchPolicy fromSystemProperties() {
+        return new BatchPolicy(
+                Boolean.parseBoolean(System.getProperty(ADD_FREE_ITEMS_PROPERTY, "true")),
+                Boolean.parseBoolean(System.getProperty(ACCEPT_NORMAL_PRICE_PROPERTY, "true")),
+                Boolean.parseBoolean(System.getProperty(MEMBERSHIP_PROPERTY, "false"))
+        );
+    }
+
+    public OrderConfirmation toConfirmation() {
+        return OrderConfirmation.answering(addFreeItems, acceptNormalPrice, membership);
+    }
+}
@@ -0,0 +1,64 @@
+package store.controller;
+
+import java.util.Optional;
+import store.dto.CatalogDto;
+import store.loader.CatalogSnapshot;
+import store.loader.MappedFileDataLoader;
+import store.model.domain.Catalog;
+import store.view.OutputView;
+
+public class CatalogSource {
+    public static final String PRODUCTS_FILE_PATH = "src/main/resources/products.md";
+    public static final String PROMOTIONS_FILE_PATH = "src/main/resources/promotions.md";
+    private static final String SNAPSHOT_FILE_PATH = "build/catalog.snapshot";
+
+    private CatalogSource() {
+    }
+
+    /**
+     * 스냅샷이 원본 파일과 일치하면 스냅샷에서, 아니라면 원본 파일에서 카탈로그를 읽습니다. 스냅샷을 읽거나 저장하지 못하면 오류를 출력하고 원본 파일에서 읽은 카탈로그를
+     * 그대로 사용합니다.
+     */
+    public static Catalog load(final OutputView outputView) {
+        CatalogSnapshot snapshot = CatalogSnapshot.of(SNAPSHOT_FILE_PATH, PRODUCTS_FILE_PATH, PROMOTIONS_FILE_PATH);
+        CatalogDto catalogDto = read(snapshot, outputView).orElseGet(CatalogSource::loadFromText);
+        Catalog catalog = Catalog.from(catalogDto);
+        save(snapshot, catalogDto, outputView);
+
+        return catalog;
+    }
+
+    private static Optional<CatalogDto> read(final CatalogSnapshot snapshot, final OutputView outputView) {
+        try {
+            return snapshot.read();
+        } catch (IllegalStateException e) {
+            outputView.printError(e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private static void save(final CatalogSnapshot snapshot, final CatalogDto catalogDto, final OutputView outputView) {
+        try {
+            snapshot.saveIfStale(catalogDto);
+        } catch (IllegalStateException e) {
+            outputView.printError(e.getMessage());
+        }
+    }
+
+    public static CatalogDto loadFromText() {
+        return new CatalogDto(
+                MappedFileDataLoader.products().load(PRODUCTS_FILE_PATH),
+                MappedFileDataLoader.promotions().load(PROMOTIONS_FILE_PATH)
+        );
+    }
+
+    /**
+     * 파일 변경으로 카탈로그 전체를 다시 읽을 때 사용합니다. 큰 파일은 줄 경계에 맞춘 구간으로 나누어 공용 ForkJoinPool 에서 병렬로 파싱합니다.
+     */
+    public static CatalogDto reloadFromText() {
+        return new CatalogDto(
+                MappedFileDataLoader.products().loadParallel(PRODUCTS_FILE_PATH),
+                MappedFileDataLoader.promotions().loadParallel(PROMOTIONS_FILE_PATH)
+        );
+    }
+}
@@ -1,24 +1,21 @@
 package store.controller;
 
 import camp.nextstep.edu.missionutils.DateTimes;
+import java.time.Duration;
 import java.util.List;
-import java.util.function.BiFunction;
 import java.util.function.Supplier;
 import store.dto.OrderItemDto;
-import store.dto.ProductDto;
-import store.dto.PromotionFileDto;
-import store.loader.FileDataLoader;
+import store.loader.CatalogReloader;
+import store.metrics.ConfirmationTimer;
+import store.model.domain.Catalog;
 import store.model.domain.Products;
-import store.model.domain.Promotion;
-import store.model.domain.Promotions;
+import store.model.order.OrderConfirmation;
 import store.model.order.OrderContext;
-import store.model.order.chain.InsufficientPromotionalStockHandler;
-import store.model.order.chain.InventoryReduceHandler;
-import store.model.order.chain.MembershipDiscountHandler;
-import store.model.order.chain.OrderHandler;
-import store.model.order.chain.PromotionalItemAdditionHandler;
-import store.model.order.chain.PurchaseHandler;
+import store.model.order.chain.CheckoutChain;
+import store.model.order.chain.OrderChain;
+import store.model.order.chain.StockHoldHandler;
 import store.model.order.chain.StockValidationHandler;
+import store.util.HashedTimingWheel;
 import store.util.OrderParser;
 import store.util.RetryExecutor;
 import store.util.YesNoParser;
@@ -26,34 +23,51 @@ import store.view.InputView;
 import store.view.OutputView;
 
 public class StoreController {
-    private static final String PRODUCTS_FILE_PATH = "src/main/resources/products.md";
-    private static final String PROMOTIONS_FILE_PATH = "src/main/resources/promotions.md";
+    private static final Duration STOCK_HOLD_DURATION = Duration.ofMinutes(5);
+    private static final long HOLD_TICK_MILLIS = 100;
+    private static final int HOLD_WHEEL_SIZE = 512;
 
     private final InputView inputView;
     private final OutputView outputView;
+    private final OrderConfirmation confirmation;
+    private final OrderChain checkoutChain = CheckoutChain.create();
 
     public StoreController(final InputView inputView, final OutputView outputView) {
         this.inputView = inputView;
         this.outputView = outputView;
+        this.confirmation = new OrderConfirmation(
+                (productName, quantity) -> confirm(() -> inputView.getPromotionalItemAdd(productName, quantity)),
+                (productName, quantity) -> confirm(() -> inputView.getNormalPriceConfirmation(productName, quantity)),
+                () -> confirm(inputView::getMembershipDiscountConfirmation)
+        );
     }
 
     public void run() {
-        List<ProductDto> products = new FileDataLoader<>(ProductDto.class).load(PRODUCTS_FILE_PATH);
-        Products productsModel = createProductsModel(products);
+        try (CatalogReloader reloader = CatalogReloader.start(
+                CatalogSource.load(outputView),
+                CatalogSource::reloadFromText,
+                CatalogSource.PRODUCTS_FILE_PATH,
+                CatalogSource.PROMOTIONS_FILE_PATH
+        ); HashedTimingWheel timingWheel = HashedTimingWheel.start(HOLD_TICK_MILLIS, HOLD_WHEEL_SIZE)) {
+            processOrders(reloader, OrderChain.of(
+                    new StockValidationHandler(),
+                    new StockHoldHandler(timingWheel, STOCK_HOLD_DURATION)
+            ));
+        }
+    }
 
+    private void processOrders(final CatalogReloader reloader, final OrderChain validationChain) {
         boolean shouldContinue;
         do {
-            shouldContinue = processSingleOrder(products, productsModel);
-            products = productsModel.updateDtoQuantities(products);
-
+            shouldContinue = processSingleOrder(reloader.current(), validationChain);
         } while (shouldContinue);
     }
 
-    private boolean processSingleOrder(final List<ProductDto> products, final Products productsModel) {
-        outputView.printProducts(products);
+    private boolean processSingleOrder(final Catalog catalog, final OrderChain validationChain) {
+        outputView.printProducts(catalog.currentProductRows());
 
-        OrderContext orderContext = createValidatedOrder(productsModel);
-        processOrderWithHandlerChain(orderContext);
+        OrderContext orderContext = createValidatedOrder(catalog.products(), validationChain);
+        checkoutChain.handle(orderContext);
 
         outputView.printReceipt(orderContext.getReceipt());
 
@@ -61,70 +75,22 @@ public class StoreController {
         return YesNoParser.parse(userInput);
     }
 
-    private Products createProductsModel(final List<ProductDto> products) {
-        List<PromotionFileDto> promotions = new FileDataLoader<>(PromotionFileDto.class)
-                .load(PROMOTIONS_FILE_PATH);
-
-        List<Promotion> rawPromotions = promotions.stream()
-                .map(Promotion::from)
-                .toList();
-
-        Promotions promotionsModel = Promotions.from(rawPromotions);
-        return Products.from(products, promotionsModel);
-    }
-
-    private OrderContext createValidatedOrder(final Products productsModel) {
+    private OrderContext createValidatedOrder(
+            final Products productsModel,
+            final OrderChain validationChain
+    ) {
         return withRetry(() -> {
             String orderInput = inputView.getOrderInput();
             List<OrderItemDto> orderItems = OrderParser.parse(orderInput);
-            OrderContext context = OrderContext.of(DateTimes.now(), orderItems, productsModel);
-            OrderHandler stockValidationHandler = new StockValidationHandler();
-            stockValidationHandler.handle(context);
+            OrderContext context = OrderContext.of(DateTimes.now(), orderItems, productsModel, confirmation);
+            validationChain.handle(context);
             return context;
         });
     }
 
-    private void processOrderWithHandlerChain(final OrderContext orderContext) {
-        OrderHandler promotionalItemAdditionHandler = createPromotionalItemHandler();
-        OrderHandler insufficientPromotionalStockHandler = createInsufficientStockHandler();
-        OrderHandler membershipDiscountHandler = createMembershipDiscountHandler();
-
-        promotionalItemAdditionHandler
-                .setNext(insufficientPromotionalStockHandler)
-                .setNext(membershipDiscountHandler)
-                .setNext(new InventoryReduceHandler())
-                .setNext(new PurchaseHandler());
-
-        promotionalItemAdditionHandler.handle(orderContext);
-    }
-
-    private OrderHandler createPromotionalItemHandler() {
-        BiFunction<String, Integer, Boolean> promotionalConfirmer =
-                (productName, quantity) -> withRetry(() -> {
-                    String userInput = inputView.getPromotionalItemAdd(productName, quantity);
-                    return YesNoParser.parse(userInput);
-                });
-
-        return new PromotionalItemAdditionHandler(promotionalConfirmer);
-    }
-
-    private OrderHandler createInsufficientStockHandler() {
-        BiFunction<String, Integer, Boolean> insufficientStockConfirmer =
-                (productName, quantity) -> withRetry(() -> {
-                    String userInput = inputView.getNormalPriceConfirmation(productName, quantity);
-                    return YesNoParser.parse(userInput);
-                });
-
-        return new InsufficientPromotionalStockHandler(insufficientStockConfirmer);
-    }
-
-    private OrderHandler createMembershipDiscountHandler() {
-        Supplier<Boolean> membershipConfirmer = () -> withRetry(() -> {
-            String userInput = inputView.getMembershipDiscountConfirmation();
-            return YesNoParser.parse(userInput);
-        });
-
-        return new MembershipDiscountHandler(membershipConfirmer);
+    // 고객의 응답을 기다린 시간은 주문 처리기의 처리 시간과 따로 집계한다
+    private boolean confirm(final Supplier<String> question) {
+        return ConfirmationTimer.measure(() -> withRetry(() -> YesNoParser.parse(question.get())));
     }
 
     private <T> T withRetry(final Supplier<T> function) {
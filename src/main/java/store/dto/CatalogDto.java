@@ -0,0 +1,9 @@
+package store.dto;
+
+import java.util.List;
+
+public record CatalogDto(
+        List<ProductDto> products,
+        List<PromotionFileDto> promotions
+) {
+}
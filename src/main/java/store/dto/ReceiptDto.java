@@ -1,6 +1,7 @@
 package store.dto;
 
 import java.util.Map;
+import store.vo.Money;
 
 public record ReceiptDto(
         Map<String, OrderItemInfo> orderedItems,
@@ -10,18 +11,18 @@ public record ReceiptDto(
     public record OrderItemInfo(
             String name,
             int quantity,
-            int price
+            Money price
     ) {
     }
 
     public record PriceInfo(
             int totalQuantity,
-            int totalPrice,
-            int promotionDiscount,
-            int membershipDiscount
+            Money totalPrice,
+            Money promotionDiscount,
+            Money membershipDiscount
     ) {
-        public int calculateFinalPrice() {
-            return totalPrice - promotionDiscount - membershipDiscount;
+        public Money calculateFinalPrice() {
+            return totalPrice.minus(promotionDiscount).minus(membershipDiscount);
         }
     }
 }
@@ -1,19 +0,0 @@
-package store.dto;
-
-public record StockReduceResultDto(
-        int normalQuantity,
-        int promotionalQuantity,
-        int freeQuantity
-) {
-    public static StockReduceResultDto of(
-            final int normalQuantity,
-            final int promotionalQuantity,
-            final int freeQuantity
-    ) {
-        return new StockReduceResultDto(normalQuantity, promotionalQuantity, freeQuantity);
-    }
-
-    public int getTotalQuantity() {
-        return normalQuantity + promotionalQuantity;
-    }
-}
\ No newline at end of file
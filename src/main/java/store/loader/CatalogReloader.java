@@ -0,0 +1,148 @@
+package store.loader;
+
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.Arrays;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import store.dto.CatalogDto;
+import store.model.domain.Catalog;
+
+/**
+ * 카탈로그 파일의 변경을 감시하여 백그라운드에서 다시 읽고, 새 카탈로그 스냅샷을 원자적으로 교체합니다. 이미 {@link #current()} 로 스냅샷을 가져간 주문은 교체 이후에도 기존
+ * 스냅샷을 그대로 사용합니다.
+ */
+public class CatalogReloader implements AutoCloseable {
+    private static final String ERROR_WATCH = "카탈로그 파일 변경을 감시할 수 없습니다.";
+    private static final String WORKER_NAME = "catalog-reloader";
+    private static final long SETTLE_MILLIS = 200;
+
+    private final AtomicReference<Catalog> current;
+    private final Supplier<CatalogDto> source;
+    private final Set<Path> watchedFiles;
+    private final WatchService watchService;
+    private final Thread worker;
+
+    private CatalogReloader(
+            final Catalog initial,
+            final Supplier<CatalogDto> source,
+            final Set<Path> watchedFiles,
+            final WatchService watchService
+    ) {
+        this.current = new AtomicReference<>(initial);
+        this.source = source;
+        this.watchedFiles = watchedFiles;
+        this.watchService = watchService;
+        this.worker = Thread.ofPlatform().daemon().name(WORKER_NAME).unstarted(this::watch);
+    }
+
+    public static CatalogReloader start(
+            final Catalog initial,
+            final Supplier<CatalogDto> source,
+            final String... filePaths
+    ) {
+        Set<Path> watchedFiles = Arrays.stream(filePaths)
+                .map(filePath -> Path.of(filePath).toAbsolutePath())
+                .collect(Collectors.toSet());
+
+        CatalogReloader reloader = new CatalogReloader(initial, source, watchedFiles, register(watchedFiles));
+        reloader.worker.start();
+        return reloader;
+    }
+
+    private static WatchService register(final Set<Path> watchedFiles) {
+        try {
+            WatchService watchService = FileSystems.getDefault().newWatchService();
+            for (Path directory : watchedFiles.stream().map(Path::getParent).collect(Collectors.toSet())) {
+                directory.register(watchService, ENTRY_CREATE, ENTRY_MODIFY);
+            }
+            return watchService;
+        } catch (IOException e) {
+            throw new IllegalStateException(ERROR_WATCH, e);
+        }
+    }
+
+    public Catalog current() {
+        return current.get();
+    }
+
+    /**
+     * 카탈로그를 다시 읽어 교체합니다. 파일이 올바르지 않거나 읽는 중 예외가 발생하면 기존 스냅샷을 유지하며, 감시 스레드는 다음 변경을 계속 기다립니다.
+     *
+     * @return 교체 여부
+     */
+    public boolean reload() {
+        try {
+            replace(source.get());
+            return true;
+        } catch (RuntimeException e) {
+            return false;
+        }
+    }
+
+    // 다시 읽기는 이전 재고 슬롯에 수량을 반영하는 부수 효과가 있어 재시도될 수 있는 updateAndGet 대신 잠금 안에서 한 번만 수행한다
+    private synchronized void replace(final CatalogDto reloaded) {
+        current.set(current.get().reload(reloaded));
+    }
+
+    private void watch() {
+        WatchKey key = awaitChange();
+
+        while (key != null) {
+            reloadIfSourceChanged(key);
+            key.reset();
+            key = awaitChange();
+        }
+    }
+
+    private WatchKey awaitChange() {
+        try {
+            return watchService.take();
+        } catch (InterruptedException | ClosedWatchServiceException e) {
+            return null;
+        }
+    }
+
+    private void reloadIfSourceChanged(final WatchKey key) {
+        Path directory = (Path) key.watchable();
+        boolean changed = key.pollEvents().stream()
+                .map(WatchEvent::context)
+                .anyMatch(context -> watchedFiles.contains(directory.resolve(context.toString())));
+
+        if (changed && settle()) {
+            reload();
+        }
+    }
+
+    // 편집기가 파일을 여러 번에 나누어 쓰는 동안 읽지 않도록 잠시 기다린다
+    private boolean settle() {
+        try {
+            Thread.sleep(SETTLE_MILLIS);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    @Override
+    public void close() {
+        worker.interrupt();
+        try {
+            watchService.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
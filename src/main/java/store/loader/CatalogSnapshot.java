@@ -0,0 +1,310 @@
+package store.loader;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.zip.CRC32C;
+import store.dto.CatalogDto;
+import store.dto.ProductDto;
+import store.dto.PromotionFileDto;
+
+/**
+ * 파싱이 끝난 상품/프로모션 목록을 바이너리로 저장해 두었다가, 원본 파일이 바뀌지 않았다면 텍스트 파싱 없이 다시 읽어 들이는 스냅샷입니다.
+ * <p>
+ * 형식: 헤더(매직, 버전, 원본 파일 크기, 수정 시각, CRC32C) - 문자열 테이블 - 프로모션 레코드(이름, buy, get, 시작/종료 epoch day) - 상품 레코드(이름, 프로모션, 가격, 수량)
+ * <p>
+ * 수정 시각은 밀리초 단위까지만 기록되므로 같은 크기로 짧은 간격에 다시 쓴 원본도 알아챌 수 있도록 내용의 체크섬을 함께 비교합니다. 헤더가 현재 원본과 맞을 때만 본문을
+ * 매핑하므로, 오래된 스냅샷을 교체할 때 그 파일이 이 프로세스에 매핑되어 있지 않습니다.
+ * <p>
+ * 스냅샷이 없거나 원본과 맞지 않는 것은 정상적인 경우로 보고 빈 결과를 돌려주지만, 읽거나 쓰는 데 실패하거나 내용이 손상된 경우에는 {@link IllegalStateException} 을
+ * 던집니다. 스냅샷은 캐시이므로 호출하는 쪽에서 실패를 알린 뒤 원본 파일을 사용하면 됩니다.
+ */
+public class CatalogSnapshot {
+    private static final int MAGIC = 0x43534E50;
+    private static final int VERSION = 2;
+    private static final int NO_PROMOTION = -1;
+    private static final int HEADER_BYTES = Integer.BYTES * 2 + Long.BYTES * 6;
+    private static final int PROMOTION_RECORD_BYTES = Integer.BYTES * 5;
+    private static final int PRODUCT_RECORD_BYTES = Integer.BYTES * 4;
+    private static final long CHECKSUM_WINDOW_BYTES = 1L << 26;
+    private static final String TEMP_SUFFIX = ".tmp";
+    private static final String ERROR_READ = "카탈로그 스냅샷을 읽을 수 없어 원본 파일을 사용합니다: ";
+    private static final String ERROR_WRITE = "카탈로그 스냅샷을 저장할 수 없습니다: ";
+    private static final String ERROR_NOT_SNAPSHOT = "카탈로그 스냅샷 형식이 아닙니다.";
+
+    private final Path snapshotPath;
+    private final SourceStamp sourceStamp;
+    private boolean fresh;
+
+    private CatalogSnapshot(final Path snapshotPath, final SourceStamp sourceStamp) {
+        this.snapshotPath = snapshotPath;
+        this.sourceStamp = sourceStamp;
+    }
+
+    /**
+     * 원본 파일의 현재 상태를 기록해 둡니다. 텍스트 파싱 도중 원본이 바뀌어도 파싱 이전 상태로 저장되므로 다음 실행에서 오래된 스냅샷으로 판단됩니다.
+     */
+    public static CatalogSnapshot of(final String snapshotPath, final String productsPath, final String promotionsPath) {
+        return new CatalogSnapshot(Path.of(snapshotPath), SourceStamp.of(Path.of(productsPath), Path.of(promotionsPath)));
+    }
+
+    /**
+     * @return 원본 파일과 일치하는 스냅샷의 카탈로그, 스냅샷이 없거나 원본과 맞지 않으면 빈 결과
+     * @throws IllegalStateException 스냅샷을 읽을 수 없거나 내용이 손상된 경우
+     */
+    public Optional<CatalogDto> read() {
+        if (sourceStamp == null || !Files.isRegularFile(snapshotPath)) {
+            return Optional.empty();
+        }
+
+        try (FileChannel channel = FileChannel.open(snapshotPath, StandardOpenOption.READ)) {
+            return readCurrent(channel);
+        } catch (IOException | RuntimeException e) {
+            throw new IllegalStateException(ERROR_READ + snapshotPath, e);
+        }
+    }
+
+    private Optional<CatalogDto> readCurrent(final FileChannel channel) throws IOException {
+        if (!sourceStamp.equals(readHeader(channel))) {
+            return Optional.empty();
+        }
+
+        CatalogDto catalog = decode(channel.map(MapMode.READ_ONLY, HEADER_BYTES, channel.size() - HEADER_BYTES));
+        fresh = true;
+        return Optional.of(catalog);
+    }
+
+    // 형식이 다른 이전 버전의 스냅샷이면 null 을 반환한다
+    private SourceStamp readHeader(final FileChannel channel) throws IOException {
+        ByteBuffer header = readFully(channel, HEADER_BYTES);
+        if (header.remaining() < Integer.BYTES * 2 || header.getInt() != MAGIC) {
+            throw new IllegalStateException(ERROR_NOT_SNAPSHOT);
+        }
+        if (header.getInt() != VERSION) {
+            return null;
+        }
+        return SourceStamp.readFrom(header);
+    }
+
+    // 버퍼를 채우거나 파일 끝에 닿을 때까지 읽는다
+    private static ByteBuffer readFully(final FileChannel channel, final int size) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(size);
+        int read = 0;
+        while (buffer.hasRemaining() && read >= 0) {
+            read = channel.read(buffer, buffer.position());
+        }
+        return buffer.flip();
+    }
+
+    /**
+     * 텍스트에서 읽어 검증까지 마친 카탈로그를 저장합니다. 직전 {@link #read()} 가 최신 스냅샷을 읽었다면 다시 쓰지 않습니다.
+     *
+     * @throws IllegalStateException 스냅샷을 저장할 수 없는 경우
+     */
+    public void saveIfStale(final CatalogDto catalog) {
+        if (fresh || sourceStamp == null) {
+            return;
+        }
+
+        try {
+            writeAtomically(encode(catalog));
+            fresh = true;
+        } catch (IOException e) {
+            throw new IllegalStateException(ERROR_WRITE + snapshotPath, e);
+        }
+    }
+
+    private void writeAtomically(final ByteBuffer encoded) throws IOException {
+        Path tempPath = snapshotPath.resolveSibling(snapshotPath.getFileName() + TEMP_SUFFIX);
+        Files.createDirectories(snapshotPath.toAbsolutePath().getParent());
+
+        try (FileChannel channel = FileChannel.open(tempPath, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            channel.write(encoded);
+        }
+
+        Files.move(tempPath, snapshotPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private ByteBuffer encode(final CatalogDto catalog) {
+        StringTable strings = StringTable.from(catalog);
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_BYTES + strings.byteSize()
+                + Integer.BYTES + catalog.promotions().size() * PROMOTION_RECORD_BYTES
+                + Integer.BYTES + catalog.products().size() * PRODUCT_RECORD_BYTES);
+
+        buffer.putInt(MAGIC).putInt(VERSION);
+        sourceStamp.writeTo(buffer);
+        strings.writeTo(buffer);
+        writePromotions(buffer, catalog.promotions(), strings);
+        writeProducts(buffer, catalog.products(), strings);
+        return buffer.flip();
+    }
+
+    private void writePromotions(
+            final ByteBuffer buffer,
+            final List<PromotionFileDto> promotions,
+            final StringTable strings
+    ) {
+        buffer.putInt(promotions.size());
+        for (PromotionFileDto promotion : promotions) {
+            buffer.putInt(strings.indexOf(promotion.name()))
+                    .putInt(promotion.buy())
+                    .putInt(promotion.get())
+                    .putInt(Math.toIntExact(promotion.startDate().toEpochDay()))
+                    .putInt(Math.toIntExact(promotion.endDate().toEpochDay()));
+        }
+    }
+
+    private void writeProducts(final ByteBuffer buffer, final List<ProductDto> products, final StringTable strings) {
+        buffer.putInt(products.size());
+        for (ProductDto product : products) {
+            buffer.putInt(strings.indexOf(product.name()))
+                    .putInt(strings.indexOf(product.promotion()))
+                    .putInt(product.price())
+                    .putInt(product.quantity());
+        }
+    }
+
+    private CatalogDto decode(final ByteBuffer buffer) {
+        List<String> strings = readStrings(buffer);
+        List<PromotionFileDto> promotions = readPromotions(buffer, strings);
+        List<ProductDto> products = readProducts(buffer, strings);
+        return new CatalogDto(products, promotions);
+    }
+
+    private List<String> readStrings(final ByteBuffer buffer) {
+        int count = buffer.getInt();
+        List<String> strings = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            byte[] bytes = new byte[buffer.getInt()];
+            buffer.get(bytes);
+            strings.add(new String(bytes, StandardCharsets.UTF_8));
+        }
+
+        return strings;
+    }
+
+    private List<PromotionFileDto> readPromotions(final ByteBuffer buffer, final List<String> strings) {
+        int count = buffer.getInt();
+        List<PromotionFileDto> promotions = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            promotions.add(new PromotionFileDto(strings.get(buffer.getInt()), buffer.getInt(), buffer.getInt(),
+                    LocalDate.ofEpochDay(buffer.getInt()), LocalDate.ofEpochDay(buffer.getInt())));
+        }
+
+        return promotions;
+    }
+
+    private List<ProductDto> readProducts(final ByteBuffer buffer, final List<String> strings) {
+        int count = buffer.getInt();
+        List<ProductDto> products = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            products.add(readProduct(buffer, strings));
+        }
+
+        return products;
+    }
+
+    private ProductDto readProduct(final ByteBuffer buffer, final List<String> strings) {
+        String name = strings.get(buffer.getInt());
+        int promotionIndex = buffer.getInt();
+        if (promotionIndex == NO_PROMOTION) {
+            return new ProductDto(name, buffer.getInt(), buffer.getInt(), null);
+        }
+
+        return new ProductDto(name, buffer.getInt(), buffer.getInt(), strings.get(promotionIndex));
+    }
+
+    private record SourceStamp(
+            long productsSize,
+            long productsModified,
+            long productsChecksum,
+            long promotionsSize,
+            long promotionsModified,
+            long promotionsChecksum
+    ) {
+        private static SourceStamp of(final Path productsPath, final Path promotionsPath) {
+            try {
+                return new SourceStamp(
+                        Files.size(productsPath), Files.getLastModifiedTime(productsPath).toMillis(), checksum(productsPath),
+                        Files.size(promotionsPath), Files.getLastModifiedTime(promotionsPath).toMillis(),
+                        checksum(promotionsPath));
+            } catch (IOException e) {
+                return null;
+            }
+        }
+
+        private static long checksum(final Path path) throws IOException {
+            CRC32C crc = new CRC32C();
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+                for (long position = 0; position < channel.size(); position += CHECKSUM_WINDOW_BYTES) {
+                    long length = Math.min(CHECKSUM_WINDOW_BYTES, channel.size() - position);
+                    crc.update(channel.map(MapMode.READ_ONLY, position, length));
+                }
+            }
+
+            return crc.getValue();
+        }
+
+        private static SourceStamp readFrom(final ByteBuffer buffer) {
+            return new SourceStamp(buffer.getLong(), buffer.getLong(), buffer.getLong(),
+                    buffer.getLong(), buffer.getLong(), buffer.getLong());
+        }
+
+        private void writeTo(final ByteBuffer buffer) {
+            buffer.putLong(productsSize).putLong(productsModified).putLong(productsChecksum)
+                    .putLong(promotionsSize).putLong(promotionsModified).putLong(promotionsChecksum);
+        }
+    }
+
+    private static class StringTable {
+        private final Map<String, Integer> indexes = new LinkedHashMap<>();
+        private final List<byte[]> encoded = new ArrayList<>();
+
+        private static StringTable from(final CatalogDto catalog) {
+            StringTable table = new StringTable();
+            catalog.promotions().forEach(promotion -> table.add(promotion.name()));
+            catalog.products().forEach(product -> table.add(product.name()));
+            catalog.products().forEach(product -> table.add(product.promotion()));
+            return table;
+        }
+
+        private void add(final String value) {
+            if (value != null && !indexes.containsKey(value)) {
+                indexes.put(value, encoded.size());
+                encoded.add(value.getBytes(StandardCharsets.UTF_8));
+            }
+        }
+
+        private int indexOf(final String value) {
+            if (value == null) {
+                return NO_PROMOTION;
+            }
+
+            return indexes.get(value);
+        }
+
+        private int byteSize() {
+            return Integer.BYTES + encoded.stream()
+                    .mapToInt(bytes -> Integer.BYTES + bytes.length)
+                    .sum();
+        }
+
+        private void writeTo(final ByteBuffer buffer) {
+            buffer.putInt(encoded.size());
+            encoded.forEach(bytes -> buffer.putInt(bytes.length).put(bytes));
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package store.loader;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.stream.Collectors;
+import store.dto.FileDto;
+
+public class DtoFactory<T extends FileDto> {
+    private static final String FACTORY_METHOD_NAME = "of";
+    private static final String ERROR_DTO_CONVERSION = "DTO 변환 중 오류가 발생했습니다.";
+    private static final MethodType SPREAD_TYPE = MethodType.methodType(Object.class, String[].class);
+
+    private final Class<T> dtoClass;
+    private final Map<Integer, MethodHandle> factoriesByArity;
+
+    private DtoFactory(final Class<T> dtoClass, final Map<Integer, MethodHandle> factoriesByArity) {
+        this.dtoClass = dtoClass;
+        this.factoriesByArity = factoriesByArity;
+    }
+
+    /**
+     * DTO 클래스의 {@code of(String...)} 팩토리 메서드를 한 번만 찾아 인자 수별 MethodHandle 로 바인딩합니다.
+     *
+     * @param dtoClass 변환 대상 DTO 클래스
+     * @param <T>      DTO 타입
+     * @return 라인마다 리플렉션 탐색 없이 DTO 를 생성하는 팩토리
+     */
+    public static <T extends FileDto> DtoFactory<T> of(final Class<T> dtoClass) {
+        Map<Integer, MethodHandle> factories = Arrays.stream(dtoClass.getMethods())
+                .filter(DtoFactory::isStringFactory)
+                .collect(Collectors.toMap(Method::getParameterCount, DtoFactory::bind));
+
+        return new DtoFactory<>(dtoClass, factories);
+    }
+
+    private static boolean isStringFactory(final Method method) {
+        return method.getName().equals(FACTORY_METHOD_NAME)
+                && Modifier.isStatic(method.getModifiers())
+                && Arrays.stream(method.getParameterTypes()).allMatch(type -> type.equals(String.class));
+    }
+
+    private static MethodHandle bind(final Method method) {
+        try {
+            return MethodHandles.lookup()
+                    .unreflect(method)
+                    .asSpreader(String[].class, method.getParameterCount())
+                    .asType(SPREAD_TYPE);
+        } catch (IllegalAccessException e) {
+            throw new IllegalArgumentException(ERROR_DTO_CONVERSION, e);
+        }
+    }
+
+    public T create(final String[] fields) {
+        MethodHandle factory = factoriesByArity.get(fields.length);
+        if (factory == null) {
+            throw new IllegalArgumentException(ERROR_DTO_CONVERSION);
+        }
+
+        return invoke(factory, fields);
+    }
+
+    private T invoke(final MethodHandle factory, final String[] fields) {
+        try {
+            return dtoClass.cast((Object) factory.invokeExact(fields));
+        } catch (Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalArgumentException(ERROR_DTO_CONVERSION, e);
+        }
+    }
+}
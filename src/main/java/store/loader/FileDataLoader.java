@@ -1,47 +1,76 @@
 package store.loader;
 
+import java.io.BufferedReader;
 import java.io.IOException;
-import java.lang.reflect.Method;
+import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import store.dto.FileDto;
 
 public class FileDataLoader<T extends FileDto> {
-    private static final String FACTORY_METHOD_NAME = "of";
     private static final String DELIMITER = ",";
     public static final String ERROR_EMPTY_FIELD = "필드가 비어있습니다.";
     private static final String ERROR_FILE_READ = "파일을 읽을 수 없습니다: ";
-    private static final String ERROR_DTO_CONVERSION = "DTO 변환 중 오류가 발생했습니다.";
     private static final String ERROR_EMPTY_LINE = "빈 라인이 존재합니다.";
     private static final String ERROR_EMPTY_FILE = "파일이 비어있습니다.";
 
-    private final Class<T> dtoClass;
+    private final DtoFactory<T> dtoFactory;
 
     public FileDataLoader(final Class<T> dtoClass) {
-        this.dtoClass = dtoClass;
+        this.dtoFactory = DtoFactory.of(dtoClass);
     }
 
+    /**
+     * 파일을 한 줄씩 읽어 바로 DTO 로 변환하므로, 파일의 줄 목록을 따로 만들지 않고 DTO 목록 하나만 메모리에 둡니다.
+     *
+     * @param filePath 읽을 파일 경로
+     * @return 헤더를 제외한 각 라인을 변환한 DTO 목록
+     */
     public List<T> load(final String filePath) {
-        List<String> lines = readLines(filePath);
-        validateNotEmpty(lines);
-        return parseLines(skipHeader(lines));
+        try (Stream<T> rows = stream(filePath)) {
+            return rows.collect(Collectors.toList());
+        }
+    }
+
+    private Stream<T> stream(final String filePath) {
+        BufferedReader reader = openReader(filePath);
+        if (readHeader(reader, filePath) == null) {
+            close(reader);
+            throw new IllegalArgumentException(ERROR_EMPTY_FILE);
+        }
+
+        return reader.lines()
+                .map(this::parseLine)
+                .onClose(() -> close(reader));
     }
 
-    private List<String> readLines(final String filePath) {
+    private BufferedReader openReader(final String filePath) {
         try {
-            return Files.readAllLines(Path.of(filePath));
+            return Files.newBufferedReader(Path.of(filePath));
         } catch (IOException e) {
             throw new IllegalArgumentException(ERROR_FILE_READ + filePath);
         }
     }
 
-    private List<T> parseLines(final List<String> lines) {
-        return lines.stream()
-                .map(this::parseLine)
-                .collect(Collectors.toList());
+    private String readHeader(final BufferedReader reader, final String filePath) {
+        try {
+            return reader.readLine();
+        } catch (IOException e) {
+            close(reader);
+            throw new IllegalArgumentException(ERROR_FILE_READ + filePath);
+        }
+    }
+
+    private void close(final BufferedReader reader) {
+        try {
+            reader.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
     }
 
     private T parseLine(final String line) {
@@ -49,13 +78,13 @@ public class FileDataLoader<T extends FileDto> {
         String[] fields = line.strip().split(DELIMITER);
 
         // 필드 검증 및 스트립 처리
-        List<String> nonEmptyFields = validateAndStripFields(fields);
+        String[] nonEmptyFields = validateAndStripFields(fields);
 
         // DTO 변환 처리
-        return convertToDto(nonEmptyFields);
+        return dtoFactory.create(nonEmptyFields);
     }
 
-    private List<String> validateAndStripFields(final String[] fields) {
+    private String[] validateAndStripFields(final String[] fields) {
         return Arrays.stream(fields)
                 .map(String::strip)  // 각 필드에서 공백 제거
                 .peek(field -> {
@@ -63,24 +92,7 @@ public class FileDataLoader<T extends FileDto> {
                         throw new IllegalArgumentException(ERROR_EMPTY_FIELD);
                     }
                 })
-                .toList();
-    }
-
-    private T convertToDto(final List<String> nonEmptyFields) {
-        try {
-            Method ofMethod = Arrays.stream(dtoClass.getMethods())
-                    .filter(method -> method.getName().equals(FACTORY_METHOD_NAME))
-                    .filter(method -> method.getParameterCount() == nonEmptyFields.size())
-                    .filter(method -> Arrays.stream(method.getParameterTypes())
-                            .allMatch(type -> type.equals(String.class))).findFirst()
-                    .orElseThrow(() -> new NoSuchMethodException(ERROR_DTO_CONVERSION));
-
-            @SuppressWarnings("unchecked")
-            T dto = (T) ofMethod.invoke(null, (Object[]) nonEmptyFields.toArray(new String[0]));
-            return dto;
-        } catch (ReflectiveOperationException e) {
-            throw new IllegalArgumentException(ERROR_DTO_CONVERSION, e);
-        }
+                .toArray(String[]::new);
     }
 
     private void validateLine(final String line) {
@@ -88,17 +100,4 @@ public class FileDataLoader<T extends FileDto> {
             throw new IllegalArgumentException(ERROR_EMPTY_LINE);
         }
     }
-
-
-    private List<String> skipHeader(final List<String> lines) {
-        return lines.stream()
-                .skip(1)
-                .toList();
-    }
-
-    private void validateNotEmpty(final List<String> lines) {
-        if (lines == null || lines.isEmpty()) {
-            throw new IllegalArgumentException(ERROR_EMPTY_FILE);
-        }
-    }
 }
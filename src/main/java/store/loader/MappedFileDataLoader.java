@@ -0,0 +1,190 @@
+package store.loader;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import store.dto.FileDto;
+import store.dto.ProductDto;
+import store.dto.PromotionFileDto;
+
+/**
+ * 파일을 메모리에 매핑하여 바이트 단위로 파싱하는 로더입니다. {@link FileDataLoader} 와 같은 DTO 를 생성하고, 잘못된 행에 대해서도 같은 예외 메시지를 사용합니다.
+ * 병렬로 읽을 때는 어느 구간에서 실패했는지 알 수 있도록 예외 메시지에 파일 기준 줄 번호를 덧붙입니다.
+ */
+public class MappedFileDataLoader<T extends FileDto> {
+    private static final String ERROR_FILE_READ = "파일을 읽을 수 없습니다: ";
+    private static final String ERROR_DTO_CONVERSION = "DTO 변환 중 오류가 발생했습니다.";
+    private static final String ERROR_EMPTY_FILE = "파일이 비어있습니다.";
+    private static final String ERROR_LINE_FORMAT = "%s (%d번째 줄)";
+    private static final long HEADER_LINES = 1;
+    private static final int CHUNKS_PER_WORKER = 4;
+    private static final long MIN_CHUNK_SIZE = 1 << 20;
+
+    private final RowMapper<T> rowMapper;
+
+    public MappedFileDataLoader(final RowMapper<T> rowMapper) {
+        this.rowMapper = rowMapper;
+    }
+
+    public static MappedFileDataLoader<ProductDto> products() {
+        return new MappedFileDataLoader<>(new ProductRowMapper());
+    }
+
+    public static MappedFileDataLoader<PromotionFileDto> promotions() {
+        return new MappedFileDataLoader<>(new PromotionRowMapper());
+    }
+
+    public List<T> load(final String filePath) {
+        return withChannel(filePath, channel -> {
+            ChunkRange dataRange = new ChunkRange(MappedLineScanner.of(channel).nextLineStart(0), channel.size());
+            return parseChunk(channel, dataRange).rowsOrThrow();
+        });
+    }
+
+    public List<T> loadParallel(final String filePath) {
+        return loadParallel(filePath, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * 헤더 이후의 데이터를 줄 경계에 맞춘 바이트 구간으로 나누어 주어진 풀에서 병렬로 파싱합니다. 결과는 파일의 행 순서를 유지합니다.
+     *
+     * @param filePath 읽을 파일 경로
+     * @param pool     구간별 파싱을 실행할 풀
+     * @return 헤더를 제외한 각 라인을 변환한 DTO 목록
+     */
+    public List<T> loadParallel(final String filePath, final ForkJoinPool pool) {
+        return withChannel(filePath, channel -> {
+            List<ChunkRange> ranges = split(channel, pool.getParallelism() * CHUNKS_PER_WORKER);
+            return merge(parseInParallel(channel, ranges, pool));
+        });
+    }
+
+    private List<T> withChannel(final String filePath, final ChannelReader<List<T>> reader) {
+        try (FileChannel channel = FileChannel.open(Path.of(filePath), StandardOpenOption.READ)) {
+            validateNotEmpty(channel.size());
+            return reader.read(channel);
+        } catch (IOException | UncheckedIOException e) {
+            throw new IllegalArgumentException(ERROR_FILE_READ + filePath);
+        }
+    }
+
+    private void validateNotEmpty(final long size) {
+        if (size == 0) {
+            throw new IllegalArgumentException(ERROR_EMPTY_FILE);
+        }
+    }
+
+    private List<ChunkRange> split(final FileChannel channel, final int chunkCount) throws IOException {
+        MappedLineScanner scanner = MappedLineScanner.of(channel);
+        long from = scanner.nextLineStart(0);
+        long chunkSize = Math.max(MIN_CHUNK_SIZE, (channel.size() - from) / chunkCount);
+
+        List<ChunkRange> ranges = new ArrayList<>();
+        while (from < channel.size()) {
+            long to = scanner.nextLineStart(Math.min(channel.size(), from + chunkSize) - 1);
+            ranges.add(new ChunkRange(from, to));
+            from = to;
+        }
+
+        return ranges;
+    }
+
+    private List<ChunkResult<T>> parseInParallel(
+            final FileChannel channel,
+            final List<ChunkRange> ranges,
+            final ForkJoinPool pool
+    ) {
+        List<ForkJoinTask<ChunkResult<T>>> tasks = ranges.stream()
+                .map(range -> pool.submit(() -> parseChunk(channel, range)))
+                .toList();
+
+        return tasks.stream()
+                .map(ForkJoinTask::join)
+                .toList();
+    }
+
+    private ChunkResult<T> parseChunk(final FileChannel channel, final ChunkRange range) {
+        RowCollector collector = new RowCollector();
+        try {
+            MappedLineScanner.of(channel).scan(range.from(), range.to(), collector);
+            return new ChunkResult<>(collector.rows, collector.lineCount, null);
+        } catch (IllegalArgumentException e) {
+            return new ChunkResult<>(collector.rows, collector.lineCount, e);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private List<T> merge(final List<ChunkResult<T>> results) {
+        List<T> rows = new ArrayList<>();
+        long linesBefore = HEADER_LINES;
+
+        for (ChunkResult<T> result : results) {
+            result.validate(linesBefore);
+            rows.addAll(result.rows());
+            linesBefore += result.lineCount();
+        }
+
+        return rows;
+    }
+
+    private T mapRow(final MappedRow row) {
+        try {
+            return rowMapper.map(row);
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException(ERROR_DTO_CONVERSION, e);
+        }
+    }
+
+    @FunctionalInterface
+    private interface ChannelReader<R> {
+        R read(final FileChannel channel) throws IOException;
+    }
+
+    private record ChunkRange(
+            long from,
+            long to
+    ) {
+    }
+
+    private record ChunkResult<R>(
+            List<R> rows,
+            long lineCount,
+            IllegalArgumentException error
+    ) {
+        private List<R> rowsOrThrow() {
+            if (error != null) {
+                throw error;
+            }
+
+            return rows;
+        }
+
+        private void validate(final long linesBefore) {
+            if (error != null) {
+                String message = String.format(ERROR_LINE_FORMAT, error.getMessage(), linesBefore + lineCount);
+                throw new IllegalArgumentException(message, error);
+            }
+        }
+    }
+
+    private class RowCollector implements MappedLineScanner.LineVisitor {
+        private final List<T> rows = new ArrayList<>();
+        private final MappedRow row = new MappedRow(rowMapper.columnCount());
+        private long lineCount;
+
+        @Override
+        public void visit(final ByteBuffer buffer, final int start, final int end) {
+            lineCount++;
+            row.bind(buffer, start, end);
+            rows.add(mapRow(row));
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package store.loader;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+
+public class MappedLineScanner {
+    private static final long MAX_WINDOW_SIZE = Integer.MAX_VALUE;
+    private static final long SEARCH_WINDOW_SIZE = 1 << 16;
+    private static final byte LINE_FEED = '\n';
+    private static final String ERROR_LINE_TOO_LONG = "한 줄의 길이가 매핑 가능한 크기를 초과합니다.";
+
+    private final FileChannel channel;
+    private final long windowSize;
+
+    private MappedLineScanner(final FileChannel channel, final long windowSize) {
+        this.channel = channel;
+        this.windowSize = windowSize;
+    }
+
+    public static MappedLineScanner of(final FileChannel channel) {
+        return new MappedLineScanner(channel, MAX_WINDOW_SIZE);
+    }
+
+    public static MappedLineScanner of(final FileChannel channel, final long windowSize) {
+        return new MappedLineScanner(channel, windowSize);
+    }
+
+    /**
+     * [from, to) 구간을 매핑하여 줄 단위로 방문합니다. 줄 끝의 개행 문자는 방문 구간에 포함되지 않습니다.
+     *
+     * @param from    시작 오프셋 (줄의 시작이어야 함)
+     * @param to      끝 오프셋 (줄의 끝 또는 파일의 끝이어야 함)
+     * @param visitor 각 줄을 전달받을 방문자
+     */
+    public void scan(final long from, final long to, final LineVisitor visitor) throws IOException {
+        long position = from;
+
+        while (position < to) {
+            long length = Math.min(windowSize, to - position);
+            MappedByteBuffer window = channel.map(MapMode.READ_ONLY, position, length);
+            position += scanWindow(window, position + length == to, visitor);
+        }
+    }
+
+    /**
+     * from 이후 처음 나타나는 개행 문자의 다음 위치, 즉 다음 줄의 시작 오프셋을 반환합니다. 개행 문자가 없으면 파일 크기를 반환합니다.
+     */
+    public long nextLineStart(final long from) throws IOException {
+        long position = from;
+
+        while (position < channel.size()) {
+            MappedByteBuffer window = channel.map(MapMode.READ_ONLY, position, searchLength(position));
+            int index = indexOfLineFeed(window, 0);
+            if (index >= 0) {
+                return position + index + 1;
+            }
+            position += window.limit();
+        }
+
+        return channel.size();
+    }
+
+    private long searchLength(final long position) throws IOException {
+        return Math.min(SEARCH_WINDOW_SIZE, channel.size() - position);
+    }
+
+    private int scanWindow(final ByteBuffer window, final boolean lastWindow, final LineVisitor visitor) {
+        int lineStart = visitCompleteLines(window, visitor);
+
+        if (lastWindow && lineStart < window.limit()) {
+            visitor.visit(window, lineStart, window.limit());
+            return window.limit();
+        }
+
+        validateProgress(lineStart);
+        return lineStart;
+    }
+
+    private int visitCompleteLines(final ByteBuffer window, final LineVisitor visitor) {
+        int lineStart = 0;
+        int lineEnd = indexOfLineFeed(window, lineStart);
+
+        while (lineEnd >= 0) {
+            visitor.visit(window, lineStart, lineEnd);
+            lineStart = lineEnd + 1;
+            lineEnd = indexOfLineFeed(window, lineStart);
+        }
+
+        return lineStart;
+    }
+
+    private void validateProgress(final int consumed) {
+        if (consumed == 0) {
+            throw new IllegalArgumentException(ERROR_LINE_TOO_LONG);
+        }
+    }
+
+    public static int indexOfLineFeed(final ByteBuffer buffer, final int from) {
+        for (int i = from; i < buffer.limit(); i++) {
+            if (buffer.get(i) == LINE_FEED) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    @FunctionalInterface
+    public interface LineVisitor {
+        void visit(final ByteBuffer buffer, final int start, final int end);
+    }
+}
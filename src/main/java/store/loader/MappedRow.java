@@ -0,0 +1,188 @@
+package store.loader;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 매핑된 버퍼 위의 한 줄을 가리키는 재사용 가능한 뷰입니다. 필드는 문자열로 분리하지 않고 오프셋으로만 기록하며, 필요한 필드만 디코딩합니다. 공백 제거는 ASCII 공백 문자를
+ * 기준으로 합니다.
+ */
+public class MappedRow {
+    private static final byte DELIMITER = ',';
+    private static final byte MINUS_SIGN = '-';
+    private static final byte PLUS_SIGN = '+';
+    private static final int MAX_DIGITS_TO_PREVENT_OVERFLOW = 10;
+    private static final int RADIX = 10;
+    private static final String ERROR_EMPTY_LINE = "빈 라인이 존재합니다.";
+    private static final String ERROR_DTO_CONVERSION = "DTO 변환 중 오류가 발생했습니다.";
+    private static final String ERROR_INTEGER_FIELD = "정수 필드가 올바르지 않습니다.";
+
+    private final int[] starts;
+    private final int[] ends;
+    private ByteBuffer buffer;
+    private int fieldCount;
+    private byte[] scratch = new byte[64];
+
+    public MappedRow(final int columnCount) {
+        this.starts = new int[columnCount];
+        this.ends = new int[columnCount];
+    }
+
+    public void bind(final ByteBuffer buffer, final int start, final int end) {
+        this.buffer = buffer;
+        this.fieldCount = 0;
+        int lineStart = skipLeadingWhitespace(start, end);
+        int lineEnd = skipTrailingWhitespace(lineStart, end);
+
+        if (lineStart == lineEnd) {
+            throw new IllegalArgumentException(ERROR_EMPTY_LINE);
+        }
+
+        splitFields(lineStart, skipTrailingDelimiters(lineStart, lineEnd));
+        validateColumnCount();
+    }
+
+    // 구분자만 있는 줄은 String.split 처럼 필드가 하나도 없는 줄로 본다
+    private void splitFields(final int lineStart, final int lineEnd) {
+        if (lineStart == lineEnd) {
+            return;
+        }
+
+        int fieldStart = lineStart;
+
+        for (int i = lineStart; i < lineEnd; i++) {
+            if (buffer.get(i) == DELIMITER) {
+                addField(fieldStart, i);
+                fieldStart = i + 1;
+            }
+        }
+
+        addField(fieldStart, lineEnd);
+    }
+
+    private void addField(final int start, final int end) {
+        int fieldStart = skipLeadingWhitespace(start, end);
+        int fieldEnd = skipTrailingWhitespace(fieldStart, end);
+
+        if (fieldStart == fieldEnd) {
+            throw new IllegalArgumentException(FileDataLoader.ERROR_EMPTY_FIELD);
+        }
+
+        recordField(fieldStart, fieldEnd);
+    }
+
+    private void recordField(final int start, final int end) {
+        if (fieldCount < starts.length) {
+            starts[fieldCount] = start;
+            ends[fieldCount] = end;
+        }
+
+        fieldCount++;
+    }
+
+    private void validateColumnCount() {
+        if (fieldCount != starts.length) {
+            throw new IllegalArgumentException(ERROR_DTO_CONVERSION);
+        }
+    }
+
+    // String.split 과 동일하게 줄 끝의 연속된 빈 필드는 무시한다
+    private int skipTrailingDelimiters(final int start, final int end) {
+        int position = end;
+        while (position > start && buffer.get(position - 1) == DELIMITER) {
+            position--;
+        }
+
+        return position;
+    }
+
+    private int skipLeadingWhitespace(final int start, final int end) {
+        int position = start;
+        while (position < end && isWhitespace(buffer.get(position))) {
+            position++;
+        }
+
+        return position;
+    }
+
+    private int skipTrailingWhitespace(final int start, final int end) {
+        int position = end;
+        while (position > start && isWhitespace(buffer.get(position - 1))) {
+            position--;
+        }
+
+        return position;
+    }
+
+    private boolean isWhitespace(final byte value) {
+        return value == ' ' || value == '\t' || value == '\r' || value == '\f' || value == 0x0B;
+    }
+
+    public String text(final int column) {
+        int length = ends[column] - starts[column];
+        if (scratch.length < length) {
+            scratch = new byte[length];
+        }
+
+        buffer.get(starts[column], scratch, 0, length);
+        return new String(scratch, 0, length, StandardCharsets.UTF_8);
+    }
+
+    public boolean textEquals(final int column, final byte[] expected) {
+        if (ends[column] - starts[column] != expected.length) {
+            return false;
+        }
+
+        for (int i = 0; i < expected.length; i++) {
+            if (buffer.get(starts[column] + i) != expected[i]) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    public int integer(final int column) {
+        int start = starts[column];
+        int end = ends[column];
+        validateIntegerLength(start, end);
+
+        if (buffer.get(start) == MINUS_SIGN) {
+            return -parseDigits(start + 1, end);
+        }
+
+        if (buffer.get(start) == PLUS_SIGN) {
+            return parseDigits(start + 1, end);
+        }
+
+        return parseDigits(start, end);
+    }
+
+    private void validateIntegerLength(final int start, final int end) {
+        if (end - start >= MAX_DIGITS_TO_PREVENT_OVERFLOW) {
+            throw new IllegalArgumentException(ERROR_INTEGER_FIELD);
+        }
+    }
+
+    private int parseDigits(final int from, final int to) {
+        if (from == to) {
+            throw new IllegalArgumentException(ERROR_INTEGER_FIELD);
+        }
+
+        int value = 0;
+        for (int i = from; i < to; i++) {
+            value = value * RADIX + digitAt(i);
+        }
+
+        return value;
+    }
+
+    private int digitAt(final int index) {
+        int digit = buffer.get(index) - '0';
+        if (digit < 0 || digit >= RADIX) {
+            throw new IllegalArgumentException(ERROR_INTEGER_FIELD);
+        }
+
+        return digit;
+    }
+}
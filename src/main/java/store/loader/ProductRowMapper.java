@@ -0,0 +1,35 @@
+package store.loader;
+
+import java.nio.charset.StandardCharsets;
+import store.dto.ProductDto;
+
+public class ProductRowMapper implements RowMapper<ProductDto> {
+    private static final int NAME = 0;
+    private static final int PRICE = 1;
+    private static final int QUANTITY = 2;
+    private static final int PROMOTION = 3;
+    private static final byte[] NULL_PROMOTION = "null".getBytes(StandardCharsets.UTF_8);
+
+    @Override
+    public int columnCount() {
+        return PROMOTION + 1;
+    }
+
+    @Override
+    public ProductDto map(final MappedRow row) {
+        return new ProductDto(
+                row.text(NAME),
+                row.integer(PRICE),
+                row.integer(QUANTITY),
+                mapPromotion(row)
+        );
+    }
+
+    private String mapPromotion(final MappedRow row) {
+        if (row.textEquals(PROMOTION, NULL_PROMOTION)) {
+            return null;
+        }
+
+        return row.text(PROMOTION);
+    }
+}
@@ -0,0 +1,28 @@
+package store.loader;
+
+import java.time.LocalDate;
+import store.dto.PromotionFileDto;
+
+public class PromotionRowMapper implements RowMapper<PromotionFileDto> {
+    private static final int NAME = 0;
+    private static final int BUY = 1;
+    private static final int GET = 2;
+    private static final int START_DATE = 3;
+    private static final int END_DATE = 4;
+
+    @Override
+    public int columnCount() {
+        return END_DATE + 1;
+    }
+
+    @Override
+    public PromotionFileDto map(final MappedRow row) {
+        return new PromotionFileDto(
+                row.text(NAME),
+                row.integer(BUY),
+                row.integer(GET),
+                LocalDate.parse(row.text(START_DATE)),
+                LocalDate.parse(row.text(END_DATE))
+        );
+    }
+}
@@ -0,0 +1,9 @@
+package store.loader;
+
+import store.dto.FileDto;
+
+public interface RowMapper<T extends FileDto> {
+    int columnCount();
+
+    T map(final MappedRow row);
+}
@@ -0,0 +1,31 @@
+package store.metrics;
+
+import java.util.function.BooleanSupplier;
+
+/**
+ * 스레드별로 고객 확인을 기다린 시간을 누적합니다. 콘솔에서 응답을 기다리는 것처럼 실제로 멈춰 있는 확인만 측정합니다. 처리기는 실행 전후의 누적 시간 차이로 자신이 확인을 기다린 시간을 구합니다.
+ */
+public class ConfirmationTimer {
+    private static final ThreadLocal<long[]> WAITED_NANOS = ThreadLocal.withInitial(() -> new long[1]);
+
+    private ConfirmationTimer() {
+    }
+
+    public static boolean measure(final BooleanSupplier confirmation) {
+        long[] waited = WAITED_NANOS.get();
+        long startNanos = System.nanoTime();
+
+        try {
+            return confirmation.getAsBoolean();
+        } finally {
+            waited[0] += System.nanoTime() - startNanos;
+        }
+    }
+
+    /**
+     * @return 현재 스레드가 지금까지 고객 확인을 기다린 시간의 합
+     */
+    public static long waitedNanos() {
+        return WAITED_NANOS.get()[0];
+    }
+}
@@ -0,0 +1,94 @@
+package store.metrics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 주문 처리기 하나의 호출 수, 오류 수와 지연 시간 분포입니다. 처리기 실행 시간 중 고객 확인을 기다린 시간은 처리 시간과 따로 기록합니다.
+ */
+public class HandlerMetrics implements HandlerMetricsMXBean {
+    private static final double MEDIAN = 50;
+    private static final double TAIL = 99;
+
+    private final String handlerName;
+    private final LongAdder errors = new LongAdder();
+    private final LatencyHistogram processing = new LatencyHistogram();
+    private final LatencyHistogram confirmationWait = new LatencyHistogram();
+
+    HandlerMetrics(final String handlerName) {
+        this.handlerName = handlerName;
+    }
+
+    /**
+     * @param elapsedNanos 처리기를 실행하는 데 걸린 전체 시간
+     * @param waitedNanos  그중 고객 확인을 기다린 시간
+     */
+    public void record(final long elapsedNanos, final long waitedNanos) {
+        processing.record(elapsedNanos - waitedNanos);
+        if (waitedNanos > 0) {
+            confirmationWait.record(waitedNanos);
+        }
+    }
+
+    public void recordError() {
+        errors.increment();
+    }
+
+    public String getHandlerName() {
+        return handlerName;
+    }
+
+    @Override
+    public long getInvocations() {
+        return processing.count();
+    }
+
+    @Override
+    public long getErrors() {
+        return errors.sum();
+    }
+
+    @Override
+    public long getMeanProcessingMicros() {
+        return toMicros(processing.meanNanos());
+    }
+
+    @Override
+    public long getProcessingP50Micros() {
+        return toMicros(processing.valueAtPercentile(MEDIAN));
+    }
+
+    @Override
+    public long getProcessingP99Micros() {
+        return toMicros(processing.valueAtPercentile(TAIL));
+    }
+
+    @Override
+    public long getMaxProcessingMicros() {
+        return toMicros(processing.maxNanos());
+    }
+
+    @Override
+    public long getConfirmationWaits() {
+        return confirmationWait.count();
+    }
+
+    @Override
+    public long getConfirmationWaitP50Micros() {
+        return toMicros(confirmationWait.valueAtPercentile(MEDIAN));
+    }
+
+    @Override
+    public long getConfirmationWaitP99Micros() {
+        return toMicros(confirmationWait.valueAtPercentile(TAIL));
+    }
+
+    @Override
+    public long getTotalConfirmationWaitMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(confirmationWait.totalNanos());
+    }
+
+    private static long toMicros(final long nanos) {
+        return TimeUnit.NANOSECONDS.toMicros(nanos);
+    }
+}
@@ -0,0 +1,26 @@
+package store.metrics;
+
+/**
+ * JMX 로 공개하는 주문 처리기별 지표입니다. 지연 시간은 마이크로초 단위이며, 처리 시간에는 고객 확인을 기다린 시간이 포함되지 않습니다.
+ */
+public interface HandlerMetricsMXBean {
+    long getInvocations();
+
+    long getErrors();
+
+    long getMeanProcessingMicros();
+
+    long getProcessingP50Micros();
+
+    long getProcessingP99Micros();
+
+    long getMaxProcessingMicros();
+
+    long getConfirmationWaits();
+
+    long getConfirmationWaitP50Micros();
+
+    long getConfirmationWaitP99Micros();
+
+    long getTotalConfirmationWaitMillis();
+}
@@ -0,0 +1,102 @@
+package store.metrics;
+
+import java.lang.management.ManagementFactory;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * 주문 처리기 종류별 지표를 모아 둡니다. 같은 종류의 처리기는 여러 개 만들어도 하나의 지표를 함께 사용합니다.
+ */
+public class HandlerMetricsRegistry {
+    public static final String JMX_PROPERTY = "store.metrics.jmx";
+    private static final HandlerMetricsRegistry GLOBAL = new HandlerMetricsRegistry();
+    private static final String OBJECT_NAME_FORMAT = "store:type=OrderHandler,name=%s";
+    private static final String ERROR_JMX_REGISTRATION = "주문 처리기 지표를 JMX 에 등록할 수 없습니다: ";
+    private static final String DUMP_HEADER_FORMAT = "%-36s %10s %6s %10s %10s %10s %8s %12s%n";
+    private static final Object[] DUMP_COLUMNS = {
+            "handler", "calls", "errors", "mean(us)", "p99(us)", "max(us)", "waits", "wait-p99(us)"
+    };
+    private static final String DUMP_ROW_FORMAT = "%-36s %10d %6d %10d %10d %10d %8d %12d%n";
+
+    private final Map<String, HandlerMetrics> metrics = new ConcurrentHashMap<>();
+    private volatile MBeanServer mBeanServer;
+
+    HandlerMetricsRegistry() {
+    }
+
+    public static HandlerMetricsRegistry global() {
+        return GLOBAL;
+    }
+
+    public HandlerMetrics metricsFor(final Class<?> handlerType) {
+        return metrics.computeIfAbsent(nameOf(handlerType), this::create);
+    }
+
+    private static String nameOf(final Class<?> handlerType) {
+        if (handlerType.getSimpleName().isEmpty()) {
+            return handlerType.getName();
+        }
+
+        return handlerType.getSimpleName();
+    }
+
+    private HandlerMetrics create(final String handlerName) {
+        HandlerMetrics handlerMetrics = new HandlerMetrics(handlerName);
+        if (mBeanServer != null) {
+            register(mBeanServer, handlerMetrics);
+        }
+        return handlerMetrics;
+    }
+
+    /**
+     * {@value #JMX_PROPERTY} 시스템 속성이 true 일 때만 지표를 JMX 에 등록합니다. MBean 서버를 시작하는 데 수백 밀리초가 걸리므로 기본으로는 등록하지 않습니다.
+     */
+    public void exposeToJmxIfEnabled() {
+        if (Boolean.getBoolean(JMX_PROPERTY)) {
+            exposeToJmx();
+        }
+    }
+
+    /**
+     * 지금까지 만들어진 지표와 이후에 만들어지는 지표를 플랫폼 MBean 서버에 등록합니다.
+     */
+    public synchronized void exposeToJmx() {
+        if (mBeanServer == null) {
+            mBeanServer = ManagementFactory.getPlatformMBeanServer();
+            metrics.values().forEach(handlerMetrics -> register(mBeanServer, handlerMetrics));
+        }
+    }
+
+    private static void register(final MBeanServer server, final HandlerMetrics handlerMetrics) {
+        try {
+            ObjectName name = new ObjectName(String.format(OBJECT_NAME_FORMAT, handlerMetrics.getHandlerName()));
+            if (!server.isRegistered(name)) {
+                server.registerMBean(handlerMetrics, name);
+            }
+        } catch (JMException e) {
+            throw new IllegalStateException(ERROR_JMX_REGISTRATION + e.getMessage());
+        }
+    }
+
+    /**
+     * @return 처리기 이름순으로 정렬한 지표 표
+     */
+    public String dump() {
+        StringBuilder table = new StringBuilder(String.format(DUMP_HEADER_FORMAT, DUMP_COLUMNS));
+        metrics.values().stream()
+                .sorted(Comparator.comparing(HandlerMetrics::getHandlerName))
+                .forEach(handlerMetrics -> table.append(row(handlerMetrics)));
+        return table.toString();
+    }
+
+    private static String row(final HandlerMetrics metrics) {
+        return String.format(DUMP_ROW_FORMAT, metrics.getHandlerName(), metrics.getInvocations(),
+                metrics.getErrors(), metrics.getMeanProcessingMicros(), metrics.getProcessingP99Micros(),
+                metrics.getMaxProcessingMicros(), metrics.getConfirmationWaits(),
+                metrics.getConfirmationWaitP99Micros());
+    }
+}
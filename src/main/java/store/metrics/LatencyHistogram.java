@@ -0,0 +1,86 @@
+package store.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 나노초 단위 지연 시간의 분포를 기록하는 히스토그램입니다. HDR 히스토그램처럼 2의 거듭제곱 구간을 같은 개수의 하위 구간으로 나누므로, 값의 크기와 관계없이 상대 오차가
+ * 1/32 이내입니다. 기록은 구간 카운터를 원자적으로 증가시키기만 하므로 여러 스레드가 잠금 없이 동시에 기록할 수 있습니다.
+ */
+public class LatencyHistogram {
+    private static final int SUB_BUCKET_BITS = 5;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKET_COUNT = (Long.SIZE - SUB_BUCKET_BITS) * SUB_BUCKET_COUNT;
+    private static final double PERCENT = 100.0;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+    private final LongAdder totalNanos = new LongAdder();
+    private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+
+    public void record(final long nanos) {
+        long value = Math.max(0, nanos);
+        counts.incrementAndGet(indexOf(value));
+        totalNanos.add(value);
+        maxNanos.accumulate(value);
+    }
+
+    // 하위 구간 수보다 작은 값은 값 그대로, 그 이상은 최상위 비트 위치와 그 아래 5비트로 구간을 정한다
+    static int indexOf(final long value) {
+        if (value < SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+
+        int shift = Long.SIZE - 1 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+        return (shift + 1) * SUB_BUCKET_COUNT + (int) (value >>> shift) - SUB_BUCKET_COUNT;
+    }
+
+    // 구간에 속하는 가장 큰 값을 돌려주므로, 백분위 값은 실제 값보다 작게 보고되지 않는다
+    static long highestValueAt(final int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+
+        int shift = index / SUB_BUCKET_COUNT - 1;
+        long lowest = (long) (SUB_BUCKET_COUNT + index % SUB_BUCKET_COUNT) << shift;
+        return lowest + (1L << shift) - 1;
+    }
+
+    /**
+     * @param percentile 0 보다 크고 100 이하인 백분위
+     * @return 기록된 값 중 주어진 백분위에 해당하는 값. 기록이 없다면 0
+     */
+    public long valueAtPercentile(final double percentile) {
+        long target = (long) Math.ceil(count() * percentile / PERCENT);
+        long seen = 0;
+
+        for (int index = 0; index < BUCKET_COUNT && target > 0; index++) {
+            seen += counts.get(index);
+            if (seen >= target) {
+                return Math.min(highestValueAt(index), maxNanos.get());
+            }
+        }
+        return 0;
+    }
+
+    // 기록할 때 갱신하는 값을 줄이기 위해 전체 개수는 읽을 때 구간 카운터를 더하여 구한다
+    public long count() {
+        long count = 0;
+        for (int index = 0; index < BUCKET_COUNT; index++) {
+            count += counts.get(index);
+        }
+        return count;
+    }
+
+    public long totalNanos() {
+        return totalNanos.sum();
+    }
+
+    public long maxNanos() {
+        return maxNanos.get();
+    }
+
+    public long meanNanos() {
+        return totalNanos.sum() / Math.max(1, count());
+    }
+}
@@ -0,0 +1,66 @@
+package store.metrics;
+
+import java.io.PrintStream;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 일정한 간격으로 주문 처리기 지표 표를 출력합니다. 간격은 {@value #INTERVAL_PROPERTY} 시스템 속성에 초 단위로 지정하며, 지정하지 않으면 출력하지 않습니다. 콘솔 입출력과
+ * 섞이지 않도록 표준 오류로 출력합니다. 닫을 때 마지막 간격의 지표가 빠지지 않도록 한 번 더 출력합니다.
+ */
+public class MetricsReporter implements AutoCloseable {
+    public static final String INTERVAL_PROPERTY = "store.metrics.dumpIntervalSeconds";
+    private static final String WORKER_NAME = "metrics-reporter";
+    private static final long TERMINATION_TIMEOUT_SECONDS = 1;
+
+    private final ScheduledExecutorService scheduler;
+    private final Runnable report;
+
+    private MetricsReporter(final ScheduledExecutorService scheduler, final Runnable report) {
+        this.scheduler = scheduler;
+        this.report = report;
+    }
+
+    public static MetricsReporter fromSystemProperties(final HandlerMetricsRegistry registry) {
+        long intervalSeconds = Long.getLong(INTERVAL_PROPERTY, 0);
+        if (intervalSeconds <= 0) {
+            return new MetricsReporter(null, null);
+        }
+
+        return start(registry, System.err, intervalSeconds);
+    }
+
+    public static MetricsReporter start(
+            final HandlerMetricsRegistry registry,
+            final PrintStream out,
+            final long intervalSeconds
+    ) {
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().daemon().name(WORKER_NAME).factory()
+        );
+        Runnable report = () -> out.print(registry.dump());
+        scheduler.scheduleAtFixedRate(report, intervalSeconds, intervalSeconds, TimeUnit.SECONDS);
+        return new MetricsReporter(scheduler, report);
+    }
+
+    @Override
+    public void close() {
+        if (scheduler == null) {
+            return;
+        }
+
+        scheduler.shutdown();
+        awaitRunningReport();
+        report.run();
+    }
+
+    // 진행 중인 주기 출력과 마지막 출력이 섞이지 않도록 주기 출력이 끝나기를 기다린다
+    private void awaitRunningReport() {
+        try {
+            scheduler.awaitTermination(TERMINATION_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package store.metrics.event;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * 고객에게 질문하고 응답을 받기까지의 단계입니다. 멤버십 할인 질문에는 상품과 수량이 없습니다.
+ */
+@Name("store.Confirmation")
+@Label("Confirmation")
+@Category({"Store", "Order"})
+@StackTrace(false)
+public class ConfirmationEvent extends Event {
+    public static final String PROMOTIONAL_ITEM = "promotionalItem";
+    public static final String NORMAL_PRICE = "normalPrice";
+    public static final String MEMBERSHIP = "membership";
+
+    @Label("Question")
+    String question;
+
+    @Label("Product")
+    String product;
+
+    @Label("Quantity")
+    int quantity;
+
+    @Label("Accepted")
+    boolean accepted;
+
+    private ConfirmationEvent() {
+    }
+
+    public static ConfirmationEvent start() {
+        ConfirmationEvent event = new ConfirmationEvent();
+        event.begin();
+        return event;
+    }
+
+    public void finish(final String question, final String product, final int quantity, final boolean accepted) {
+        if (shouldCommit()) {
+            this.question = question;
+            this.product = product;
+            this.quantity = quantity;
+            this.accepted = accepted;
+            commit();
+        }
+    }
+}
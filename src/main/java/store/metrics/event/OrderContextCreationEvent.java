@@ -0,0 +1,33 @@
+package store.metrics.event;
+
+import java.time.LocalDate;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import store.model.order.OrderLines;
+
+/**
+ * 주문 항목을 상품별로 모아 주문을 만드는 단계입니다.
+ */
+@Name("store.OrderContextCreation")
+@Label("Order Context Creation")
+public class OrderContextCreationEvent extends OrderEvent {
+    @Label("Requested Items")
+    int requestedItemCount;
+
+    private OrderContextCreationEvent() {
+    }
+
+    public static OrderContextCreationEvent start() {
+        OrderContextCreationEvent event = new OrderContextCreationEvent();
+        event.begin();
+        return event;
+    }
+
+    public void finish(final int requestedItemCount, final OrderLines orderLines, final LocalDate orderDate) {
+        if (shouldCommit()) {
+            this.requestedItemCount = requestedItemCount;
+            describe(orderLines, orderDate);
+            commit();
+        }
+    }
+}
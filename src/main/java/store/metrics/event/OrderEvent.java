@@ -0,0 +1,52 @@
+package store.metrics.event;
+
+import java.time.LocalDate;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.StackTrace;
+import store.model.domain.Product;
+import store.model.order.OrderLines;
+
+/**
+ * 주문 항목을 다루는 단계의 JFR 이벤트가 공통으로 남기는 주문 요약입니다. 요약은 이벤트를 기록할 때만 계산하므로, 기록 중이 아니라면 비용이 들지 않습니다.
+ */
+@Category({"Store", "Order"})
+@StackTrace(false)
+abstract class OrderEvent extends Event {
+    private static final int SHARED_PROMOTION_BIT = Long.SIZE - 1;
+
+    @Label("Products")
+    int productCount;
+
+    @Label("Quantity")
+    @Description("주문 항목 수량의 합")
+    int totalQuantity;
+
+    @Label("Promotion Ids")
+    @Description("주문일에 적용되는 프로모션 번호의 비트 집합. 63 번 비트는 번호가 63 이상이거나 없는 프로모션")
+    long promotionIds;
+
+    void describe(final OrderLines orderLines, final LocalDate orderDate) {
+        productCount = orderLines.size();
+        for (int line = 0; line < orderLines.size(); line++) {
+            add(orderLines.product(line), orderLines.quantity(line), orderDate);
+        }
+    }
+
+    private void add(final Product product, final int quantity, final LocalDate orderDate) {
+        totalQuantity += quantity;
+        if (product.isPromotional(orderDate)) {
+            promotionIds |= promotionBit(product.getPromotion().getId());
+        }
+    }
+
+    // 번호가 63 이상인 프로모션은 마지막 비트 하나로 모아 이벤트마다 long 하나만 남긴다
+    private static long promotionBit(final int promotionId) {
+        if (promotionId < 0 || promotionId >= SHARED_PROMOTION_BIT) {
+            return 1L << SHARED_PROMOTION_BIT;
+        }
+        return 1L << promotionId;
+    }
+}
@@ -0,0 +1,41 @@
+package store.metrics.event;
+
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+import store.model.order.OrderContext;
+
+/**
+ * 주문 처리기 하나를 실행한 단계입니다. 주문 요약은 처리기를 실행한 뒤의 주문 항목으로 남깁니다.
+ */
+@Name("store.OrderHandler")
+@Label("Order Handler")
+public class OrderHandlerEvent extends OrderEvent {
+    @Label("Handler")
+    String handler;
+
+    @Label("Confirmation Wait")
+    @Timespan(Timespan.NANOSECONDS)
+    long confirmationWait;
+
+    private OrderHandlerEvent() {
+    }
+
+    public static OrderHandlerEvent start() {
+        OrderHandlerEvent event = new OrderHandlerEvent();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * @param confirmationWaitNanos 처리기 실행 중 고객 확인을 기다린 시간
+     */
+    public void finish(final String handler, final OrderContext context, final long confirmationWaitNanos) {
+        if (shouldCommit()) {
+            this.handler = handler;
+            this.confirmationWait = confirmationWaitNanos;
+            describe(context.getOrderLines(), context.getOrderDate());
+            commit();
+        }
+    }
+}
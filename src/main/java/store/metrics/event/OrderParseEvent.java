@@ -0,0 +1,45 @@
+package store.metrics.event;
+
+import java.util.List;
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import store.dto.OrderItemDto;
+
+/**
+ * 주문 입력 한 줄을 주문 항목으로 분석하는 단계입니다. 형식이 잘못된 입력은 기록하지 않습니다.
+ */
+@Name("store.OrderParse")
+@Label("Order Parse")
+@Category({"Store", "Order"})
+@StackTrace(false)
+public class OrderParseEvent extends Event {
+    @Label("Input Length")
+    int inputLength;
+
+    @Label("Items")
+    int itemCount;
+
+    @Label("Quantity")
+    int totalQuantity;
+
+    private OrderParseEvent() {
+    }
+
+    public static OrderParseEvent start() {
+        OrderParseEvent event = new OrderParseEvent();
+        event.begin();
+        return event;
+    }
+
+    public void finish(final String input, final List<OrderItemDto> items) {
+        if (shouldCommit()) {
+            inputLength = input.length();
+            itemCount = items.size();
+            totalQuantity = items.stream().mapToInt(OrderItemDto::quantity).sum();
+            commit();
+        }
+    }
+}
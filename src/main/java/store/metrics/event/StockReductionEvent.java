@@ -0,0 +1,63 @@
+package store.metrics.event;
+
+import java.time.LocalDate;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import store.model.order.OrderLines;
+
+/**
+ * 주문의 재고를 차감하는 단계입니다. 재고 잠금을 기다린 시간도 이벤트의 지속 시간에 포함됩니다. 재고가 부족하여 차감하지 못한 경우에도 기록하며, 이때 차감 수량은 모두 0 입니다.
+ */
+@Name("store.StockReduction")
+@Label("Stock Reduction")
+public class StockReductionEvent extends OrderEvent {
+    @Label("Normal Quantity")
+    int normalQuantity;
+
+    @Label("Promotional Quantity")
+    int promotionalQuantity;
+
+    @Label("Free Quantity")
+    int freeQuantity;
+
+    @Label("Succeeded")
+    @Description("재고를 차감했는지 여부")
+    boolean succeeded;
+
+    private StockReductionEvent() {
+    }
+
+    public static StockReductionEvent start() {
+        StockReductionEvent event = new StockReductionEvent();
+        event.begin();
+        return event;
+    }
+
+    public void succeed() {
+        succeeded = true;
+    }
+
+    /**
+     * 차감에 성공했든 실패했든 반드시 호출해야 합니다. {@link #succeed()} 를 호출하지 않았다면 실패로 기록합니다.
+     */
+    public void finish(final OrderLines orderLines, final LocalDate orderDate) {
+        if (!shouldCommit()) {
+            return;
+        }
+
+        describe(orderLines, orderDate);
+        if (succeeded) {
+            sumReductions(orderLines);
+        }
+        commit();
+    }
+
+    private void sumReductions(final OrderLines orderLines) {
+        for (int line = 0; line < orderLines.size(); line++) {
+            normalQuantity += orderLines.normalQuantity(line);
+            promotionalQuantity += orderLines.promotionalQuantity(line);
+            freeQuantity += orderLines.freeQuantity(line);
+        }
+    }
+}
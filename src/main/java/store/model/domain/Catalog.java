@@ -0,0 +1,42 @@
+package store.model.domain;
+
+import java.util.List;
+import java.util.stream.IntStream;
+import store.dto.CatalogDto;
+import store.dto.ProductDto;
+import store.dto.PromotionFileDto;
+
+public record Catalog(
+        InventoryView inventory,
+        Products products
+) {
+    public static Catalog from(final CatalogDto catalogDto) {
+        return of(catalogDto.products(), Products.from(catalogDto.products(), createPromotions(catalogDto)));
+    }
+
+    /**
+     * 새로 읽어 들인 카탈로그로 교체한 새 스냅샷을 만듭니다. 기존 재고는 현재 스냅샷과 공유하므로 바뀐 가격은 두 스냅샷에 함께 보이고, 재고 수량은 이어받되 파일의 수량이
+     * 늘거나 준 만큼 더합니다.
+     */
+    public Catalog reload(final CatalogDto catalogDto) {
+        Products reloaded = Products.from(catalogDto.products(), createPromotions(catalogDto), products);
+        return of(catalogDto.products(), reloaded);
+    }
+
+    private static Catalog of(final List<ProductDto> productRows, final Products products) {
+        return new Catalog(InventoryView.of(productRows, products), products);
+    }
+
+    public List<ProductDto> currentProductRows() {
+        return inventory.rows();
+    }
+
+    // 파일의 프로모션 순서를 번호로 하는 달력을 만들어, 각 프로모션이 자기 번호로 진행 여부를 확인하게 한다
+    private static Promotions createPromotions(final CatalogDto catalogDto) {
+        List<PromotionFileDto> rows = catalogDto.promotions();
+        PromotionCalendar calendar = PromotionCalendar.of(rows);
+        return Promotions.from(IntStream.range(0, rows.size())
+                .mapToObj(id -> Promotion.from(rows.get(id), calendar, id))
+                .toList());
+    }
+}
@@ -0,0 +1,138 @@
+package store.model.domain;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Arrays;
+
+/**
+ * 재고의 가격과 수량을 슬롯 번호로 구분하여 배열에 모아 저장합니다. 배열은 고정 크기의 페이지 단위로만 늘어나므로, 한 번 할당된 슬롯은 다른 스레드가 슬롯을 새로 할당하는 동안에도
+ * 같은 위치에 남아 있습니다.
+ * <p>
+ * 수량과 임시 확보(hold) 수량은 하나의 long 에 함께 저장하여 두 값을 한 번의 CAS 로 갱신합니다. 하위 32비트가 수량, 상위 32비트가 확보 수량입니다.
+ * <p>
+ * 카탈로그를 다시 읽어도 재고는 슬롯을 옮기지 않고 가격만 제자리에서 바뀌므로, 이전 상품 목록과 새 상품 목록이 항상 같은 수량을 차감합니다.
+ */
+public class InventoryStore {
+    private static final int DEFAULT_PAGE_BITS = 10;
+    private static final VarHandle LEVEL = MethodHandles.arrayElementVarHandle(long[].class);
+    private static final VarHandle PRICE = MethodHandles.arrayElementVarHandle(int[].class);
+    private static final int HELD_SHIFT = 32;
+    private static final long QUANTITY_MASK = 0xFFFFFFFFL;
+
+    private final int pageBits;
+    private volatile Page[] pages = new Page[0];
+    private int size;
+
+    private InventoryStore(final int pageBits) {
+        this.pageBits = pageBits;
+    }
+
+    public static InventoryStore create() {
+        return new InventoryStore(DEFAULT_PAGE_BITS);
+    }
+
+    public synchronized int allocate(final int price, final int quantity) {
+        int slot = size;
+        if (page(slot) == pages.length) {
+            addPage();
+        }
+
+        size++;
+        pages[page(slot)].prices[offset(slot)] = price;
+        pages[page(slot)].levels[offset(slot)] = levelOf(quantity, 0);
+        pages[page(slot)].loadedQuantities[offset(slot)] = quantity;
+        return slot;
+    }
+
+    private void addPage() {
+        Page[] grown = Arrays.copyOf(pages, pages.length + 1);
+        grown[pages.length] = new Page(1 << pageBits);
+        pages = grown;
+    }
+
+    public int price(final int slot) {
+        return (int) PRICE.getVolatile(pages[page(slot)].prices, offset(slot));
+    }
+
+    void updatePrice(final int slot, final int price) {
+        PRICE.setVolatile(pages[page(slot)].prices, offset(slot), price);
+    }
+
+    /**
+     * 슬롯에 마지막으로 읽어 들인 카탈로그 파일의 수량을 새 값으로 바꿉니다.
+     *
+     * @return 새로 읽은 수량에서 직전에 읽은 수량을 뺀 값
+     */
+    synchronized int exchangeLoadedQuantity(final int slot, final int loadedQuantity) {
+        int previous = pages[page(slot)].loadedQuantities[offset(slot)];
+        pages[page(slot)].loadedQuantities[offset(slot)] = loadedQuantity;
+        return loadedQuantity - previous;
+    }
+
+    public int quantity(final int slot) {
+        return quantityOf(level(slot));
+    }
+
+    public int held(final int slot) {
+        return heldOf(level(slot));
+    }
+
+    long level(final int slot) {
+        return (long) LEVEL.getVolatile(pages[page(slot)].levels, offset(slot));
+    }
+
+    boolean compareAndSetLevel(final int slot, final long expected, final long level) {
+        return LEVEL.compareAndSet(pages[page(slot)].levels, offset(slot), expected, level);
+    }
+
+    static long levelOf(final int quantity, final int held) {
+        return ((long) held << HELD_SHIFT) | (quantity & QUANTITY_MASK);
+    }
+
+    static int quantityOf(final long level) {
+        return (int) level;
+    }
+
+    static int heldOf(final long level) {
+        return (int) (level >>> HELD_SHIFT);
+    }
+
+    ProductStock.ChangeListener listener(final int slot) {
+        ProductStock.ChangeListener listener = pages[page(slot)].listeners[offset(slot)];
+        if (listener == null) {
+            return ProductStock.ChangeListener.NONE;
+        }
+
+        return listener;
+    }
+
+    void watch(final int slot, final ProductStock.ChangeListener listener) {
+        pages[page(slot)].listeners[offset(slot)] = listener;
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    private int page(final int slot) {
+        return slot >>> pageBits;
+    }
+
+    private int offset(final int slot) {
+        return slot & ((1 << pageBits) - 1);
+    }
+
+    private static class Page {
+        private final int[] prices;
+        private final long[] levels;
+        private final int[] loadedQuantities;
+        private final ProductStock.ChangeListener[] listeners;
+
+        private Page(final int capacity) {
+            this.prices = new int[capacity];
+            this.levels = new long[capacity];
+            this.loadedQuantities = new int[capacity];
+            this.listeners = new ProductStock.ChangeListener[capacity];
+        }
+    }
+}
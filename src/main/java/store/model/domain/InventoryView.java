@@ -0,0 +1,73 @@
+package store.model.domain;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import store.dto.ProductDto;
+
+/**
+ * 상품 목록의 각 행을 현재 재고 수량으로 보여주는 읽기 전용 뷰입니다. 재고가 차감되면 알림을 받아 두었다가, 다음 조회 때 차감된 재고의 행만 갱신합니다.
+ */
+public class InventoryView implements ProductStock.ChangeListener {
+    private final ProductDto[] rows;
+    private final List<ProductDto> rowsView;
+    private final Map<ProductStock, Integer> rowIndexes;
+    private final Set<ProductStock> changedStocks = ConcurrentHashMap.newKeySet();
+
+    private InventoryView(final ProductDto[] rows, final Map<ProductStock, Integer> rowIndexes) {
+        this.rows = rows;
+        this.rowsView = Collections.unmodifiableList(Arrays.asList(rows));
+        this.rowIndexes = rowIndexes;
+    }
+
+    public static InventoryView of(final List<ProductDto> productRows, final Products products) {
+        ProductDto[] rows = new ProductDto[productRows.size()];
+        Map<ProductStock, Integer> rowIndexes = new HashMap<>();
+
+        for (int i = 0; i < rows.length; i++) {
+            ProductStock stock = products.findStock(productRows.get(i));
+            rows[i] = withQuantity(productRows.get(i), stock);
+            rowIndexes.put(stock, i);
+        }
+
+        return watchAll(new InventoryView(rows, rowIndexes));
+    }
+
+    private static InventoryView watchAll(final InventoryView view) {
+        view.rowIndexes.keySet().forEach(stock -> stock.watch(view));
+        return view;
+    }
+
+    @Override
+    public void onChange(final ProductStock stock) {
+        changedStocks.add(stock);
+    }
+
+    /**
+     * 마지막 조회 이후 차감된 재고의 행을 갱신한 뒤 전체 행을 반환합니다. 반환된 목록은 이후 조회에서 갱신되는 읽기 전용 뷰입니다.
+     */
+    public List<ProductDto> rows() {
+        Iterator<ProductStock> changed = changedStocks.iterator();
+
+        while (changed.hasNext()) {
+            ProductStock stock = changed.next();
+            changed.remove();
+            refresh(rowIndexes.get(stock), stock);
+        }
+
+        return rowsView;
+    }
+
+    private void refresh(final int index, final ProductStock stock) {
+        rows[index] = withQuantity(rows[index], stock);
+    }
+
+    private static ProductDto withQuantity(final ProductDto row, final ProductStock stock) {
+        return new ProductDto(row.name(), row.price(), stock.getQuantity(), row.promotion());
+    }
+}
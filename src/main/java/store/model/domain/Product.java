@@ -2,18 +2,39 @@ package store.model.domain;
 
 
 import java.time.LocalDate;
+import java.util.Objects;
+import java.util.Optional;
 
 public class Product {
     private final String name;
     private final ProductStock normalStock;
+    private final ProductStock normalStockOrEmpty;
     private final ProductStock promotionalStock;
     private final Promotion promotion;
 
-    private Product(final Builder builder) {
-        this.name = builder.name;
-        this.normalStock = builder.normalStock;
-        this.promotionalStock = builder.promotionalStock;
-        this.promotion = builder.promotion;
+    private Product(
+            final String name,
+            final ProductStock normalStock,
+            final ProductStock promotionalStock,
+            final Promotion promotion
+    ) {
+        this.name = name;
+        this.normalStock = normalStock;
+        this.normalStockOrEmpty = normalStockOrEmpty(normalStock, promotionalStock);
+        this.promotionalStock = promotionalStock;
+        this.promotion = promotion;
+    }
+
+    // 일반 재고가 없는 상품의 빈 일반 재고는 조회할 때마다 슬롯을 할당하지 않도록 상품을 만들 때 한 번만 만든다
+    private static ProductStock normalStockOrEmpty(
+            final ProductStock normalStock,
+            final ProductStock promotionalStock
+    ) {
+        if (normalStock != null) {
+            return normalStock;
+        }
+
+        return ProductStock.of(promotionalStock.getPrice(), 0);
     }
 
     public static Builder builder(final String name) {
@@ -24,11 +45,11 @@ public class Product {
         int total = 0;
 
         if (normalStock != null) {
-            total += normalStock.getQuantity();
+            total += normalStock.getAvailableQuantity();
         }
 
         if (isPromotional(date)) {
-            total += promotionalStock.getQuantity();
+            total += promotionalStock.getAvailableQuantity();
         }
 
         return total;
@@ -47,11 +68,15 @@ public class Product {
     }
 
     public ProductStock getNormalStock() {
-        if (normalStock == null) {
-            return ProductStock.of(promotionalStock.getPrice(), 0);
+        return normalStockOrEmpty;
+    }
+
+    public Optional<ProductStock> findStock(final boolean promotional) {
+        if (promotional) {
+            return Optional.ofNullable(promotionalStock);
         }
 
-        return normalStock;
+        return Optional.ofNullable(normalStock);
     }
 
     public ProductStock getPromotionalStock() {
@@ -62,6 +87,23 @@ public class Product {
         return promotion;
     }
 
+    @Override
+    public boolean equals(final Object other) {
+        if (!(other instanceof Product product)) {
+            return false;
+        }
+
+        return name.equals(product.name)
+                && Objects.equals(normalStock, product.normalStock)
+                && Objects.equals(promotionalStock, product.promotionalStock)
+                && promotion == product.promotion;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(name, normalStock, promotionalStock);
+    }
+
     public static class Builder {
         private static final String ERROR_NO_STOCK = "상품은 일반 재고와 프로모션 재고 중 적어도 하나는 있어야 합니다.";
         private static final String ERROR_NO_PROMOTION = "프로모션 재고가 있다면 프로모션이 반드시 있어야 합니다.";
@@ -112,7 +154,7 @@ public class Product {
             validateStockExistence();
             validatePromotionExistence();
 
-            return new Product(this);
+            return new Product(name, normalStock, promotionalStock, promotion);
         }
 
         private void validateStockExistence() {
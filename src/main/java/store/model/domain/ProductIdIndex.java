@@ -0,0 +1,60 @@
+package store.model.domain;
+
+/**
+ * 상품명을 상품 번호로 찾는 색인입니다. 상품마다 엔트리 객체를 만들지 않도록 이름과 번호를 두 배열에 나누어 열린 주소 방식으로 저장합니다.
+ */
+public class ProductIdIndex {
+    private static final int NOT_FOUND = -1;
+
+    private final String[] names;
+    private final int[] ids;
+    private final int mask;
+
+    private ProductIdIndex(final int capacity) {
+        this.names = new String[capacity];
+        this.ids = new int[capacity];
+        this.mask = capacity - 1;
+    }
+
+    // 적재율이 1/2 을 넘지 않도록 상품 수의 두 배 이상인 2의 거듭제곱 크기로 만든다
+    public static ProductIdIndex withExpectedSize(final int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(1, expectedSize) * 2 - 1) << 1;
+        return new ProductIdIndex(capacity);
+    }
+
+    public void put(final String name, final int id) {
+        int position = find(name);
+        names[position] = name;
+        ids[position] = id;
+    }
+
+    /**
+     * @return 상품 번호, 없거나 상품명이 null 이라면 -1
+     */
+    public int get(final String name) {
+        if (name == null) {
+            return NOT_FOUND;
+        }
+
+        int position = find(name);
+        if (names[position] == null) {
+            return NOT_FOUND;
+        }
+
+        return ids[position];
+    }
+
+    private int find(final String name) {
+        int position = spread(name.hashCode()) & mask;
+
+        while (names[position] != null && !names[position].equals(name)) {
+            position = (position + 1) & mask;
+        }
+
+        return position;
+    }
+
+    private static int spread(final int hash) {
+        return hash ^ (hash >>> 16);
+    }
+}
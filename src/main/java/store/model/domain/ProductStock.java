@@ -1,55 +1,190 @@
 package store.model.domain;
 
+/**
+ * {@link InventoryStore} 의 한 슬롯을 가리키는 재고입니다. 가격과 수량은 저장소에 있으며, 같은 슬롯을 가리키는 재고는 서로 같은 재고로 취급합니다.
+ */
 public class ProductStock {
     private static final int MINIMUM_AMOUNT = 0;
     private static final String INVALID_PRICE_MESSAGE = "가격은 0 이상의 정수여야 합니다.";
     private static final String INVALID_QUANTITY_MESSAGE = "수량은 0 이상의 정수여야 합니다.";
     private static final String INSUFFICIENT_STOCK_MESSAGE = "재고가 부족합니다.";
+    // 상품 목록에 속하지 않은 단독 재고는 모두 한 저장소의 슬롯을 나눠 쓴다
+    private static final InventoryStore STANDALONE_STORE = InventoryStore.create();
 
-    private final Integer price;
-    private Integer quantity;
+    private final InventoryStore store;
+    private final int slot;
 
-    private ProductStock(final Integer price, final Integer quantity) {
-        validate(price, quantity);
-        this.price = price;
-        this.quantity = quantity;
+    private ProductStock(final InventoryStore store, final int slot) {
+        this.store = store;
+        this.slot = slot;
     }
 
-    private void validate(final Integer price, final Integer quantity) {
+    private static void validate(final Integer price, final Integer quantity) {
         validatePrice(price);
         validateQuantity(quantity);
     }
 
-    private void validatePrice(final Integer price) {
+    private static void validatePrice(final Integer price) {
         if (price == null || price < MINIMUM_AMOUNT) {
             throw new IllegalArgumentException(INVALID_PRICE_MESSAGE);
         }
     }
 
-    private void validateQuantity(final Integer quantity) {
+    private static void validateQuantity(final Integer quantity) {
         if (quantity == null || quantity < MINIMUM_AMOUNT) {
             throw new IllegalArgumentException(INVALID_QUANTITY_MESSAGE);
         }
     }
 
     public static ProductStock of(final Integer price, final Integer quantity) {
-        return new ProductStock(price, quantity);
+        return allocate(STANDALONE_STORE, price, quantity);
+    }
+
+    static ProductStock allocate(final InventoryStore store, final Integer price, final Integer quantity) {
+        validate(price, quantity);
+        return new ProductStock(store, store.allocate(price, quantity));
+    }
+
+    static ProductStock at(final InventoryStore store, final int slot) {
+        return new ProductStock(store, slot);
+    }
+
+    /**
+     * 다시 읽어 들인 카탈로그 파일의 가격과 수량을 같은 슬롯에 반영합니다. 가격은 그대로 덮어쓰지만 수량은 덮어쓰지 않고, 파일의 수량이 직전에 읽은 수량보다 늘거나 준 만큼만 현재
+     * 수량에 더합니다. 파일 수량을 늘리면 입고, 줄이면 출고로 처리되며, 그 사이 주문으로 차감된 수량은 그대로 남습니다. 현재 수량보다 많이 줄이면 수량은 0 이 됩니다.
+     * 다른 주문이 임시로 확보한 수량보다 적게 남으면 확보 수량도 남은 수량으로 줄어듭니다.
+     */
+    public ProductStock reload(final Integer price, final Integer loadedQuantity) {
+        validate(price, loadedQuantity);
+        store.updatePrice(slot, price);
+        addQuantity(store.exchangeLoadedQuantity(slot, loadedQuantity));
+        return this;
+    }
+
+    private void addQuantity(final int delta) {
+        if (delta != 0) {
+            update(delta, 0);
+        }
     }
 
     public void reduceQuantity(final int quantity) {
-        if (quantity > this.quantity) {
+        if (!tryReduce(quantity)) {
             throw new IllegalStateException(INSUFFICIENT_STOCK_MESSAGE);
         }
+    }
+
+    /**
+     * 다른 주문이 확보하지 않은 재고가 충분할 때만 수량을 차감합니다. 여러 스레드가 같은 재고를 동시에 차감해도 재고보다 많이 차감되지 않습니다.
+     *
+     * @return 차감 여부, 재고가 부족하면 false
+     */
+    public boolean tryReduce(final int quantity) {
+        return tryUpdate(-quantity, 0, quantity);
+    }
+
+    /**
+     * 차감했던 수량을 되돌립니다. 여러 재고를 함께 차감하다 실패했을 때 앞서 차감한 재고를 복구하는 데 사용합니다.
+     */
+    public void restoreQuantity(final int quantity) {
+        update(quantity, 0);
+    }
+
+    /**
+     * 수량은 그대로 두고 다른 주문이 차감하거나 확보할 수 없도록 임시로 확보합니다.
+     *
+     * @return 확보 여부, 확보 가능한 재고가 부족하면 false
+     */
+    public boolean tryHold(final int quantity) {
+        return tryUpdate(0, quantity, quantity);
+    }
+
+    /**
+     * 임시로 확보했던 수량을 풀어 줍니다. 그 사이 재입고로 수량이 확보 수량 아래로 줄었더라도 남은 확보 수량은 모두 풀립니다.
+     */
+    public void releaseHold(final int quantity) {
+        update(0, -quantity);
+    }
+
+    private boolean tryUpdate(final int quantityDelta, final int heldDelta, final int required) {
+        long level = store.level(slot);
+
+        while (required <= availableOf(level)) {
+            long updated = InventoryStore.levelOf(
+                    InventoryStore.quantityOf(level) + quantityDelta, InventoryStore.heldOf(level) + heldDelta);
+            if (store.compareAndSetLevel(slot, level, updated)) {
+                store.listener(slot).onChange(this);
+                return true;
+            }
+            level = store.level(slot);
+        }
+
+        return false;
+    }
+
+    // 되돌리는 변경은 가용 수량을 확인하지 않고 반영하며, 수량은 0 이상, 확보 수량은 0 과 수량 사이로 맞춘다
+    private void update(final int quantityDelta, final int heldDelta) {
+        long level = store.level(slot);
+        while (!store.compareAndSetLevel(slot, level, levelUpdating(level, quantityDelta, heldDelta))) {
+            level = store.level(slot);
+        }
+        store.listener(slot).onChange(this);
+    }
 
-        this.quantity -= quantity;
+    private static long levelUpdating(final long level, final int quantityDelta, final int heldDelta) {
+        int quantity = Math.max(InventoryStore.quantityOf(level) + quantityDelta, MINIMUM_AMOUNT);
+        int held = Math.max(InventoryStore.heldOf(level) + heldDelta, MINIMUM_AMOUNT);
+        return InventoryStore.levelOf(quantity, Math.min(held, quantity));
+    }
+
+    private static int availableOf(final long level) {
+        return InventoryStore.quantityOf(level) - InventoryStore.heldOf(level);
+    }
+
+    /**
+     * 수량이 차감될 때마다 알림을 받을 리스너를 등록합니다. 리스너는 하나만 유지되며, 새로 등록하면 이전 리스너는 더 이상 알림을 받지 않습니다.
+     */
+    public void watch(final ChangeListener listener) {
+        store.watch(slot, listener);
     }
 
     public Integer getPrice() {
-        return price;
+        return store.price(slot);
     }
 
     public Integer getQuantity() {
-        return quantity;
+        return store.quantity(slot);
+    }
+
+    /**
+     * 다른 주문이 임시로 확보한 수량을 제외한, 새 주문이 사용할 수 있는 수량입니다.
+     */
+    public int getAvailableQuantity() {
+        return availableOf(store.level(slot));
+    }
+
+    int slot() {
+        return slot;
     }
 
+    @Override
+    public boolean equals(final Object other) {
+        if (!(other instanceof ProductStock stock)) {
+            return false;
+        }
+
+        return store == stock.store && slot == stock.slot;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * System.identityHashCode(store) + slot;
+    }
+
+    @FunctionalInterface
+    public interface ChangeListener {
+        ChangeListener NONE = stock -> {
+        };
+
+        void onChange(final ProductStock stock);
+    }
 }
@@ -1,9 +1,9 @@
 package store.model.domain;
 
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.stream.Collectors;
 import store.dto.ProductDto;
 
 public class Products {
@@ -11,43 +11,68 @@ public class Products {
     private static final String MESSAGE_PRODUCT_NOT_MESSAGE = "상품을 찾을 수 없습니다: ";
     private static final String INVALID_PROMOTION_STOCK_MESSAGE = "유효하지 않은 프로모션 재고입니다.";
 
-    private final List<Product> values;
+    private static final int ABSENT = -1;
 
-    private Products(final List<Product> values) {
-        this.values = values;
+    private final InventoryStore store;
+    private final ProductIdIndex idIndex;
+    // 재고 뷰는 슬롯을 할당하거나 이어받을 때 한 번만 만들어지므로, 상품도 만든 것을 그대로 두고 조회할 때마다 새로 만들지 않는다
+    private final Product[] products;
+
+    private Products(final InventoryStore store, final List<Product> values) {
+        this.store = store;
+        this.idIndex = ProductIdIndex.withExpectedSize(values.size());
+        this.products = values.toArray(Product[]::new);
+
+        for (int id = 0; id < products.length; id++) {
+            idIndex.put(products[id].getName(), id);
+        }
     }
 
     public static Products from(final List<ProductDto> productDtos, final Promotions promotions) {
-        Map<String, List<ProductDto>> productsByName = productDtos.stream()
-                .collect(Collectors.groupingBy(ProductDto::name));
-
-        List<Product> products = productsByName.entrySet().stream()
-                .map(entry -> createProduct(entry.getKey(), entry.getValue(), promotions))
-                .toList();
+        return build(productDtos, promotions, new Products(InventoryStore.create(), List.of()));
+    }
 
-        return new Products(products);
+    /**
+     * 새 상품 목록을 생성하되, 이전 상품 목록에 같은 재고(상품명, 일반/프로모션 구분)가 있다면 그 슬롯을 그대로 공유합니다. 가격이 바뀌어도 슬롯은 유지되므로 이전 목록으로
+     * 진행 중인 주문의 차감도 새 목록에 반영됩니다. 파일의 수량을 반영하는 방식은 {@link ProductStock#reload(Integer, Integer)} 를 따릅니다.
+     *
+     * @param productDtos 새로 읽어 들인 상품 목록
+     * @param promotions  새로 읽어 들인 프로모션 목록
+     * @param previous    현재 사용 중인 상품 목록
+     * @return 재고 수량을 이어받은 새 상품 목록
+     */
+    public static Products from(
+            final List<ProductDto> productDtos,
+            final Promotions promotions,
+            final Products previous
+    ) {
+        return build(productDtos, promotions, previous);
     }
 
-    private static Product createProduct(
-            final String productName,
-            final List<ProductDto> dtos,
-            final Promotions promotions
+    private static Products build(
+            final List<ProductDto> productDtos,
+            final Promotions promotions,
+            final Products previous
     ) {
-        Product.Builder builder = Product.builder(productName);
+        Map<String, Product.Builder> buildersByName = new LinkedHashMap<>();
+        productDtos.forEach(dto -> addStockToBuilder(
+                buildersByName.computeIfAbsent(dto.name(), Product::builder), dto, promotions, previous
+        ));
 
-        for (ProductDto dto : dtos) {
-            addStockToBuilder(builder, dto, promotions);
-        }
+        List<Product> products = buildersByName.values().stream()
+                .map(Product.Builder::build)
+                .toList();
 
-        return builder.build();
+        return new Products(previous.store, products);
     }
 
     private static void addStockToBuilder(
             final Product.Builder builder,
             final ProductDto dto,
-            final Promotions promotions
+            final Promotions promotions,
+            final Products previous
     ) {
-        ProductStock stock = ProductStock.of(dto.price(), dto.quantity());
+        ProductStock stock = previous.carryOverStock(dto);
 
         if (dto.promotion() == null) {
             builder.normalStock(stock);
@@ -59,6 +84,13 @@ public class Products {
                 .promotion(promotion);
     }
 
+    private ProductStock carryOverStock(final ProductDto dto) {
+        return findByName(dto.name())
+                .flatMap(product -> product.findStock(dto.promotion() != null))
+                .map(stock -> stock.reload(dto.price(), dto.quantity()))
+                .orElseGet(() -> ProductStock.allocate(store, dto.price(), dto.quantity()));
+    }
+
     private static Promotion findPromotion(final String promotionName, final Promotions promotions) {
         return promotions.findByName(promotionName)
                 .orElseThrow(
@@ -66,47 +98,44 @@ public class Products {
                 );
     }
 
-    public List<ProductDto> updateDtoQuantities(final List<ProductDto> dtos) {
-        return dtos.stream()
-                .map(this::createUpdatedDto)
-                .toList();
-    }
-
-    private ProductDto createUpdatedDto(final ProductDto dto) {
+    /**
+     * 상품 목록의 한 행에 해당하는 재고를 찾습니다.
+     */
+    public ProductStock findStock(final ProductDto dto) {
         Product product = findProductByName(dto.name());
-        int actualQuantity = getActualQuantity(product, dto.promotion());
-
-        return ProductDto.of(
-                dto.name(),
-                String.valueOf(dto.price()),
-                String.valueOf(actualQuantity),
-                dto.promotion()
-        );
+        if (dto.promotion() == null) {
+            return product.getNormalStock();
+        }
+
+        if (product.getPromotion() == null || !product.getPromotion().getName().equals(dto.promotion())) {
+            throw new IllegalStateException(INVALID_PROMOTION_STOCK_MESSAGE);
+        }
+
+        return product.getPromotionalStock();
     }
 
     private Product findProductByName(final String name) {
-        return values.stream()
-                .filter(product -> product.getName().equals(name))
-                .findFirst()
+        return findByName(name)
                 .orElseThrow(() -> new IllegalStateException(MESSAGE_PRODUCT_NOT_MESSAGE + name));
     }
 
-
-    private int getActualQuantity(final Product product, final String promotionName) {
-        if (promotionName == null) {
-            return product.getNormalStock().getQuantity();
+    public Optional<Product> findByName(final String name) {
+        int id = idOf(name);
+        if (id == ABSENT) {
+            return Optional.empty();
         }
 
-        if (product.getPromotion() == null || !product.getPromotion().getName().equals(promotionName)) {
-            throw new IllegalStateException(INVALID_PROMOTION_STOCK_MESSAGE);
-        }
+        return Optional.of(productAt(id));
+    }
 
-        return product.getPromotionalStock().getQuantity();
+    /**
+     * @return 상품 목록에서의 상품 번호, 없는 상품이라면 -1. 번호는 0 부터 상품 수보다 작은 값입니다.
+     */
+    public int idOf(final String name) {
+        return idIndex.get(name);
     }
 
-    public Optional<Product> findByName(String name) {
-        return values.stream()
-                .filter(product -> product.getName().equals(name))
-                .findFirst();
+    public Product productAt(final int id) {
+        return products[id];
     }
 }
@@ -6,6 +6,7 @@ import store.vo.DateRange;
 
 public class Promotion {
     private static final int MINIMUM_QUANTITY = 1;
+    private static final int UNREGISTERED_ID = -1;
     private static final String INVALID_BUY_QUANTITY_MESSAGE = "구매 수량은 1개 이상이어야 합니다.";
     private static final String INVALID_GET_QUANTITY_MESSAGE = "증정 수량은 1개 이상이어야 합니다.";
 
@@ -13,12 +14,15 @@ public class Promotion {
     private final Integer buy;
     private final Integer get;
     private final DateRange dateRange;
+    private final PromotionCalculator calculator;
+    private final Registration registration;
 
     private Promotion(
             final String name,
             final Integer buy,
             final Integer get,
-            final DateRange dateRange
+            final DateRange dateRange,
+            final Registration registration
     ) {
         validateBuyQuantity(buy);
         validateGetQuantity(get);
@@ -27,6 +31,8 @@ public class Promotion {
         this.buy = buy;
         this.get = get;
         this.dateRange = dateRange;
+        this.calculator = new PromotionCalculator(buy, get);
+        this.registration = registration;
     }
 
     private void validateBuyQuantity(final Integer buy) {
@@ -41,21 +47,55 @@ public class Promotion {
         }
     }
 
+    /**
+     * 달력에 등록하지 않은 프로모션을 만듭니다. 진행 여부는 매번 기간으로 판단합니다.
+     */
     public static Promotion from(final PromotionFileDto dto) {
+        return create(dto, null);
+    }
+
+    /**
+     * 달력에서 주어진 번호로 진행 여부를 확인하는 프로모션을 만듭니다. 달력은 같은 번호에 이 프로모션의 기간을 담고 있어야 합니다.
+     */
+    public static Promotion from(final PromotionFileDto dto, final PromotionCalendar calendar, final int id) {
+        return create(dto, new Registration(calendar, id));
+    }
+
+    private static Promotion create(final PromotionFileDto dto, final Registration registration) {
         return new Promotion(
                 dto.name(),
                 dto.buy(),
                 dto.get(),
-                DateRange.of(dto.startDate(), dto.endDate())
+                DateRange.of(dto.startDate(), dto.endDate()),
+                registration
         );
     }
 
     public boolean isApplicable(final LocalDate date) {
-        return dateRange.contains(date);
+        if (registration == null || date == null) {
+            return dateRange.contains(date);
+        }
+
+        return registration.calendar().isActive(registration.id(), date);
     }
 
-    public Integer getSetSize() {
-        return buy + get;
+    /**
+     * @return 달력에서의 번호, 달력에 등록되지 않았다면 -1
+     */
+    public int getId() {
+        if (registration == null) {
+            return UNREGISTERED_ID;
+        }
+
+        return registration.id();
+    }
+
+    public DateRange getDateRange() {
+        return dateRange;
+    }
+
+    public PromotionCalculator getCalculator() {
+        return calculator;
     }
 
     public String getName() {
@@ -69,4 +109,10 @@ public class Promotion {
     public Integer getGet() {
         return get;
     }
+
+    private record Registration(
+            PromotionCalendar calendar,
+            int id
+    ) {
+    }
 }
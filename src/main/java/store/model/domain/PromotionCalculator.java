@@ -0,0 +1,68 @@
+package store.model.domain;
+
+/**
+ * 프로모션의 N+M 수량 계산을 담당합니다. 세트 크기를 프로모션을 만들 때 한 번만 구해 두고, 모든 계산을 박싱 없는 int 연산 몇 번으로 끝냅니다.
+ * <p>
+ * 수량 인자는 모두 0 이상이며, 프로모션 재고는 호출하는 쪽에서 읽은 값을 그대로 받습니다.
+ */
+public class PromotionCalculator {
+    private final int buy;
+    private final int get;
+    private final int setSize;
+
+    PromotionCalculator(final int buy, final int get) {
+        this.buy = buy;
+        this.get = get;
+        this.setSize = buy + get;
+    }
+
+    public int setSize() {
+        return setSize;
+    }
+
+    /**
+     * @return 프로모션 재고에서 가져간 수량 중 증정되는 수량
+     */
+    public int freeQuantity(final int promotionalQuantity) {
+        return promotionalQuantity / setSize * get;
+    }
+
+    /**
+     * @return 프로모션 재고에서 가져간 수량 중 완성된 세트에 속한 수량
+     */
+    public int quantityInSets(final int promotionalQuantity) {
+        return promotionalQuantity / setSize * setSize;
+    }
+
+    /**
+     * @return 프로모션 재고로 채울 수 있는 세트의 총 수량
+     */
+    public int maxPromotionalQuantity(final int promotionalStock) {
+        return quantityInSets(promotionalStock);
+    }
+
+    /**
+     * 구매 수량만큼 담았지만 증정 상품을 받지 않은 세트가 있다면, 그 세트를 채울 수량을 구합니다.
+     *
+     * @return 더 담으면 증정받을 수 있는 수량, 세트를 채울 수 없거나 프로모션 재고가 부족하면 0
+     */
+    public int topUpQuantity(final int quantity, final int promotionalStock) {
+        int remainder = quantity % setSize;
+        if (remainder < buy || quantity + setSize - remainder > promotionalStock) {
+            return 0;
+        }
+
+        return setSize - remainder;
+    }
+
+    /**
+     * @return 프로모션 재고가 부족하여 프로모션 없이 정가로 결제해야 하는 수량, 프로모션 재고로 모두 채울 수 있다면 0
+     */
+    public int normalPriceQuantity(final int quantity, final int promotionalStock) {
+        if (quantity <= promotionalStock) {
+            return 0;
+        }
+
+        return quantity - maxPromotionalQuantity(promotionalStock);
+    }
+}
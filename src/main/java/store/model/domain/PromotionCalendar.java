@@ -0,0 +1,87 @@
+package store.model.domain;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import store.dto.PromotionFileDto;
+
+/**
+ * 프로모션 번호별 진행 기간을 epoch day 로 보관하고, 영업일마다 그날 진행 중인 프로모션을 비트셋으로 미리 계산해 둡니다. 영업일의 진행 여부는 비트 하나로 확인하고,
+ * 영업일보다 이전 날짜는 비트셋을 건드리지 않고 그 프로모션의 기간으로 판단합니다. 비트셋은 영업일보다 나중 날짜가 조회될 때만 그 날짜로 다시 만들므로, 여러 날짜의 주문이 섞여
+ * 들어와도 날짜마다 비트셋을 다시 만들지 않습니다.
+ * <p>
+ * 비트셋은 읽어 둔 날짜의 비트셋을 compare-and-set 으로 바꾸어 공개합니다. 여러 스레드가 동시에 다시 만들어도 하나만 반영되고, 그 사이 다른 스레드가 반영한 날짜를 덮어쓰지
+ * 않습니다.
+ */
+public class PromotionCalendar {
+    private static final int WORD_BITS = Long.SIZE;
+
+    private final long[] startDays;
+    private final long[] endDays;
+    private final AtomicReference<ActiveDay> activeDay =
+            new AtomicReference<>(new ActiveDay(LocalDate.MIN, new long[0]));
+
+    private PromotionCalendar(final long[] startDays, final long[] endDays) {
+        this.startDays = startDays;
+        this.endDays = endDays;
+    }
+
+    /**
+     * 목록의 순서를 프로모션 번호로 하는 달력을 만듭니다. 프로모션은 {@link Promotion#from(PromotionFileDto, PromotionCalendar, int)} 로 같은 번호와 함께
+     * 이 달력을 넘겨받아 진행 여부를 확인합니다.
+     */
+    public static PromotionCalendar of(final List<PromotionFileDto> promotions) {
+        PromotionCalendar calendar = new PromotionCalendar(new long[promotions.size()], new long[promotions.size()]);
+
+        for (int id = 0; id < promotions.size(); id++) {
+            calendar.startDays[id] = promotions.get(id).startDate().toEpochDay();
+            calendar.endDays[id] = promotions.get(id).endDate().toEpochDay();
+        }
+
+        return calendar;
+    }
+
+    public boolean isActive(final int promotionId, final LocalDate date) {
+        ActiveDay day = activeDay.get();
+        if (date.isAfter(day.date())) {
+            day = advanceTo(date, day);
+        }
+
+        if (day.date().equals(date)) {
+            return day.contains(promotionId);
+        }
+        return isInRange(promotionId, date.toEpochDay());
+    }
+
+    private boolean isInRange(final int promotionId, final long epochDay) {
+        return startDays[promotionId] <= epochDay && epochDay <= endDays[promotionId];
+    }
+
+    // 다른 스레드가 먼저 바꾸었다면 그 비트셋을 남겨 두고, 새로 만든 비트셋은 이번 조회에만 사용한다
+    private ActiveDay advanceTo(final LocalDate date, final ActiveDay current) {
+        ActiveDay day = new ActiveDay(date, computeActiveBits(date.toEpochDay()));
+        activeDay.compareAndSet(current, day);
+        return day;
+    }
+
+    private long[] computeActiveBits(final long epochDay) {
+        long[] bits = new long[(startDays.length + WORD_BITS - 1) / WORD_BITS];
+
+        for (int id = 0; id < startDays.length; id++) {
+            if (isInRange(id, epochDay)) {
+                bits[id / WORD_BITS] |= 1L << id;
+            }
+        }
+
+        return bits;
+    }
+
+    private record ActiveDay(
+            LocalDate date,
+            long[] bits
+    ) {
+        private boolean contains(final int promotionId) {
+            return (bits[promotionId / WORD_BITS] & (1L << promotionId)) != 0;
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package store.model.domain;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.IntStream;
+import store.vo.DateRange;
+
+/**
+ * 프로모션 기간에 대한 구간 색인입니다. 프로모션을 시작일 순으로 정렬해 두면 조회 구간이 끝나기 전에 시작한 프로모션은 이진 탐색으로 찾은 앞부분에 모여 있고, 그중 조회 구간이
+ * 시작한 뒤에 끝나는 프로모션만 고르면 됩니다. 고를 때는 구간마다 가장 늦게 끝나는 프로모션을 희소 테이블로 O(1) 에 찾아, 그 프로모션도 조회 구간 전에 끝났다면 구간 전체를
+ * 버리고 아니라면 그 프로모션을 기준으로 구간을 둘로 나눕니다. 나눈 구간은 버려지거나 프로모션 하나를 찾으므로, 겹치는 프로모션이 k 개일 때 O(log n + k) 에 조회합니다.
+ */
+public class PromotionIntervalIndex {
+    private static final int EMIT = -1;
+
+    private final Promotion[] promotions;
+    private final long[] startDays;
+    private final long[] endDays;
+    // latestEnding[level][i] 는 [i, i + 2^level) 에서 가장 늦게 끝나는 프로모션의 위치
+    private final int[][] latestEnding;
+
+    private PromotionIntervalIndex(final List<Promotion> sortedPromotions) {
+        this.promotions = sortedPromotions.toArray(Promotion[]::new);
+        this.startDays = new long[promotions.length];
+        this.endDays = new long[promotions.length];
+
+        for (int i = 0; i < promotions.length; i++) {
+            startDays[i] = promotions[i].getDateRange().startDate().toEpochDay();
+            endDays[i] = promotions[i].getDateRange().endDate().toEpochDay();
+        }
+        this.latestEnding = buildLatestEnding();
+    }
+
+    public static PromotionIntervalIndex of(final List<Promotion> promotions) {
+        List<Promotion> sorted = promotions.stream()
+                .sorted(Comparator.comparing(promotion -> promotion.getDateRange().startDate()))
+                .toList();
+
+        return new PromotionIntervalIndex(sorted);
+    }
+
+    private int[][] buildLatestEnding() {
+        int levels = Integer.SIZE - Integer.numberOfLeadingZeros(Math.max(promotions.length, 1));
+        int[][] table = new int[levels][];
+        table[0] = IntStream.range(0, promotions.length).toArray();
+
+        for (int level = 1; level < levels; level++) {
+            table[level] = mergeLevel(table[level - 1], 1 << (level - 1));
+        }
+        return table;
+    }
+
+    private int[] mergeLevel(final int[] previous, final int half) {
+        int[] merged = new int[previous.length - half];
+        for (int i = 0; i < merged.length; i++) {
+            merged[i] = laterEnding(previous[i], previous[i + half]);
+        }
+        return merged;
+    }
+
+    private int laterEnding(final int left, final int right) {
+        if (endDays[right] > endDays[left]) {
+            return right;
+        }
+        return left;
+    }
+
+    // 길이가 2^level 인 두 구간으로 [from, to) 를 덮어 가장 늦게 끝나는 프로모션을 찾는다
+    private int latestEndingIn(final int from, final int to) {
+        int level = Integer.SIZE - 1 - Integer.numberOfLeadingZeros(to - from);
+        return laterEnding(latestEnding[level][from], latestEnding[level][to - (1 << level)]);
+    }
+
+    /**
+     * 기간이 주어진 구간과 하루라도 겹치는 프로모션을 시작일 순으로 반환합니다.
+     */
+    public List<Promotion> findOverlapping(final DateRange range) {
+        long queryStart = range.startDate().toEpochDay();
+        List<Promotion> found = new ArrayList<>();
+        FrameStack pending = new FrameStack();
+        pending.push(0, countStartingBy(range.endDate().toEpochDay()));
+
+        while (!pending.isEmpty()) {
+            visit(pending, queryStart, found);
+        }
+        return found;
+    }
+
+    private int countStartingBy(final long queryEnd) {
+        int low = 0;
+        int high = startDays.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (startDays[middle] <= queryEnd) {
+                low = middle + 1;
+            }
+            if (startDays[middle] > queryEnd) {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    private void visit(final FrameStack pending, final long queryStart, final List<Promotion> found) {
+        long frame = pending.pop();
+        int from = FrameStack.from(frame);
+        int to = FrameStack.to(frame);
+        if (to == EMIT) {
+            found.add(promotions[from]);
+            return;
+        }
+
+        split(pending, from, to, queryStart);
+    }
+
+    // 시작일 순서를 지키도록 왼쪽 구간, 기준 프로모션, 오른쪽 구간 순서로 꺼내지게 쌓는다
+    private void split(final FrameStack pending, final int from, final int to, final long queryStart) {
+        if (from >= to) {
+            return;
+        }
+
+        int latest = latestEndingIn(from, to);
+        if (endDays[latest] < queryStart) {
+            return;
+        }
+        pending.push(latest + 1, to);
+        pending.push(latest, EMIT);
+        pending.push(from, latest);
+    }
+
+    // 방문할 구간 [from, to) 또는 결과에 넣을 위치(to = EMIT)를 long 하나로 묶어 쌓는 스택
+    private static class FrameStack {
+        private static final int INITIAL_CAPACITY = 16;
+        private static final long LOWER_BITS = 0xFFFFFFFFL;
+
+        private long[] frames = new long[INITIAL_CAPACITY];
+        private int size;
+
+        private void push(final int from, final int to) {
+            if (size == frames.length) {
+                frames = Arrays.copyOf(frames, size * 2);
+            }
+            frames[size++] = ((long) from << Integer.SIZE) | (to & LOWER_BITS);
+        }
+
+        private long pop() {
+            return frames[--size];
+        }
+
+        private boolean isEmpty() {
+            return size == 0;
+        }
+
+        private static int from(final long frame) {
+            return (int) (frame >>> Integer.SIZE);
+        }
+
+        private static int to(final long frame) {
+            return (int) frame;
+        }
+    }
+}
@@ -1,27 +1,33 @@
 package store.model.domain;
 
+import java.time.LocalDate;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import store.vo.DateRange;
 
 public class Promotions {
     private static final String DUPLICATE_PROMOTION_NAME_MESSAGE = "중복된 이름의 프로모션이 존재합니다.";
 
-    private final List<Promotion> values;
+    private final Map<String, Promotion> valuesByName;
+    private final PromotionIntervalIndex intervalIndex;
 
     private Promotions(final List<Promotion> values) {
-        validateDuplicatePromotionNames(values);
-        this.values = values;
+        this.valuesByName = indexByName(values);
+        this.intervalIndex = PromotionIntervalIndex.of(values);
     }
 
-    private void validateDuplicatePromotionNames(final List<Promotion> values) {
-        long uniqueNameCount = values.stream()
-                .map(Promotion::getName)
-                .distinct()
-                .count();
+    private Map<String, Promotion> indexByName(final List<Promotion> values) {
+        Map<String, Promotion> indexed = new HashMap<>();
 
-        if (uniqueNameCount != values.size()) {
-            throw new IllegalArgumentException(DUPLICATE_PROMOTION_NAME_MESSAGE);
+        for (Promotion promotion : values) {
+            if (indexed.putIfAbsent(promotion.getName(), promotion) != null) {
+                throw new IllegalArgumentException(DUPLICATE_PROMOTION_NAME_MESSAGE);
+            }
         }
+
+        return indexed;
     }
 
     public static Promotions from(final List<Promotion> values) {
@@ -29,8 +35,14 @@ public class Promotions {
     }
 
     public Optional<Promotion> findByName(final String promotionName) {
-        return values.stream()
-                .filter(promotion -> promotion.getName().equals(promotionName))
-                .findFirst();
+        return Optional.ofNullable(valuesByName.get(promotionName));
+    }
+
+    public List<Promotion> findActiveOn(final LocalDate date) {
+        return intervalIndex.findOverlapping(DateRange.of(date, date));
+    }
+
+    public List<Promotion> findOverlapping(final DateRange range) {
+        return intervalIndex.findOverlapping(range);
     }
 }
@@ -0,0 +1,76 @@
+package store.model.order;
+
+import java.util.function.BiFunction;
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
+import store.metrics.event.ConfirmationEvent;
+
+/**
+ * 주문을 처리하는 동안 고객에게 확인할 질문에 답하는 방법입니다. 주문마다 {@link OrderContext} 에 담겨 전달되므로, 주문 처리기는 고객과 무관하게 만들어 여러 주문에 함께 쓸 수
+ * 있습니다.
+ *
+ * @param promotionalItem 증정 상품을 추가할지 묻습니다. 상품명과 추가할 수량을 받습니다.
+ * @param normalPrice     프로모션 재고가 부족한 수량을 정가로 구매할지 묻습니다. 상품명과 정가로 구매할 수량을 받습니다.
+ * @param membership      멤버십 할인을 적용할지 묻습니다.
+ */
+public record OrderConfirmation(
+        BiFunction<String, Integer, Boolean> promotionalItem,
+        BiFunction<String, Integer, Boolean> normalPrice,
+        Supplier<Boolean> membership
+) {
+    private static final String ERROR_NOT_CONFIRMABLE = "고객에게 확인할 수 없는 주문입니다.";
+
+    /**
+     * 질문을 받으면 예외를 던집니다. 확인이 필요 없는 처리 단계만 거치는 주문에 사용합니다.
+     */
+    public static final OrderConfirmation UNAVAILABLE = new OrderConfirmation(
+            (productName, quantity) -> notConfirmable(),
+            (productName, quantity) -> notConfirmable(),
+            OrderConfirmation::notConfirmable
+    );
+
+    /**
+     * 모든 질문에 정해진 응답을 하는 확인 방법을 만듭니다.
+     */
+    public static OrderConfirmation answering(
+            final boolean promotionalItem,
+            final boolean normalPrice,
+            final boolean membership
+    ) {
+        return new OrderConfirmation(
+                (productName, quantity) -> promotionalItem,
+                (productName, quantity) -> normalPrice,
+                () -> membership
+        );
+    }
+
+    private static Boolean notConfirmable() {
+        throw new IllegalStateException(ERROR_NOT_CONFIRMABLE);
+    }
+
+    public boolean confirmPromotionalItem(final String productName, final int quantity) {
+        return confirm(ConfirmationEvent.PROMOTIONAL_ITEM, productName, quantity,
+                () -> promotionalItem.apply(productName, quantity));
+    }
+
+    public boolean confirmNormalPrice(final String productName, final int quantity) {
+        return confirm(ConfirmationEvent.NORMAL_PRICE, productName, quantity,
+                () -> normalPrice.apply(productName, quantity));
+    }
+
+    public boolean confirmMembership() {
+        return confirm(ConfirmationEvent.MEMBERSHIP, null, 0, membership::get);
+    }
+
+    private static boolean confirm(
+            final String question,
+            final String productName,
+            final int quantity,
+            final BooleanSupplier answer
+    ) {
+        ConfirmationEvent event = ConfirmationEvent.start();
+        boolean accepted = answer.getAsBoolean();
+        event.finish(question, productName, quantity, accepted);
+        return accepted;
+    }
+}
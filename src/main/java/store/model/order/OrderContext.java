@@ -5,50 +5,87 @@ import static store.constant.ExceptionMessage.WRONG_ORDER_INPUT;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.util.Collections;
 import java.util.List;
-import java.util.Map;
+import java.util.Optional;
 import java.util.function.Function;
-import java.util.stream.Collectors;
 import store.dto.OrderItemDto;
 import store.dto.ReceiptDto;
-import store.dto.StockReduceResultDto;
-import store.model.domain.Product;
+import store.metrics.event.OrderContextCreationEvent;
 import store.model.domain.Products;
+import store.vo.Money;
 
+/**
+ * 주문 하나를 처리하는 동안의 상태입니다. 주문 항목은 {@link OrderLines} 에 저장하며, {@link #reset} 으로 다른 주문에 다시 사용할 수 있습니다.
+ */
 public class OrderContext {
     public static final String MEMBERSHIP_DISCOUNT_NOT_APPLIED = "멤버십 할인이 적용되지 않았습니다.";
+    private static final int ABSENT = -1;
 
-    private final LocalDate orderDate;
-    private final Map<Product, Integer> orderItems;
-    private final Products products;
-    private Function<Integer, Integer> membershipDiscountSupplier;
-    private Map<Product, StockReduceResultDto> stockReduceResults;
+    private final OrderLines orderLines = new OrderLines();
+    private LocalDate orderDate;
+    private Products products;
+    private OrderConfirmation confirmation = OrderConfirmation.UNAVAILABLE;
+    private Function<Money, Money> membershipDiscountSupplier;
     private ReceiptDto receiptDto;
+    private StockReservation stockHold;
 
-    private OrderContext(
-            final LocalDate orderDate,
-            final Map<Product, Integer> orderItems,
+    private OrderContext() {
+    }
+
+    /**
+     * 주문 항목이 없는 주문을 만듭니다. {@link #reset} 으로 주문 항목을 채워 사용합니다.
+     */
+    public static OrderContext empty() {
+        return new OrderContext();
+    }
+
+    /**
+     * 고객에게 확인할 수 없는 주문을 만듭니다. 확인 질문이 필요한 처리 단계를 거치면 예외가 발생합니다.
+     */
+    public static OrderContext of(
+            final LocalDateTime orderDateTime,
+            final List<OrderItemDto> items,
             final Products products
     ) {
-        this.orderDate = orderDate;
-        this.orderItems = orderItems;
-        this.products = products;
+        return of(orderDateTime, items, products, OrderConfirmation.UNAVAILABLE);
     }
 
     public static OrderContext of(
             final LocalDateTime orderDateTime,
             final List<OrderItemDto> items,
-            final Products products
+            final Products products,
+            final OrderConfirmation confirmation
+    ) {
+        return new OrderContext().reset(orderDateTime, items, products, confirmation);
+    }
+
+    /**
+     * 이전 주문의 처리 상태를 지우고 새 주문으로 채웁니다. 주문 항목 배열을 그대로 재사용하므로, 처리가 끝난 주문을 다음 주문에 사용하면 주문 항목을 위한 할당이 생기지 않습니다.
+     */
+    public OrderContext reset(
+            final LocalDateTime orderDateTime,
+            final List<OrderItemDto> items,
+            final Products products,
+            final OrderConfirmation confirmation
     ) {
-        Map<Product, Integer> orderItems = items.stream()
-                .collect(Collectors.groupingBy(
-                        dto -> findProduct(dto.name(), products),
-                        Collectors.summingInt(dto -> validateAndGetQuantity(dto.quantity()))
-                ));
+        OrderContextCreationEvent event = OrderContextCreationEvent.start();
+        clear(LocalDate.from(orderDateTime), products, confirmation);
+        for (OrderItemDto item : items) {
+            orderLines.add(products, findProductId(item.name(), products), validateAndGetQuantity(item.quantity()));
+        }
 
-        LocalDate orderDate = LocalDate.from(orderDateTime);
-        return new OrderContext(orderDate, orderItems, products);
+        event.finish(items.size(), orderLines, orderDate);
+        return this;
+    }
+
+    private void clear(final LocalDate orderDate, final Products products, final OrderConfirmation confirmation) {
+        this.orderDate = orderDate;
+        this.products = products;
+        this.confirmation = confirmation;
+        this.membershipDiscountSupplier = null;
+        this.receiptDto = null;
+        this.stockHold = null;
+        orderLines.clear();
     }
 
     private static int validateAndGetQuantity(final int quantity) {
@@ -59,45 +96,36 @@ public class OrderContext {
         return quantity;
     }
 
-    private static Product findProduct(final String name, final Products products) {
-        return products.findByName(name)
-                .orElseThrow(() -> new IllegalArgumentException(PRODUCT_NOT_FOUND.message()));
-    }
-
-    public void addOrderQuantity(final Product product, final int quantity) {
-        validateAndGetQuantity(quantity);
-        orderItems.merge(product, quantity, Integer::sum);
-    }
+    private static int findProductId(final String name, final Products products) {
+        int productId = products.idOf(name);
+        if (productId == ABSENT) {
+            throw new IllegalArgumentException(PRODUCT_NOT_FOUND.message());
+        }
 
-    public void updateOrderQuantity(final Product product, final int newQuantity) {
-        orderItems.put(product, newQuantity);
+        return productId;
     }
 
     public boolean isMembershipDiscountApplied() {
         return membershipDiscountSupplier != null;
     }
 
-    public void removeOrderItem(final Product product) {
-        orderItems.remove(product);
+    public OrderConfirmation getConfirmation() {
+        return confirmation;
     }
 
     public LocalDate getOrderDate() {
         return orderDate;
     }
 
-    public Map<Product, Integer> getOrderItems() {
-        return Collections.unmodifiableMap(orderItems);
+    public OrderLines getOrderLines() {
+        return orderLines;
     }
 
     public ReceiptDto getReceipt() {
         return receiptDto;
     }
 
-    public Map<Product, StockReduceResultDto> getStockReduceResults() {
-        return Collections.unmodifiableMap(stockReduceResults);
-    }
-
-    public Function<Integer, Integer> getMembershipDiscountSupplier() {
+    public Function<Money, Money> getMembershipDiscountSupplier() {
         if (membershipDiscountSupplier == null) {
             throw new IllegalStateException(MEMBERSHIP_DISCOUNT_NOT_APPLIED);
         }
@@ -109,11 +137,15 @@ public class OrderContext {
         this.receiptDto = receiptDto;
     }
 
-    public void setMembershipDiscountSupplier(final Function<Integer, Integer> membershipDiscountSupplier) {
+    public void setMembershipDiscountSupplier(final Function<Money, Money> membershipDiscountSupplier) {
         this.membershipDiscountSupplier = membershipDiscountSupplier;
     }
 
-    public void attachStockReduceResults(final Map<Product, StockReduceResultDto> results) {
-        this.stockReduceResults = results;
+    public Optional<StockReservation> findStockHold() {
+        return Optional.ofNullable(stockHold);
+    }
+
+    public void attachStockHold(final StockReservation stockHold) {
+        this.stockHold = stockHold;
     }
 }
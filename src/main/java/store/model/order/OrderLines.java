@@ -0,0 +1,171 @@
+package store.model.order;
+
+import static store.constant.ExceptionMessage.WRONG_ORDER_INPUT;
+
+import java.util.Arrays;
+import store.model.domain.Product;
+import store.model.domain.Products;
+
+/**
+ * 주문 항목을 상품 번호, 수량, 재고 차감 결과(일반/프로모션/증정 수량)별 병렬 배열에 주문에 나온 순서대로 저장합니다. 같은 상품은 하나의 항목으로 합치며, 항목 수는 주문에 포함된
+ * 상품 수만큼이므로 상품은 배열을 차례로 훑어 찾습니다.
+ * <p>
+ * 담은 수량의 합이 int 범위를 넘으면 잘못된 주문 입력으로 보고 {@link IllegalArgumentException} 을 던집니다. 수량을 줄이는 것 외에는 모두 이 합을
+ * 거치므로 항목별 수량과 총 수량도 int 범위를 넘지 않습니다.
+ * <p>
+ * {@link #clear()} 로 비운 뒤 다시 채울 수 있고, 배열은 항목 수가 용량을 넘을 때만 늘어나므로 같은 객체로 여러 주문을 처리하면 주문 항목을 위한 할당이 생기지 않습니다.
+ */
+public class OrderLines {
+    private static final int INITIAL_CAPACITY = 8;
+    private static final int ABSENT = -1;
+
+    private Product[] products = new Product[INITIAL_CAPACITY];
+    private int[] productIds = new int[INITIAL_CAPACITY];
+    private int[] quantities = new int[INITIAL_CAPACITY];
+    private int[] normalQuantities = new int[INITIAL_CAPACITY];
+    private int[] promotionalQuantities = new int[INITIAL_CAPACITY];
+    private int[] freeQuantities = new int[INITIAL_CAPACITY];
+    private int size;
+    private int orderedQuantity;
+
+    public void clear() {
+        Arrays.fill(products, 0, size, null);
+        size = 0;
+        orderedQuantity = 0;
+    }
+
+    /**
+     * 상품 번호가 같은 항목이 있다면 수량을 더하고, 없다면 상품 목록에서 상품을 찾아 항목을 추가합니다.
+     */
+    public void add(final Products products, final int productId, final int quantity) {
+        orderedQuantity = sum(orderedQuantity, quantity);
+        int line = indexOf(productId);
+        if (line != ABSENT) {
+            quantities[line] += quantity;
+            return;
+        }
+
+        ensureCapacity();
+        set(size++, productId, products.productAt(productId), quantity);
+    }
+
+    private int indexOf(final int productId) {
+        for (int line = 0; line < size; line++) {
+            if (productIds[line] == productId) {
+                return line;
+            }
+        }
+        return ABSENT;
+    }
+
+    private void ensureCapacity() {
+        if (size < productIds.length) {
+            return;
+        }
+
+        int capacity = productIds.length * 2;
+        products = Arrays.copyOf(products, capacity);
+        productIds = Arrays.copyOf(productIds, capacity);
+        quantities = Arrays.copyOf(quantities, capacity);
+        normalQuantities = Arrays.copyOf(normalQuantities, capacity);
+        promotionalQuantities = Arrays.copyOf(promotionalQuantities, capacity);
+        freeQuantities = Arrays.copyOf(freeQuantities, capacity);
+    }
+
+    private void set(final int line, final int productId, final Product product, final int quantity) {
+        products[line] = product;
+        productIds[line] = productId;
+        quantities[line] = quantity;
+        recordReduction(line, 0, 0, 0);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public Product product(final int line) {
+        return products[line];
+    }
+
+    public int productId(final int line) {
+        return productIds[line];
+    }
+
+    public int quantity(final int line) {
+        return quantities[line];
+    }
+
+    public void addQuantity(final int line, final int quantity) {
+        orderedQuantity = sum(orderedQuantity, quantity);
+        quantities[line] += quantity;
+    }
+
+    /**
+     * 항목의 수량을 바꿉니다. 수량이 0 이 된 항목은 {@link #removeEmptyLines()} 를 호출할 때 삭제됩니다.
+     */
+    public void updateQuantity(final int line, final int quantity) {
+        quantities[line] = quantity;
+    }
+
+    // 항목을 순회하는 동안 삭제하지 않도록, 수량을 0 으로 바꾼 항목은 순회가 끝난 뒤 한 번에 삭제한다
+    public void removeEmptyLines() {
+        int kept = 0;
+        for (int line = 0; line < size; line++) {
+            kept += keepIfOrdered(line, kept);
+        }
+
+        Arrays.fill(products, kept, size, null);
+        size = kept;
+    }
+
+    private int keepIfOrdered(final int line, final int target) {
+        if (quantities[line] <= 0) {
+            return 0;
+        }
+
+        products[target] = products[line];
+        productIds[target] = productIds[line];
+        quantities[target] = quantities[line];
+        recordReduction(target, normalQuantities[line], promotionalQuantities[line], freeQuantities[line]);
+        return 1;
+    }
+
+    public void recordReduction(
+            final int line,
+            final int normalQuantity,
+            final int promotionalQuantity,
+            final int freeQuantity
+    ) {
+        normalQuantities[line] = normalQuantity;
+        promotionalQuantities[line] = promotionalQuantity;
+        freeQuantities[line] = freeQuantity;
+    }
+
+    public int normalQuantity(final int line) {
+        return normalQuantities[line];
+    }
+
+    public int promotionalQuantity(final int line) {
+        return promotionalQuantities[line];
+    }
+
+    public int freeQuantity(final int line) {
+        return freeQuantities[line];
+    }
+
+    public int totalQuantity() {
+        int total = 0;
+        for (int line = 0; line < size; line++) {
+            total = sum(total, quantities[line]);
+        }
+        return total;
+    }
+
+    private static int sum(final int left, final int right) {
+        try {
+            return Math.addExact(left, right);
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException(WRONG_ORDER_INPUT.message(), e);
+        }
+    }
+}
@@ -0,0 +1,169 @@
+package store.model.order;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+import store.model.domain.Product;
+
+/**
+ * 여러 주문을 상품 단위로 나눈 파티션에서 병렬로 처리합니다. 상품마다 담당 파티션이 하나로 정해지고 파티션마다 전용 스레드가 주문을 순서대로 처리하므로, 서로 다른 파티션의
+ * 상품만 주문하는 주문들은 서로를 기다리지 않고 동시에 처리됩니다. 재고 차감은 그대로 {@link StockReservation} 의 잠금을 거치지만, 같은 상품의 주문은 한 파티션에서
+ * 차례로 처리되므로 잠금을 두고 다투는 일은 다른 상품이 같은 잠금 구간에 속한 경우로 줄어듭니다.
+ * <p>
+ * 여러 파티션의 상품을 함께 주문한 경우에는 관련된 파티션이 모두 그 주문 차례에 도달할 때까지 기다렸다가 마지막으로 도달한 스레드가 주문을 처리합니다. 각 파티션은 전달받은
+ * 순서대로 주문을 처리하므로, 상품마다 주문이 적용되는 순서와 처리 결과는 순차 처리와 같습니다.
+ */
+public class PartitionedOrderExecutor implements AutoCloseable {
+    private static final String ERROR_INTERRUPTED = "주문 처리 중 중단되었습니다.";
+
+    private final ExecutorService[] workers;
+
+    private PartitionedOrderExecutor(final ExecutorService[] workers) {
+        this.workers = workers;
+    }
+
+    public static PartitionedOrderExecutor start(final int partitions) {
+        ExecutorService[] workers = new ExecutorService[partitions];
+        Arrays.setAll(workers, partition -> Executors.newSingleThreadExecutor(Thread.ofPlatform().daemon().factory()));
+
+        return new PartitionedOrderExecutor(workers);
+    }
+
+    /**
+     * 주문을 모두 처리하고, 전달받은 순서대로 처리 결과를 반환합니다. 주문 하나의 처리가 예외로 끝나면 그 주문의 결과만 {@code onFailure} 로 만들고 나머지 주문은 그대로
+     * 처리합니다.
+     *
+     * @param checkout  주문 하나를 처리하는 함수. 같은 상품을 주문한 주문들에 대해서는 전달받은 순서대로 호출됩니다.
+     * @param onFailure 처리 중 발생한 예외로 그 주문의 결과를 만드는 함수
+     */
+    public <T> List<T> execute(
+            final List<OrderContext> orders,
+            final Function<OrderContext, T> checkout,
+            final Function<RuntimeException, T> onFailure
+    ) {
+        List<PartitionedOrder<T>> pending = new ArrayList<>();
+        orders.forEach(order -> pending.add(new PartitionedOrder<>(order, checkout, partitionsOf(order))));
+        List<List<PartitionedOrder<T>>> queues = partition(pending);
+        List<Future<?>> partitionRuns = new ArrayList<>();
+
+        for (int partition = 0; partition < workers.length; partition++) {
+            List<PartitionedOrder<T>> queue = queues.get(partition);
+            partitionRuns.add(workers[partition].submit(() -> queue.forEach(PartitionedOrder::arrive)));
+        }
+
+        partitionRuns.forEach(PartitionedOrderExecutor::await);
+        return pending.stream().map(order -> order.result(onFailure)).toList();
+    }
+
+    private <T> List<List<PartitionedOrder<T>>> partition(final List<PartitionedOrder<T>> pending) {
+        List<List<PartitionedOrder<T>>> queues = new ArrayList<>();
+        Arrays.stream(workers).forEach(worker -> queues.add(new ArrayList<>()));
+
+        for (PartitionedOrder<T> order : pending) {
+            Arrays.stream(order.partitions).forEach(partition -> queues.get(partition).add(order));
+        }
+
+        return queues;
+    }
+
+    // 상품이 없는 주문도 처리 결과가 필요하므로 첫 번째 파티션에 맡긴다
+    private int[] partitionsOf(final OrderContext order) {
+        OrderLines orderLines = order.getOrderLines();
+        int[] partitions = IntStream.range(0, orderLines.size())
+                .map(line -> partitionOf(orderLines.product(line)))
+                .distinct()
+                .toArray();
+        if (partitions.length == 0) {
+            return new int[]{0};
+        }
+
+        return partitions;
+    }
+
+    private int partitionOf(final Product product) {
+        return Math.floorMod(product.getName().hashCode(), workers.length);
+    }
+
+    private static void await(final Future<?> partitionRun) {
+        try {
+            partitionRun.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(ERROR_INTERRUPTED);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e.getCause().getMessage(), e.getCause());
+        }
+    }
+
+    @Override
+    public void close() {
+        Arrays.stream(workers).forEach(ExecutorService::shutdownNow);
+    }
+
+    private static class PartitionedOrder<T> {
+        private final OrderContext order;
+        private final Function<OrderContext, T> checkout;
+        private final int[] partitions;
+        private final AtomicInteger waitingPartitions;
+        private final CountDownLatch done = new CountDownLatch(1);
+        private T result;
+        private RuntimeException failure;
+
+        private PartitionedOrder(
+                final OrderContext order,
+                final Function<OrderContext, T> checkout,
+                final int[] partitions
+        ) {
+            this.order = order;
+            this.checkout = checkout;
+            this.partitions = partitions;
+            this.waitingPartitions = new AtomicInteger(partitions.length);
+        }
+
+        // 마지막으로 도달한 파티션이 주문을 처리하고, 먼저 도달한 파티션은 처리가 끝날 때까지 다음 주문으로 넘어가지 않는다
+        private void arrive() {
+            if (waitingPartitions.decrementAndGet() == 0) {
+                checkout();
+                return;
+            }
+
+            awaitDone();
+        }
+
+        // 처리에 실패해도 다른 파티션이 멈추지 않도록 예외는 기록해 두고 결과를 꺼낼 때 그 주문의 결과로 바꾼다
+        private void checkout() {
+            try {
+                result = checkout.apply(order);
+            } catch (RuntimeException e) {
+                failure = e;
+            } finally {
+                done.countDown();
+            }
+        }
+
+        private void awaitDone() {
+            try {
+                done.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(ERROR_INTERRUPTED);
+            }
+        }
+
+        private T result(final Function<RuntimeException, T> onFailure) {
+            if (failure != null) {
+                return onFailure.apply(failure);
+            }
+
+            return result;
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package store.model.order;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Map;
+import store.dto.ReceiptDto;
+import store.dto.ReceiptDto.OrderItemInfo;
+import store.dto.ReceiptDto.PriceInfo;
+import store.model.domain.Product;
+import store.vo.Money;
+import store.vo.MoneyAccumulator;
+
+/**
+ * 재고를 차감하지 않고 주문의 예상 영수증을 계산합니다. 재고 차감과 같은 방식으로 사용 가능한 프로모션 재고를 읽어 증정 수량과 할인 금액을 구하지만, 재고와 주문은 바꾸지 않으며
+ * 고객에게 확인을 묻지도 않으므로 주문에 담긴 수량 그대로의 금액이 나옵니다.
+ * <p>
+ * 장바구니 하나에 하나씩 두고 상품을 담을 때마다 호출하는 용도입니다. 지난 계산의 항목별 결과를 상품 번호로 기억해 두고 수량, 단가, 프로모션 재고가 바뀐 항목만 다시 계산하여
+ * 합계에 반영합니다. 스레드 안전하지 않습니다.
+ */
+public class PriceQuoter {
+    private static final int INITIAL_CAPACITY = 16;
+
+    private LineQuote[] lineQuotes = new LineQuote[INITIAL_CAPACITY];
+    private final BitSet quotedIds = new BitSet();
+    private final BitSet orderedIds = new BitSet();
+    // 재고를 다시 읽으면 같은 번호에 다른 상품이 올 수 있으므로, 항목도 이름이 아니라 그 번호에 계산해 둔 견적과 함께 지운다
+    private final Map<Integer, OrderItemInfo> orderedItems = new HashMap<>();
+    private final Map<Integer, Integer> promotionalItems = new HashMap<>();
+    private final MoneyAccumulator totalPrice = new MoneyAccumulator();
+    private final MoneyAccumulator promotionDiscount = new MoneyAccumulator();
+    private final MoneyAccumulator priceAfterPromotion = new MoneyAccumulator();
+    private int totalQuantity;
+
+    public ReceiptDto quote(final OrderContext orderContext) {
+        OrderLines orderLines = orderContext.getOrderLines();
+        orderedIds.clear();
+        for (int line = 0; line < orderLines.size(); line++) {
+            update(orderLines, line, orderContext.getOrderDate());
+        }
+
+        removeUnordered();
+        return toReceipt(orderContext);
+    }
+
+    private void update(final OrderLines orderLines, final int line, final LocalDate orderDate) {
+        int productId = orderLines.productId(line);
+        LineQuote lineQuote = LineQuote.of(orderLines.product(line), orderLines.quantity(line), orderDate);
+        if (lineQuote.quantity() <= 0) {
+            return;
+        }
+
+        orderedIds.set(productId);
+        if (!lineQuote.equals(quotedAt(productId))) {
+            remove(productId);
+            add(productId, lineQuote);
+        }
+    }
+
+    private LineQuote quotedAt(final int productId) {
+        if (productId >= lineQuotes.length) {
+            lineQuotes = Arrays.copyOf(lineQuotes, Math.max(productId + 1, lineQuotes.length * 2));
+        }
+
+        return lineQuotes[productId];
+    }
+
+    private void removeUnordered() {
+        for (int id = quotedIds.nextSetBit(0); id >= 0; id = quotedIds.nextSetBit(id + 1)) {
+            if (!orderedIds.get(id)) {
+                remove(id);
+            }
+        }
+    }
+
+    private void add(final int productId, final LineQuote lineQuote) {
+        lineQuotes[productId] = lineQuote;
+        quotedIds.set(productId);
+        String name = lineQuote.product().getName();
+        orderedItems.put(productId, new OrderItemInfo(name, lineQuote.quantity(), lineQuote.price()));
+        if (lineQuote.freeQuantity() > 0) {
+            promotionalItems.put(productId, lineQuote.freeQuantity());
+        }
+        accumulate(lineQuote, 1);
+    }
+
+    private void remove(final int productId) {
+        LineQuote lineQuote = lineQuotes[productId];
+        if (lineQuote == null) {
+            return;
+        }
+
+        lineQuotes[productId] = null;
+        quotedIds.clear(productId);
+        orderedItems.remove(productId);
+        promotionalItems.remove(productId);
+        accumulate(lineQuote, -1);
+    }
+
+    // 항목의 금액을 더하거나(sign = 1) 빼서(sign = -1) 합계를 처음부터 다시 더하지 않는다
+    private void accumulate(final LineQuote lineQuote, final int sign) {
+        int unitPrice = lineQuote.unitPrice() * sign;
+        totalQuantity = Math.addExact(totalQuantity, lineQuote.quantity() * sign);
+        totalPrice.add(unitPrice, lineQuote.quantity());
+        promotionDiscount.add(unitPrice, lineQuote.freeQuantity());
+        priceAfterPromotion.add(unitPrice, lineQuote.quantity() - lineQuote.quantityInSets());
+    }
+
+    private ReceiptDto toReceipt(final OrderContext orderContext) {
+        Money membershipDiscount = Money.ZERO;
+        if (orderContext.isMembershipDiscountApplied()) {
+            membershipDiscount = orderContext.getMembershipDiscountSupplier().apply(priceAfterPromotion.total());
+        }
+
+        return new ReceiptDto(
+                orderedItemsByName(),
+                promotionalItemsByName(),
+                new PriceInfo(totalQuantity, totalPrice.total(), promotionDiscount.total(), membershipDiscount)
+        );
+    }
+
+    private Map<String, OrderItemInfo> orderedItemsByName() {
+        Map<String, OrderItemInfo> byName = new HashMap<>();
+        orderedItems.values().forEach(item -> byName.put(item.name(), item));
+        return byName;
+    }
+
+    private Map<String, Integer> promotionalItemsByName() {
+        Map<String, Integer> byName = new HashMap<>();
+        promotionalItems.forEach((productId, quantity) ->
+                byName.put(lineQuotes[productId].product().getName(), quantity));
+        return byName;
+    }
+
+    private record LineQuote(
+            Product product,
+            int quantity,
+            int unitPrice,
+            int promotionalQuantity,
+            int freeQuantity
+    ) {
+        private static LineQuote of(final Product product, final int quantity, final LocalDate orderDate) {
+            int promotionalQuantity = StockReservation.promotionalQuantityOf(product, quantity, orderDate);
+            return new LineQuote(
+                    product,
+                    quantity,
+                    product.getNormalStock().getPrice(),
+                    promotionalQuantity,
+                    StockReservation.freeQuantityOf(product, promotionalQuantity)
+            );
+        }
+
+        private Money price() {
+            return Money.priceOf(unitPrice, quantity);
+        }
+
+        private int quantityInSets() {
+            if (promotionalQuantity == 0) {
+                return 0;
+            }
+
+            return product.getPromotion().getCalculator().quantityInSets(promotionalQuantity);
+        }
+    }
+}
@@ -0,0 +1,292 @@
+package store.model.order;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+import store.metrics.event.StockReductionEvent;
+import store.model.domain.Product;
+import store.model.domain.ProductStock;
+import store.util.HashedTimingWheel;
+
+/**
+ * 주문에 포함된 모든 상품의 재고를 하나의 단위로 차감하거나 임시로 확보합니다. 차감할 재고가 속한 잠금 구간을 번호 순서대로 잠가 교착 상태 없이 다른 예약과 겹치지 않게 하며,
+ * 하나라도 실패하면 앞서 처리한 재고를 모두 되돌린 뒤 예외를 던집니다.
+ * <p>
+ * 잠금 구간은 64 개이므로 주문이 잠글 구간을 long 하나의 비트로 모으고, 차감 결과는 주문 항목 배열에 바로 기록하여 차감할 때 객체를 만들지 않습니다.
+ */
+public class StockReservation {
+    private static final String INSUFFICIENT_STOCK_MESSAGE = "재고가 부족합니다.";
+    private static final int STRIPE_COUNT = Long.SIZE;
+    private static final ReentrantLock[] STRIPES = createStripes();
+
+    private final List<Reduction> reductions = new ArrayList<>();
+    private final AtomicBoolean released = new AtomicBoolean();
+    private volatile HashedTimingWheel.Timeout expiry;
+
+    private StockReservation() {
+    }
+
+    private static ReentrantLock[] createStripes() {
+        ReentrantLock[] stripes = new ReentrantLock[STRIPE_COUNT];
+        for (int i = 0; i < STRIPE_COUNT; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+
+        return stripes;
+    }
+
+    /**
+     * 주문의 재고를 차감하고 주문 항목마다 일반/프로모션/증정 수량을 기록합니다. 주문에 임시 확보된 재고가 있다면 같은 잠금 안에서 먼저 풀어 준 뒤 차감합니다.
+     */
+    public static void reserve(final OrderContext orderContext) {
+        StockReductionEvent event = StockReductionEvent.start();
+        try {
+            reserveLocked(orderContext);
+            event.succeed();
+        } finally {
+            event.finish(orderContext.getOrderLines(), orderContext.getOrderDate());
+        }
+    }
+
+    private static void reserveLocked(final OrderContext orderContext) {
+        long stripes = findStripes(orderContext);
+        lock(stripes);
+
+        try {
+            orderContext.findStockHold().ifPresent(StockReservation::release);
+            reduce(orderContext.getOrderLines(), orderContext.getOrderDate());
+        } finally {
+            unlock(stripes);
+        }
+    }
+
+    /**
+     * 주문의 재고를 수량은 그대로 둔 채 다른 주문이 사용할 수 없도록 임시로 확보합니다.
+     */
+    public static StockReservation hold(final OrderContext orderContext) {
+        StockReservation reservation = new StockReservation();
+        long stripes = findStripes(orderContext);
+        lock(stripes);
+
+        try {
+            return reservation.hold(orderContext.getOrderLines(), orderContext.getOrderDate());
+        } finally {
+            unlock(stripes);
+        }
+    }
+
+    /**
+     * 주문이 사용할 수 있는 재고 수량을 반환합니다. 다른 주문이 확보하지 않은 수량에 이 주문이 임시로 확보해 둔 수량을 더하므로, 재고 차감 시 이 주문이 실제로 가져갈 수 있는 수량과
+     * 같습니다.
+     */
+    public static int availableQuantityOf(final OrderContext orderContext, final ProductStock stock) {
+        int heldQuantity = orderContext.findStockHold().map(stockHold -> stockHold.heldQuantityOf(stock)).orElse(0);
+        return stock.getAvailableQuantity() + heldQuantity;
+    }
+
+    /**
+     * 유지 시간이 지나면 확보한 재고를 풀도록 예약합니다. 그 전에 재고 차감 등으로 먼저 풀리면 예약을 취소합니다.
+     *
+     * @return 유지 시간 만료 예약
+     */
+    public HashedTimingWheel.Timeout expireAfter(final HashedTimingWheel timingWheel, final Duration holdDuration) {
+        HashedTimingWheel.Timeout timeout = timingWheel.schedule(holdDuration.toMillis(), this::release);
+        expiry = timeout;
+        // 예약하는 사이에 이미 풀렸다면 release() 가 예약을 보지 못했으므로 여기서 취소한다
+        if (released.get()) {
+            timeout.cancel();
+        }
+        return timeout;
+    }
+
+    /**
+     * 임시로 확보한 재고를 풀어 줍니다. 여러 번 호출해도 한 번만 풀어 주며, 유지 시간 만료 예약이 있다면 취소합니다.
+     *
+     * @return 이번 호출로 풀어 주었는지 여부
+     */
+    public boolean release() {
+        if (!released.compareAndSet(false, true)) {
+            return false;
+        }
+
+        reductions.forEach(reduction -> reduction.stock().releaseHold(reduction.quantity()));
+        cancelExpiry();
+        return true;
+    }
+
+    private void cancelExpiry() {
+        HashedTimingWheel.Timeout scheduled = expiry;
+        if (scheduled != null) {
+            scheduled.cancel();
+        }
+    }
+
+    private int heldQuantityOf(final ProductStock stock) {
+        if (released.get()) {
+            return 0;
+        }
+
+        int heldQuantity = 0;
+        for (Reduction reduction : reductions) {
+            if (reduction.stock().equals(stock)) {
+                heldQuantity += reduction.quantity();
+            }
+        }
+        return heldQuantity;
+    }
+
+    private static long findStripes(final OrderContext orderContext) {
+        OrderLines orderLines = orderContext.getOrderLines();
+        long stripes = 0;
+        for (int line = 0; line < orderLines.size(); line++) {
+            stripes |= stripesOf(orderLines.product(line));
+        }
+
+        return stripes | orderContext.findStockHold().map(StockReservation::stripesOfReductions).orElse(0L);
+    }
+
+    private static long stripesOf(final Product product) {
+        long stripes = stripeOf(product.getNormalStock());
+        if (product.getPromotionalStock() != null) {
+            stripes |= stripeOf(product.getPromotionalStock());
+        }
+        return stripes;
+    }
+
+    private long stripesOfReductions() {
+        long stripes = 0;
+        for (Reduction reduction : reductions) {
+            stripes |= stripeOf(reduction.stock());
+        }
+        return stripes;
+    }
+
+    private static long stripeOf(final ProductStock stock) {
+        return 1L << Math.floorMod(stock.hashCode(), STRIPE_COUNT);
+    }
+
+    // 낮은 번호의 구간부터 잠그고 푸는 순서는 상관없다
+    private static void lock(final long stripes) {
+        for (long remaining = stripes; remaining != 0; remaining &= remaining - 1) {
+            STRIPES[Long.numberOfTrailingZeros(remaining)].lock();
+        }
+    }
+
+    private static void unlock(final long stripes) {
+        for (long remaining = stripes; remaining != 0; remaining &= remaining - 1) {
+            STRIPES[Long.numberOfTrailingZeros(remaining)].unlock();
+        }
+    }
+
+    private static void reduce(final OrderLines orderLines, final LocalDate orderDate) {
+        for (int line = 0; line < orderLines.size(); line++) {
+            plan(orderLines, line, orderDate);
+        }
+
+        for (int line = 0; line < orderLines.size(); line++) {
+            reduceOrRollback(orderLines, line);
+        }
+    }
+
+    // 프로모션 재고를 최대한 사용하고, 남은 수량은 일반 재고에서 차감한다
+    private static void plan(final OrderLines orderLines, final int line, final LocalDate orderDate) {
+        Product product = orderLines.product(line);
+        int quantity = orderLines.quantity(line);
+        int promotionalQuantity = promotionalQuantityOf(product, quantity, orderDate);
+        int freeQuantity = freeQuantityOf(product, promotionalQuantity);
+
+        orderLines.recordReduction(line, quantity - promotionalQuantity, promotionalQuantity, freeQuantity);
+    }
+
+    static int promotionalQuantityOf(final Product product, final int quantity, final LocalDate orderDate) {
+        if (!product.isPromotional(orderDate)) {
+            return 0;
+        }
+
+        return Math.min(quantity, product.getPromotionalStock().getAvailableQuantity());
+    }
+
+    static int freeQuantityOf(final Product product, final int promotionalQuantity) {
+        if (promotionalQuantity == 0) {
+            return 0;
+        }
+
+        return product.getPromotion().getCalculator().freeQuantity(promotionalQuantity);
+    }
+
+    private static void reduceOrRollback(final OrderLines orderLines, final int line) {
+        if (!tryReduce(orderLines, line)) {
+            rollback(orderLines, line);
+            throw new IllegalStateException(INSUFFICIENT_STOCK_MESSAGE);
+        }
+    }
+
+    // 프로모션 재고를 차감한 뒤 일반 재고가 부족하면 이 항목의 프로모션 재고부터 되돌린다
+    private static boolean tryReduce(final OrderLines orderLines, final int line) {
+        Product product = orderLines.product(line);
+        if (!tryReduce(product.getPromotionalStock(), orderLines.promotionalQuantity(line))) {
+            return false;
+        }
+
+        if (!tryReduce(product.getNormalStock(), orderLines.normalQuantity(line))) {
+            restore(product.getPromotionalStock(), orderLines.promotionalQuantity(line));
+            return false;
+        }
+        return true;
+    }
+
+    private static boolean tryReduce(final ProductStock stock, final int quantity) {
+        return quantity == 0 || stock.tryReduce(quantity);
+    }
+
+    private static void rollback(final OrderLines orderLines, final int failedLine) {
+        for (int line = 0; line < failedLine; line++) {
+            Product product = orderLines.product(line);
+            restore(product.getPromotionalStock(), orderLines.promotionalQuantity(line));
+            restore(product.getNormalStock(), orderLines.normalQuantity(line));
+        }
+    }
+
+    private static void restore(final ProductStock stock, final int quantity) {
+        if (quantity > 0) {
+            stock.restoreQuantity(quantity);
+        }
+    }
+
+    private StockReservation hold(final OrderLines orderLines, final LocalDate orderDate) {
+        for (int line = 0; line < orderLines.size(); line++) {
+            Product product = orderLines.product(line);
+            int promotionalQuantity = promotionalQuantityOf(product, orderLines.quantity(line), orderDate);
+            addReduction(product.getPromotionalStock(), promotionalQuantity);
+            addReduction(product.getNormalStock(), orderLines.quantity(line) - promotionalQuantity);
+        }
+
+        for (int i = 0; i < reductions.size(); i++) {
+            holdOrRollback(i);
+        }
+        return this;
+    }
+
+    private void addReduction(final ProductStock stock, final int quantity) {
+        if (quantity > 0) {
+            reductions.add(new Reduction(stock, quantity));
+        }
+    }
+
+    private void holdOrRollback(final int index) {
+        Reduction reduction = reductions.get(index);
+        if (!reduction.stock().tryHold(reduction.quantity())) {
+            reductions.subList(0, index).forEach(held -> held.stock().releaseHold(held.quantity()));
+            throw new IllegalStateException(INSUFFICIENT_STOCK_MESSAGE);
+        }
+    }
+
+    private record Reduction(
+            ProductStock stock,
+            int quantity
+    ) {
+    }
+}
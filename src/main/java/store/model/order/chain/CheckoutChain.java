@@ -0,0 +1,20 @@
+package store.model.order.chain;
+
+/**
+ * 재고 검증을 마친 주문을 결제까지 진행하는 처리기 체인을 만듭니다. 고객에게 확인이 필요한 단계는 주문에 담긴 {@link store.model.order.OrderConfirmation} 으로 응답을
+ * 얻습니다.
+ */
+public class CheckoutChain {
+    private CheckoutChain() {
+    }
+
+    public static OrderChain create() {
+        return OrderChain.of(
+                new PromotionalItemAdditionHandler(),
+                new InsufficientPromotionalStockHandler(),
+                new MembershipDiscountHandler(),
+                new InventoryReduceHandler(),
+                new PurchaseHandler()
+        );
+    }
+}
@@ -0,0 +1,140 @@
+package store.model.order.chain;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+import store.dto.ReceiptDto;
+import store.dto.ReceiptDto.OrderItemInfo;
+import store.dto.ReceiptDto.PriceInfo;
+import store.model.domain.Product;
+import store.model.domain.Promotion;
+import store.model.domain.PromotionCalculator;
+import store.model.order.OrderContext;
+import store.model.order.OrderLines;
+import store.model.order.StockReservation;
+import store.vo.Money;
+import store.vo.MoneyAccumulator;
+
+/**
+ * 증정 상품 추가부터 영수증 작성까지를 하나의 처리기에서 수행합니다. {@link CheckoutChain} 의 처리기들이 각자 주문 항목을 순회하며 프로모션 적용 여부와 세트 크기를 다시
+ * 계산하는 대신, 주문 항목마다 한 번씩만 계산하여 수량을 조정하고 재고 차감 결과를 한 번 순회하여 영수증의 모든 금액을 구합니다.
+ * <p>
+ * 만들어지는 영수증은 체인과 같지만, 확인 질문은 모든 상품의 증정 질문 뒤에 정가 구매 질문이 오는 대신 상품별로 이어서 나옵니다.
+ */
+public class FusedCheckoutHandler extends OrderHandler {
+    private final MembershipDiscountHandler membershipDiscountHandler = new MembershipDiscountHandler();
+
+    @Override
+    protected void process(final OrderContext orderContext) {
+        LocalDate orderDate = orderContext.getOrderDate();
+        OrderLines orderLines = orderContext.getOrderLines();
+
+        for (int line = 0; line < orderLines.size(); line++) {
+            if (orderLines.product(line).isPromotional(orderDate)) {
+                adjustQuantity(orderContext, line);
+            }
+        }
+        orderLines.removeEmptyLines();
+
+        // 멤버십 확인은 체인에서와 같이 처리기 지표와 확인 대기 시간이 따로 기록되도록 handle 로 실행한다
+        membershipDiscountHandler.handle(orderContext);
+        StockReservation.reserve(orderContext);
+        orderContext.attachReceipt(ReceiptTotals.of(orderContext).toReceipt());
+    }
+
+    // 증정 상품을 추가할 수 있는 수량이라면 프로모션 재고가 주문 수량보다 많으므로 정가 구매를 묻지 않는다
+    private void adjustQuantity(final OrderContext orderContext, final int line) {
+        Product product = orderContext.getOrderLines().product(line);
+        int quantity = orderContext.getOrderLines().quantity(line);
+        PromotionCalculator calculator = product.getPromotion().getCalculator();
+        int promotionalStock = StockReservation.availableQuantityOf(orderContext, product.getPromotionalStock());
+        int freeQuantity = calculator.topUpQuantity(quantity, promotionalStock);
+
+        if (freeQuantity > 0) {
+            offerFreeItems(orderContext, line, freeQuantity);
+            return;
+        }
+
+        confirmNormalPrice(orderContext, line, calculator.normalPriceQuantity(quantity, promotionalStock));
+    }
+
+    private void offerFreeItems(final OrderContext orderContext, final int line, final int freeQuantity) {
+        OrderLines orderLines = orderContext.getOrderLines();
+        if (orderContext.getConfirmation().confirmPromotionalItem(orderLines.product(line).getName(), freeQuantity)) {
+            orderLines.addQuantity(line, freeQuantity);
+        }
+    }
+
+    // 정가 구매를 거절하면 수량을 프로모션 세트 단위로 줄이고, 0 이 된 항목은 모든 항목을 조정한 뒤 삭제한다
+    private void confirmNormalPrice(final OrderContext orderContext, final int line, final int normalPriceQuantity) {
+        OrderLines orderLines = orderContext.getOrderLines();
+        String productName = orderLines.product(line).getName();
+
+        if (normalPriceQuantity == 0
+                || orderContext.getConfirmation().confirmNormalPrice(productName, normalPriceQuantity)) {
+            return;
+        }
+
+        orderLines.updateQuantity(line, orderLines.quantity(line) - normalPriceQuantity);
+    }
+
+    private static class ReceiptTotals {
+        private final Map<String, OrderItemInfo> orderedItems = new HashMap<>();
+        private final Map<String, Integer> promotionalItems = new HashMap<>();
+        private final MoneyAccumulator totalPrice = new MoneyAccumulator();
+        private final MoneyAccumulator promotionDiscount = new MoneyAccumulator();
+        private final MoneyAccumulator priceAfterPromotion = new MoneyAccumulator();
+        private int totalQuantity;
+        private Money membershipDiscount = Money.ZERO;
+
+        private static ReceiptTotals of(final OrderContext orderContext) {
+            ReceiptTotals totals = new ReceiptTotals();
+            OrderLines orderLines = orderContext.getOrderLines();
+            for (int line = 0; line < orderLines.size(); line++) {
+                totals.add(orderLines, line);
+            }
+
+            if (orderContext.isMembershipDiscountApplied()) {
+                totals.membershipDiscount = orderContext.getMembershipDiscountSupplier()
+                        .apply(totals.priceAfterPromotion.total());
+            }
+            return totals;
+        }
+
+        private void add(final OrderLines orderLines, final int line) {
+            Product product = orderLines.product(line);
+            int quantity = orderLines.quantity(line);
+            int price = product.getNormalStock().getPrice();
+            Money itemPrice = Money.priceOf(price, quantity);
+            orderedItems.put(product.getName(), new OrderItemInfo(product.getName(), quantity, itemPrice));
+            totalQuantity = Math.addExact(totalQuantity, quantity);
+            totalPrice.add(price, quantity);
+            priceAfterPromotion.add(price, quantity - quantityInSets(orderLines, line));
+            addFreeItems(product, orderLines.freeQuantity(line), price);
+        }
+
+        private void addFreeItems(final Product product, final int freeQuantity, final int price) {
+            if (product.getPromotion() != null && freeQuantity > 0) {
+                promotionalItems.put(product.getName(), freeQuantity);
+                promotionDiscount.add(price, freeQuantity);
+            }
+        }
+
+        private static int quantityInSets(final OrderLines orderLines, final int line) {
+            Promotion promotion = orderLines.product(line).getPromotion();
+            if (promotion == null) {
+                return 0;
+            }
+
+            return promotion.getCalculator().quantityInSets(orderLines.promotionalQuantity(line));
+        }
+
+        private ReceiptDto toReceipt() {
+            return new ReceiptDto(
+                    orderedItems,
+                    promotionalItems,
+                    new PriceInfo(totalQuantity, totalPrice.total(), promotionDiscount.total(), membershipDiscount)
+            );
+        }
+    }
+}
@@ -1,62 +1,48 @@
 package store.model.order.chain;
 
 import java.time.LocalDate;
-import java.util.function.BiFunction;
 import store.model.domain.Product;
-import store.model.domain.ProductStock;
-import store.model.domain.Promotion;
 import store.model.order.OrderContext;
+import store.model.order.OrderLines;
+import store.model.order.StockReservation;
 
 public class InsufficientPromotionalStockHandler extends OrderHandler {
-    private final BiFunction<String, Integer, Boolean> normalPriceConfirmationCallback;
-
-    public InsufficientPromotionalStockHandler(
-            final BiFunction<String, Integer, Boolean> normalPriceConfirmationCallback
-    ) {
-        this.normalPriceConfirmationCallback = normalPriceConfirmationCallback;
-    }
-
     @Override
     protected void process(final OrderContext orderContext) {
         LocalDate orderDate = orderContext.getOrderDate();
+        OrderLines orderLines = orderContext.getOrderLines();
 
-        orderContext.getOrderItems().forEach((product, quantity) -> {
-            if (product.isPromotional(orderDate)) {
-                processPromotionalProduct(orderContext, product, quantity);
+        for (int line = 0; line < orderLines.size(); line++) {
+            if (orderLines.product(line).isPromotional(orderDate)) {
+                processPromotionalProduct(orderContext, orderLines, line);
             }
-        });
-    }
+        }
 
-    private void processPromotionalProduct(final OrderContext orderContext, final Product product, final int quantity) {
-        ProductStock promotionalStock = product.getPromotionalStock();
-        Promotion promotion = product.getPromotion();
-        int promotionSetSize = promotion.getBuy() + promotion.getGet();
+        // 정가 구매를 거절하여 수량이 0 이 된 항목은 순회가 끝난 뒤 삭제한다
+        orderLines.removeEmptyLines();
+    }
 
-        int availableFullSets = promotionalStock.getQuantity() / promotionSetSize;
-        int maxPromotionalQuantity = availableFullSets * promotionSetSize;
+    private void processPromotionalProduct(final OrderContext orderContext, final OrderLines orderLines, final int line) {
+        Product product = orderLines.product(line);
+        int quantity = orderLines.quantity(line);
+        int promotionalStock = StockReservation.availableQuantityOf(orderContext, product.getPromotionalStock());
+        int normalPriceQuantity = product.getPromotion().getCalculator().normalPriceQuantity(quantity, promotionalStock);
 
-        if (quantity > maxPromotionalQuantity && promotionalStock.getQuantity() < quantity) {
-            handleExcessQuantity(orderContext, product, quantity, maxPromotionalQuantity);
+        if (normalPriceQuantity > 0) {
+            handleExcessQuantity(orderContext, line, quantity, normalPriceQuantity);
         }
     }
 
     private void handleExcessQuantity(
             final OrderContext orderContext,
-            final Product product,
+            final int line,
             final int originalQuantity,
-            final int maxPromotionalQuantity
+            final int excessQuantity
     ) {
-        int excessQuantity = originalQuantity - maxPromotionalQuantity;
+        OrderLines orderLines = orderContext.getOrderLines();
 
-        if (normalPriceConfirmationCallback.apply(product.getName(), excessQuantity)) {
-            return;
+        if (!orderContext.getConfirmation().confirmNormalPrice(orderLines.product(line).getName(), excessQuantity)) {
+            orderLines.updateQuantity(line, originalQuantity - excessQuantity);
         }
-
-        if (maxPromotionalQuantity <= 0) {
-            orderContext.removeOrderItem(product);
-            return;
-        }
-
-        orderContext.updateOrderQuantity(product, maxPromotionalQuantity);
     }
 }
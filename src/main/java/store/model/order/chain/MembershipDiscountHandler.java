@@ -1,28 +1,19 @@
 package store.model.order.chain;
 
 import java.util.function.Function;
-import java.util.function.Supplier;
 import store.model.order.OrderContext;
+import store.vo.Money;
 
 public class MembershipDiscountHandler extends OrderHandler {
-    private static final double MEMBERSHIP_DISCOUNT_RATE = 0.3;
-    private static final int MAX_DISCOUNT_AMOUNT = 8000;
-
-    private final Supplier<Boolean> membershipConfirmSupplier;
-
-    public MembershipDiscountHandler(final Supplier<Boolean> membershipConfirmSupplier) {
-        this.membershipConfirmSupplier = membershipConfirmSupplier;
-    }
+    private static final int MEMBERSHIP_DISCOUNT_PERCENT = 30;
+    private static final Money MAX_DISCOUNT_AMOUNT = Money.of(8000);
+    private static final Function<Money, Money> MEMBERSHIP_DISCOUNT_CALCULATOR = (priceWithoutPromotion) ->
+            priceWithoutPromotion.percent(MEMBERSHIP_DISCOUNT_PERCENT).min(MAX_DISCOUNT_AMOUNT);
 
     @Override
     protected void process(final OrderContext orderContext) {
-        if (membershipConfirmSupplier.get()) {
-            Function<Integer, Integer> membershipDiscountCalculator = (priceWithoutPromotion) -> {
-                int calculatedDiscount = (int) (priceWithoutPromotion * MEMBERSHIP_DISCOUNT_RATE);
-                return Math.min(calculatedDiscount, MAX_DISCOUNT_AMOUNT);
-            };
-
-            orderContext.setMembershipDiscountSupplier(membershipDiscountCalculator);
+        if (orderContext.getConfirmation().confirmMembership()) {
+            orderContext.setMembershipDiscountSupplier(MEMBERSHIP_DISCOUNT_CALCULATOR);
         }
     }
 }
@@ -0,0 +1,37 @@
+package store.model.order.chain;
+
+import java.util.ArrayList;
+import java.util.List;
+import store.model.order.OrderContext;
+
+/**
+ * 주문 처리기를 정해진 순서대로 실행하는 변경할 수 없는 체인입니다. 처리기는 주문별 상태와 고객 확인 방법을 {@link OrderContext} 에서만 얻으므로, 한 번 만든 체인을 여러 주문이
+ * 동시에 사용할 수 있습니다.
+ */
+public class OrderChain {
+    private final List<OrderHandler> handlers;
+
+    private OrderChain(final List<OrderHandler> handlers) {
+        this.handlers = List.copyOf(handlers);
+    }
+
+    public static OrderChain of(final OrderHandler... handlers) {
+        return new OrderChain(List.of(handlers));
+    }
+
+    /**
+     * 이 체인 뒤에 다른 체인을 이어 붙인 새 체인을 반환합니다. 두 체인은 바뀌지 않습니다.
+     */
+    public OrderChain then(final OrderChain next) {
+        List<OrderHandler> joined = new ArrayList<>(handlers);
+        joined.addAll(next.handlers);
+
+        return new OrderChain(joined);
+    }
+
+    public void handle(final OrderContext context) {
+        for (OrderHandler handler : handlers) {
+            handler.handle(context);
+        }
+    }
+}
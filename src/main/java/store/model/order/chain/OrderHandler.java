@@ -1,22 +1,44 @@
 package store.model.order.chain;
 
+import store.metrics.ConfirmationTimer;
+import store.metrics.HandlerMetrics;
+import store.metrics.HandlerMetricsRegistry;
+import store.metrics.event.OrderHandlerEvent;
 import store.model.order.OrderContext;
 
+/**
+ * 주문 처리의 한 단계입니다. 주문별 상태는 {@link OrderContext} 에만 두며, 여러 단계는 {@link OrderChain} 으로 묶어 실행합니다.
+ * <p>
+ * 실행할 때마다 처리기 종류별 호출 수, 오류 수와 처리 시간을 {@link HandlerMetricsRegistry} 에 기록합니다. 고객 확인을 기다린 시간은 처리 시간에서 빼고 따로 기록합니다.
+ * JFR 기록 중에는 실행마다 {@link OrderHandlerEvent} 를 남깁니다.
+ */
 public abstract class OrderHandler {
-    protected OrderHandler nextHandler;
-
-    public OrderHandler setNext(final OrderHandler handler) {
-        this.nextHandler = handler;
-        return handler;
-    }
+    private final HandlerMetrics metrics = HandlerMetricsRegistry.global().metricsFor(getClass());
 
     public void handle(final OrderContext context) {
-        process(context);
+        OrderHandlerEvent event = OrderHandlerEvent.start();
+        long waitedBefore = ConfirmationTimer.waitedNanos();
+        long startNanos = System.nanoTime();
 
-        if (nextHandler != null) {
-            nextHandler.handle(context);
+        try {
+            process(context);
+        } catch (RuntimeException e) {
+            metrics.recordError();
+            throw e;
+        } finally {
+            record(event, context, System.nanoTime() - startNanos, ConfirmationTimer.waitedNanos() - waitedBefore);
         }
     }
 
+    private void record(
+            final OrderHandlerEvent event,
+            final OrderContext context,
+            final long elapsedNanos,
+            final long waitedNanos
+    ) {
+        metrics.record(elapsedNanos, waitedNanos);
+        event.finish(metrics.getHandlerName(), context, waitedNanos);
+    }
+
     protected abstract void process(final OrderContext context);
 }
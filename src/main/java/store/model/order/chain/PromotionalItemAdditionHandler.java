@@ -1,73 +1,47 @@
 package store.model.order.chain;
 
 import java.time.LocalDate;
-import java.util.HashMap;
-import java.util.Map;
-import java.util.function.BiFunction;
 import store.model.domain.Product;
-import store.model.domain.Promotion;
+import store.model.order.OrderConfirmation;
 import store.model.order.OrderContext;
+import store.model.order.OrderLines;
+import store.model.order.StockReservation;
 
 public class PromotionalItemAdditionHandler extends OrderHandler {
-    private final BiFunction<String, Integer, Boolean> promotionConfirmationCallback;
-
-    public PromotionalItemAdditionHandler(final BiFunction<String, Integer, Boolean> promotionConfirmationCallback) {
-        this.promotionConfirmationCallback = promotionConfirmationCallback;
-    }
-
     @Override
     protected void process(final OrderContext orderContext) {
         LocalDate orderDate = orderContext.getOrderDate();
-        Map<Product, Integer> promotionalItems = new HashMap<>();
+        OrderLines orderLines = orderContext.getOrderLines();
 
-        orderContext.getOrderItems().forEach((product, quantity) -> {
-            if (product.isPromotional(orderDate)) {
-                processPromotionalItem(product, quantity, promotionalItems);
+        for (int line = 0; line < orderLines.size(); line++) {
+            if (orderLines.product(line).isPromotional(orderDate)) {
+                processPromotionalItem(orderContext, orderLines, line);
             }
-        });
-
-        promotionalItems.forEach(orderContext::addOrderQuantity);
+        }
     }
 
+    // 추가할 수량은 항목 자신의 수량으로만 정해지므로 확인 즉시 수량을 더해도 다른 항목에 영향이 없다
     private void processPromotionalItem(
-            final Product product,
-            final int quantity,
-            final Map<Product, Integer> promotionalItems
+            final OrderContext orderContext,
+            final OrderLines orderLines,
+            final int line
     ) {
-        int promotionalQuantity = calculateAdditionalQuantity(product, quantity);
-
-        if (promotionalQuantity > 0 && promotionConfirmationCallback.apply(product.getName(), promotionalQuantity)) {
-            promotionalItems.put(product, promotionalQuantity);
-        }
-    }
-
-    private int calculateAdditionalQuantity(final Product product, final int currentQuantity) {
-        int promotionalQuantity = calculatePromotionalQuantity(product.getPromotion(), currentQuantity);
-
-        if (promotionalQuantity == 0 || !hasEnoughPromotionalStock(product, currentQuantity, promotionalQuantity)) {
-            return 0;
-        }
+        Product product = orderLines.product(line);
+        int promotionalQuantity = calculateAdditionalQuantity(orderContext, product, orderLines.quantity(line));
+        OrderConfirmation confirmation = orderContext.getConfirmation();
 
-        return promotionalQuantity;
-    }
-
-    private int calculatePromotionalQuantity(final Promotion promotion, final int currentQuantity) {
-        int requiredQuantity = promotion.getBuy();
-        int promotionSetSize = requiredQuantity + promotion.getGet();
-        int remainingQuantity = currentQuantity % promotionSetSize;
-
-        if (remainingQuantity < requiredQuantity) {
-            return 0;
+        if (promotionalQuantity > 0 && confirmation.confirmPromotionalItem(product.getName(), promotionalQuantity)) {
+            orderLines.addQuantity(line, promotionalQuantity);
         }
-
-        return promotionSetSize - remainingQuantity;
     }
 
-    private boolean hasEnoughPromotionalStock(
+    // 다른 주문이 확보한 수량은 빼고 이 주문이 확보해 둔 수량은 더한 프로모션 재고로 추가 수량을 정한다
+    private int calculateAdditionalQuantity(
+            final OrderContext orderContext,
             final Product product,
-            final int currentQuantity,
-            final int promotionalQuantity
+            final int currentQuantity
     ) {
-        return currentQuantity + promotionalQuantity <= product.getPromotionalStock().getQuantity();
+        int promotionalStock = StockReservation.availableQuantityOf(orderContext, product.getPromotionalStock());
+        return product.getPromotion().getCalculator().topUpQuantity(currentQuantity, promotionalStock);
     }
 }
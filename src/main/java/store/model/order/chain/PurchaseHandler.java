@@ -2,14 +2,16 @@ package store.model.order.chain;
 
 import java.util.HashMap;
 import java.util.Map;
-import java.util.Map.Entry;
+import java.util.function.IntUnaryOperator;
 import store.dto.ReceiptDto;
 import store.dto.ReceiptDto.OrderItemInfo;
 import store.dto.ReceiptDto.PriceInfo;
-import store.dto.StockReduceResultDto;
 import store.model.domain.Product;
 import store.model.domain.Promotion;
 import store.model.order.OrderContext;
+import store.model.order.OrderLines;
+import store.vo.Money;
+import store.vo.MoneyAccumulator;
 
 public class PurchaseHandler extends OrderHandler {
 
@@ -20,139 +22,90 @@ public class PurchaseHandler extends OrderHandler {
     }
 
     private ReceiptDto generateReceipt(final OrderContext orderContext) {
-        Map<Product, StockReduceResultDto> stockReduceResults = orderContext.getStockReduceResults();
-        Map<Product, Integer> orderItems = orderContext.getOrderItems();
+        OrderLines orderLines = orderContext.getOrderLines();
 
         return new ReceiptDto(
-                createOrderedItems(orderItems),
-                createPromotionalItems(stockReduceResults),
-                calculatePriceInfo(orderContext, orderItems, stockReduceResults)
+                createOrderedItems(orderLines),
+                createPromotionalItems(orderLines),
+                calculatePriceInfo(orderContext, orderLines)
         );
     }
 
-    private Map<String, OrderItemInfo> createOrderedItems(final Map<Product, Integer> orderItems) {
-        return orderItems.entrySet().stream()
-                .collect(HashMap::new,
-                        (map, entry) -> map.put(
-                                entry.getKey().getName(),
-                                createOrderItemInfo(entry)
-                        ),
-                        HashMap::putAll
-                );
+    private Map<String, OrderItemInfo> createOrderedItems(final OrderLines orderLines) {
+        Map<String, OrderItemInfo> orderedItems = new HashMap<>();
+        for (int line = 0; line < orderLines.size(); line++) {
+            orderedItems.put(orderLines.product(line).getName(), createOrderItemInfo(orderLines, line));
+        }
+        return orderedItems;
     }
 
-    private OrderItemInfo createOrderItemInfo(final Entry<Product, Integer> entry) {
-        Product product = entry.getKey();
-        int quantity = entry.getValue();
-        int price = calculateItemPrice(product, quantity);
+    private OrderItemInfo createOrderItemInfo(final OrderLines orderLines, final int line) {
+        Product product = orderLines.product(line);
+        int quantity = orderLines.quantity(line);
 
-        return new OrderItemInfo(product.getName(), quantity, price);
+        return new OrderItemInfo(product.getName(), quantity, Money.priceOf(unitPriceOf(product), quantity));
     }
 
-    private int calculateItemPrice(final Product product, final int quantity) {
-        return product.getNormalStock().getPrice() * quantity;
+    private static int unitPriceOf(final Product product) {
+        return product.getNormalStock().getPrice();
     }
 
-    private Map<String, Integer> createPromotionalItems(
-            final Map<Product, StockReduceResultDto> stockReduceResults
-    ) {
-        return stockReduceResults.entrySet().stream()
-                .filter(entry -> entry.getKey().getPromotion() != null)
-                .filter(entry ->
-                        entry.getValue().freeQuantity() > 0)
-                .collect(HashMap::new,
-                        (map, entry) -> map.put(
-                                entry.getKey().getName(),
-                                entry.getValue().freeQuantity()
-                        ),
-                        HashMap::putAll
-                );
+    private Map<String, Integer> createPromotionalItems(final OrderLines orderLines) {
+        Map<String, Integer> promotionalItems = new HashMap<>();
+        for (int line = 0; line < orderLines.size(); line++) {
+            if (hasFreeItems(orderLines, line)) {
+                promotionalItems.put(orderLines.product(line).getName(), orderLines.freeQuantity(line));
+            }
+        }
+        return promotionalItems;
     }
 
-    private PriceInfo calculatePriceInfo(
-            final OrderContext orderContext,
-            final Map<Product, Integer> orderItems,
-            final Map<Product, StockReduceResultDto> stockReduceResults
-    ) {
-        int totalQuantity = calculateTotalQuantity(orderItems);
-        int totalPrice = calculateTotalPrice(orderItems);
-        int promotionDiscount = calculatePromotionDiscount(stockReduceResults);
-        int membershipDiscount = calculateMembershipDiscount(orderContext, orderItems, stockReduceResults);
-
-        return new PriceInfo(totalQuantity, totalPrice, promotionDiscount, membershipDiscount);
+    private boolean hasFreeItems(final OrderLines orderLines, final int line) {
+        return orderLines.product(line).getPromotion() != null && orderLines.freeQuantity(line) > 0;
     }
 
-    private int calculateTotalQuantity(final Map<Product, Integer> orderItems) {
-        return orderItems.values().stream()
-                .mapToInt(Integer::intValue)
-                .sum();
-    }
+    private PriceInfo calculatePriceInfo(final OrderContext orderContext, final OrderLines orderLines) {
+        int totalQuantity = orderLines.totalQuantity();
+        Money totalPrice = sum(orderLines, orderLines::quantity);
+        Money promotionDiscount = sum(orderLines, line -> calculateFreeQuantityForLine(orderLines, line));
+        Money membershipDiscount = calculateMembershipDiscount(orderContext, orderLines);
 
-    private int calculateTotalPrice(final Map<Product, Integer> orderItems) {
-        return orderItems.entrySet().stream()
-                .mapToInt(entry -> calculateItemPrice(entry.getKey(), entry.getValue()))
-                .sum();
+        return new PriceInfo(totalQuantity, totalPrice, promotionDiscount, membershipDiscount);
     }
 
-    private int calculatePromotionDiscount(
-            final Map<Product, StockReduceResultDto> stockReduceResults
-    ) {
-        return stockReduceResults.entrySet().stream()
-                .filter(entry -> entry.getKey().getPromotion() != null)
-                .mapToInt(entry -> calculatePromotionDiscountForProduct(entry.getKey(), entry.getValue()))
-                .sum();
-    }
+    private int calculateFreeQuantityForLine(final OrderLines orderLines, final int line) {
+        if (orderLines.product(line).getPromotion() == null) {
+            return 0;
+        }
 
-    private int calculatePromotionDiscountForProduct(final Product product, final StockReduceResultDto result) {
-        int freeItems = result.freeQuantity();
-        return freeItems * product.getNormalStock().getPrice();
+        return orderLines.freeQuantity(line);
     }
 
-    private int calculateMembershipDiscount(
-            final OrderContext orderContext,
-            final Map<Product, Integer> orderItems,
-            final Map<Product, StockReduceResultDto> stockReduceResults
-    ) {
+    private Money calculateMembershipDiscount(final OrderContext orderContext, final OrderLines orderLines) {
         if (!orderContext.isMembershipDiscountApplied()) {
-            return 0;
+            return Money.ZERO;
         }
 
-        int priceAfterPromotion = calculatePriceAfterPromotion(orderItems, stockReduceResults);
+        Money priceAfterPromotion = sum(orderLines, line -> calculateQuantityAfterPromotion(orderLines, line));
         return orderContext.getMembershipDiscountSupplier().apply(priceAfterPromotion);
     }
 
-    private int calculatePriceAfterPromotion(
-            final Map<Product, Integer> orderItems,
-            final Map<Product, StockReduceResultDto> stockReduceResults
-    ) {
-        return stockReduceResults.entrySet().stream()
-                .mapToInt(entry -> calculateProductPriceAfterPromotion(entry.getKey(), entry.getValue(), orderItems))
-                .sum();
-    }
-
-    private int calculateProductPriceAfterPromotion(
-            Product product,
-            StockReduceResultDto result,
-            Map<Product, Integer> orderItems
-    ) {
-        if (product.getPromotion() == null) {
-            return calculateItemPrice(product, orderItems.get(product));
+    private int calculateQuantityAfterPromotion(final OrderLines orderLines, final int line) {
+        Promotion promotion = orderLines.product(line).getPromotion();
+        if (promotion == null) {
+            return orderLines.quantity(line);
         }
 
-        int remainingQuantity = calculateRemainingQuantity(product.getPromotion(), result, orderItems.get(product));
-        return calculateItemPrice(product, remainingQuantity);
+        int promotionalQuantity = orderLines.promotionalQuantity(line);
+        return orderLines.quantity(line) - promotion.getCalculator().quantityInSets(promotionalQuantity);
     }
 
-    private int calculateRemainingQuantity(
-            final Promotion promotion,
-            final StockReduceResultDto result,
-            final int totalQuantity
-    ) {
-        int promotionalQuantity = result.promotionalQuantity();
-        int setSize = promotion.getSetSize();
-        int setCount = promotionalQuantity / setSize;
-        int quantityInSets = setCount * setSize;
-
-        return totalQuantity - quantityInSets;
+    // 항목마다 금액 객체를 만들지 않도록 정가와 수량을 곱한 값을 누적기 하나에 더한다
+    private static Money sum(final OrderLines orderLines, final IntUnaryOperator quantity) {
+        MoneyAccumulator total = new MoneyAccumulator();
+        for (int line = 0; line < orderLines.size(); line++) {
+            total.add(unitPriceOf(orderLines.product(line)), quantity.applyAsInt(line));
+        }
+        return total.total();
     }
 }
@@ -0,0 +1,36 @@
+package store.model.order.chain;
+
+import static store.constant.ExceptionMessage.INSUFFICIENT_STOCK;
+
+import java.time.Duration;
+import store.model.order.OrderContext;
+import store.model.order.StockReservation;
+import store.util.HashedTimingWheel;
+
+/**
+ * 고객의 응답을 기다리는 동안 다른 주문이 재고를 가져가지 않도록 주문 재고를 임시로 확보합니다. 확보한 재고는 재고 차감 시 풀리며, 그 전에 유지 시간이 지나면 자동으로 풀립니다.
+ */
+public class StockHoldHandler extends OrderHandler {
+    private final HashedTimingWheel timingWheel;
+    private final Duration holdDuration;
+
+    public StockHoldHandler(final HashedTimingWheel timingWheel, final Duration holdDuration) {
+        this.timingWheel = timingWheel;
+        this.holdDuration = holdDuration;
+    }
+
+    @Override
+    protected void process(final OrderContext orderContext) {
+        StockReservation stockHold = hold(orderContext);
+        orderContext.attachStockHold(stockHold);
+        stockHold.expireAfter(timingWheel, holdDuration);
+    }
+
+    private StockReservation hold(final OrderContext orderContext) {
+        try {
+            return StockReservation.hold(orderContext);
+        } catch (IllegalStateException e) {
+            throw new IllegalArgumentException(INSUFFICIENT_STOCK.message(), e);
+        }
+    }
+}
@@ -5,13 +5,17 @@ import static store.constant.ExceptionMessage.INSUFFICIENT_STOCK;
 import java.time.LocalDate;
 import store.model.domain.Product;
 import store.model.order.OrderContext;
+import store.model.order.OrderLines;
 
 public class StockValidationHandler extends OrderHandler {
     @Override
     protected void process(final OrderContext orderContext) {
         LocalDate orderDate = orderContext.getOrderDate();
-        orderContext.getOrderItems()
-                .forEach((product, orderQuantity) -> validateStock(orderDate, product, orderQuantity));
+        OrderLines orderLines = orderContext.getOrderLines();
+
+        for (int line = 0; line < orderLines.size(); line++) {
+            validateStock(orderDate, orderLines.product(line), orderLines.quantity(line));
+        }
     }
 
     private void validateStock(final LocalDate orderDate, final Product product, final int orderQuantity) {
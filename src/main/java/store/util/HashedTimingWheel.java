@@ -0,0 +1,149 @@
+package store.util;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.LongSupplier;
+
+/**
+ * 지정한 시간이 지난 작업을 실행하는 해시 타이밍 휠입니다. 작업마다 타이머를 두지 않고 만료 틱에 해당하는 칸에 모아 두었다가, 틱마다 현재 칸의 작업만 확인합니다. 예약된 작업이
+ * 많아도 하나의 스레드로 동작하며, 만료 시각은 틱 단위로 올림하여 처리합니다.
+ */
+public class HashedTimingWheel implements AutoCloseable {
+    private static final String WORKER_NAME = "timing-wheel";
+    private static final long NANOS_PER_MILLI = 1_000_000;
+
+    private final long tickMillis;
+    private final List<Queue<Timeout>> buckets = new ArrayList<>();
+    private final Queue<Timeout> pending = new ConcurrentLinkedQueue<>();
+    private final LongSupplier clock;
+    private final long startMillis;
+    private long tick;
+    private Thread worker;
+
+    private HashedTimingWheel(final long tickMillis, final int wheelSize, final LongSupplier clock) {
+        this.tickMillis = tickMillis;
+        this.clock = clock;
+        this.startMillis = clock.getAsLong();
+        for (int i = 0; i < wheelSize; i++) {
+            buckets.add(new ArrayDeque<>());
+        }
+    }
+
+    /**
+     * 틱마다 만료된 작업을 실행하는 데몬 스레드와 함께 휠을 시작합니다.
+     */
+    public static HashedTimingWheel start(final long tickMillis, final int wheelSize) {
+        HashedTimingWheel wheel = new HashedTimingWheel(
+                tickMillis, wheelSize, () -> System.nanoTime() / NANOS_PER_MILLI
+        );
+        wheel.worker = Thread.ofPlatform().daemon().name(WORKER_NAME).start(wheel::run);
+        return wheel;
+    }
+
+    /**
+     * 스레드 없이 휠을 만듭니다. 만료된 작업은 {@link #expireDue()} 를 호출할 때 실행됩니다.
+     *
+     * @param clock 밀리초 단위의 현재 시각
+     */
+    public static HashedTimingWheel manual(final long tickMillis, final int wheelSize, final LongSupplier clock) {
+        return new HashedTimingWheel(tickMillis, wheelSize, clock);
+    }
+
+    public Timeout schedule(final long delayMillis, final Runnable task) {
+        Timeout timeout = new Timeout(clock.getAsLong() + delayMillis, task);
+        pending.add(timeout);
+        return timeout;
+    }
+
+    /**
+     * 현재 시각까지 지나간 틱의 칸을 차례로 확인하여 만료된 작업을 실행합니다.
+     */
+    public synchronized void expireDue() {
+        long currentTick = (clock.getAsLong() - startMillis) / tickMillis;
+        transferPending();
+
+        while (tick <= currentTick) {
+            expireBucket(buckets.get(bucketIndex(tick)));
+            tick++;
+        }
+    }
+
+    private void transferPending() {
+        Timeout timeout = pending.poll();
+
+        while (timeout != null) {
+            timeout.deadlineTick = Math.max(tick, Math.ceilDiv(timeout.deadlineMillis - startMillis, tickMillis));
+            buckets.get(bucketIndex(timeout.deadlineTick)).add(timeout);
+            timeout = pending.poll();
+        }
+    }
+
+    // 휠을 한 바퀴 이상 돌아야 하는 작업은 만료 틱이 될 때까지 칸에 남겨 둔다
+    private void expireBucket(final Queue<Timeout> bucket) {
+        Iterator<Timeout> timeouts = bucket.iterator();
+
+        while (timeouts.hasNext()) {
+            Timeout timeout = timeouts.next();
+            if (timeout.isCancelled() || timeout.deadlineTick <= tick) {
+                timeouts.remove();
+                timeout.expire();
+            }
+        }
+    }
+
+    private int bucketIndex(final long targetTick) {
+        return (int) (targetTick % buckets.size());
+    }
+
+    private void run() {
+        while (sleepTick()) {
+            expireDue();
+        }
+    }
+
+    private boolean sleepTick() {
+        try {
+            Thread.sleep(tickMillis);
+            return true;
+        } catch (InterruptedException e) {
+            return false;
+        }
+    }
+
+    @Override
+    public void close() {
+        if (worker != null) {
+            worker.interrupt();
+        }
+    }
+
+    public static class Timeout {
+        private final long deadlineMillis;
+        private final Runnable task;
+        private volatile boolean cancelled;
+        private long deadlineTick;
+
+        private Timeout(final long deadlineMillis, final Runnable task) {
+            this.deadlineMillis = deadlineMillis;
+            this.task = task;
+        }
+
+        public void cancel() {
+            cancelled = true;
+        }
+
+        public boolean isCancelled() {
+            return cancelled;
+        }
+
+        private void expire() {
+            if (!cancelled) {
+                task.run();
+            }
+        }
+    }
+}
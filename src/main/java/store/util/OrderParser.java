@@ -5,6 +5,7 @@ import static store.constant.ExceptionMessage.WRONG_ORDER_INPUT;
 import java.util.ArrayList;
 import java.util.List;
 import store.dto.OrderItemDto;
+import store.metrics.event.OrderParseEvent;
 
 public class OrderParser {
     private static final String OPENING_BRACKET = "[";
@@ -18,9 +19,12 @@ public class OrderParser {
     }
 
     public static List<OrderItemDto> parse(final String input) {
+        OrderParseEvent event = OrderParseEvent.start();
         validateInput(input);
 
-        return parseOrders(input);
+        List<OrderItemDto> orders = parseOrders(input);
+        event.finish(input, orders);
+        return orders;
     }
 
     private static void validateInput(final String input) {
@@ -8,11 +8,6 @@ import store.dto.ReceiptDto;
 public class OutputView {
     private static final String WELCOME_MESSAGE = "안녕하세요. W편의점입니다.";
     private static final String PRODUCT_LIST_HEADER = "현재 보유하고 있는 상품입니다.";
-    private static final String PRODUCT_FORMAT = "- %s %,d원 %s%s";
-    private static final String OUT_OF_STOCK = "재고 없음";
-    private static final String STOCK_FORMAT = "%,d개";
-    private static final String EMPTY_STRING = "";
-    private static final String SPACE_STRING = " ";
     private static final String NEW_LINE = "\n";
     private static final String ERROR_PREFIX = "[ERROR] ";
 
@@ -29,80 +24,37 @@ public class OutputView {
     private static final int QUANTITY_COLUMN_WIDTH = 10;
     private static final int PRICE_COLUMN_WIDTH = 10;
 
+    private final ProductListing productListing = new ProductListing();
+
     public void printProducts(final List<ProductDto> products) {
         StringBuilder result = new StringBuilder();
         result.append(NEW_LINE).append(WELCOME_MESSAGE).append(NEW_LINE).append(PRODUCT_LIST_HEADER).append(NEW_LINE)
-                .append(NEW_LINE);
-
-        for (ProductDto product : products) {
-            result.append(formatProduct(product))
-                    .append(NEW_LINE);
-
-            if (product.promotion() != null && !containsNullPromotionWithSameName(products, product)) {
-                result.append(formatOutOfStockProduct(product)).append(NEW_LINE);
-            }
-        }
+                .append(NEW_LINE)
+                .append(productListing.render(products));
 
         System.out.println(result);
     }
 
-    private boolean containsNullPromotionWithSameName(final List<ProductDto> products, final ProductDto targetProduct) {
-        return products.stream().anyMatch(product ->
-                product != targetProduct
-                        && product.name().equals(targetProduct.name())
-                        && product.promotion() == null
-        );
-    }
-
-    private String formatProduct(final ProductDto product) {
-        return String.format(
-                PRODUCT_FORMAT,
-                product.name(),
-                product.price(),
-                formatStock(product.quantity()),
-                formatPromotion(product.promotion())
-        );
-    }
-
-    private String formatOutOfStockProduct(final ProductDto product) {
-        return String.format(
-                PRODUCT_FORMAT,
-                product.name(),
-                product.price(),
-                OUT_OF_STOCK,
-                EMPTY_STRING
-        );
-    }
-
-    private String formatStock(final int quantity) {
-        if (quantity <= 0) {
-            return OUT_OF_STOCK;
-        }
-
-        return String.format(STOCK_FORMAT, quantity);
+    public void printError(final String message) {
+        System.out.println(formatError(message));
     }
 
-    private String formatPromotion(final String promotion) {
-        if (promotion == null) {
-            return EMPTY_STRING;
-        }
-
-        return SPACE_STRING + promotion;
+    public String formatError(final String message) {
+        return ERROR_PREFIX.concat(message);
     }
 
-    public void printError(final String message) {
-        System.out.println(ERROR_PREFIX.concat(message));
+    public void printReceipt(final ReceiptDto receipt) {
+        System.out.println(formatReceipt(receipt));
     }
 
-    // 영수증 출력 관련 메서드들 수정
-    public void printReceipt(final ReceiptDto receipt) {
+    public String formatReceipt(final ReceiptDto receipt) {
         StringBuilder builder = new StringBuilder();
         appendHeader(builder);
         appendOrderedItems(builder, receipt.orderedItems());
         appendPromotionalItems(builder, receipt.promotionalItems());
         appendPriceInformation(builder, receipt.priceInfo());
 
-        System.out.println(builder);
+        return builder.toString();
     }
 
     private void appendHeader(final StringBuilder builder) {
@@ -118,7 +70,7 @@ public class OutputView {
                 builder.append(formatRow(
                         item.name(),
                         String.valueOf(item.quantity()),
-                        String.format("%,d", item.price())
+                        String.format("%,d", item.price().amount())
                 )).append(NEW_LINE)
         );
     }
@@ -146,18 +98,18 @@ public class OutputView {
     ) {
         builder.append(RECEIPT_DIVIDER).append(NEW_LINE);
         builder.append(formatRow(
-                TOTAL_PRICE, String.valueOf(priceInfo.totalQuantity()), String.format("%,d", priceInfo.totalPrice())
+                TOTAL_PRICE, String.valueOf(priceInfo.totalQuantity()), String.format("%,d", priceInfo.totalPrice().amount())
         )).append(NEW_LINE);
 
         builder.append(formatRow(
-                PROMOTION_DISCOUNT, "", String.format("-%,d", priceInfo.promotionDiscount())
+                PROMOTION_DISCOUNT, "", String.format("-%,d", priceInfo.promotionDiscount().amount())
         )).append(NEW_LINE);
 
         builder.append(formatRow(
-                MEMBERSHIP_DISCOUNT, "", String.format("-%,d", priceInfo.membershipDiscount())
+                MEMBERSHIP_DISCOUNT, "", String.format("-%,d", priceInfo.membershipDiscount().amount())
         )).append(NEW_LINE);
 
-        builder.append(formatRow(FINAL_PRICE, "", String.format("%,d", priceInfo.calculateFinalPrice())
+        builder.append(formatRow(FINAL_PRICE, "", String.format("%,d", priceInfo.calculateFinalPrice().amount())
         )).append(NEW_LINE);
     }
 
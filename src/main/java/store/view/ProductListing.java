@@ -0,0 +1,113 @@
+package store.view;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import store.dto.ProductDto;
+
+/**
+ * 상품 목록의 각 행을 출력 형식으로 변환합니다. 이전 출력에서 만든 행은 상품 정보가 그대로라면 다시 포맷하지 않고 재사용합니다.
+ */
+public class ProductListing {
+    private static final String PRODUCT_FORMAT = "- %s %,d원 %s%s";
+    private static final String OUT_OF_STOCK = "재고 없음";
+    private static final String STOCK_FORMAT = "%,d개";
+    private static final String EMPTY_STRING = "";
+    private static final String SPACE_STRING = " ";
+    private static final String NEW_LINE = "\n";
+
+    private Map<ListingRow, String> formattedRows = new HashMap<>();
+
+    public String render(final List<ProductDto> products) {
+        Set<String> namesWithNormalStock = findNamesWithNormalStock(products);
+        Map<ListingRow, String> renderedRows = new HashMap<>();
+        StringBuilder result = new StringBuilder();
+
+        for (ProductDto product : products) {
+            ListingRow row = new ListingRow(product, needsOutOfStockRow(product, namesWithNormalStock));
+            String formatted = renderedRows.computeIfAbsent(row, this::reuseOrFormat);
+            result.append(formatted);
+        }
+
+        formattedRows = renderedRows;
+        return result.toString();
+    }
+
+    private Set<String> findNamesWithNormalStock(final List<ProductDto> products) {
+        Set<String> names = new HashSet<>();
+        for (ProductDto product : products) {
+            if (product.promotion() == null) {
+                names.add(product.name());
+            }
+        }
+
+        return names;
+    }
+
+    private boolean needsOutOfStockRow(final ProductDto product, final Set<String> namesWithNormalStock) {
+        return product.promotion() != null && !namesWithNormalStock.contains(product.name());
+    }
+
+    private String reuseOrFormat(final ListingRow row) {
+        String previous = formattedRows.get(row);
+        if (previous != null) {
+            return previous;
+        }
+
+        return format(row);
+    }
+
+    private String format(final ListingRow row) {
+        String formatted = formatProduct(row.product()) + NEW_LINE;
+        if (row.withOutOfStockRow()) {
+            return formatted + formatOutOfStockProduct(row.product()) + NEW_LINE;
+        }
+
+        return formatted;
+    }
+
+    private String formatProduct(final ProductDto product) {
+        return String.format(
+                PRODUCT_FORMAT,
+                product.name(),
+                product.price(),
+                formatStock(product.quantity()),
+                formatPromotion(product.promotion())
+        );
+    }
+
+    private String formatOutOfStockProduct(final ProductDto product) {
+        return String.format(
+                PRODUCT_FORMAT,
+                product.name(),
+                product.price(),
+                OUT_OF_STOCK,
+                EMPTY_STRING
+        );
+    }
+
+    private String formatStock(final int quantity) {
+        if (quantity <= 0) {
+            return OUT_OF_STOCK;
+        }
+
+        return String.format(STOCK_FORMAT, quantity);
+    }
+
+    private String formatPromotion(final String promotion) {
+        if (promotion == null) {
+            return EMPTY_STRING;
+        }
+
+        return SPACE_STRING + promotion;
+    }
+
+    // 같은 상품이라도 일반 재고 행의 유무에 따라 출력이 달라지므로 함께 키로 사용한다
+    private record ListingRow(
+            ProductDto product,
+            boolean withOutOfStockRow
+    ) {
+    }
+}
@@ -0,0 +1,77 @@
+package store.vo;
+
+/**
+ * 원 단위 금액입니다. 모든 연산은 {@code long} 범위를 넘으면 예외를 던지며, 백분율을 적용한 금액은 원 미만을 버립니다.
+ */
+public record Money(
+        long amount
+) implements Comparable<Money> {
+    public static final Money ZERO = new Money(0);
+
+    private static final int PERCENT_SCALE = 100;
+    private static final String OVERFLOW_MESSAGE = "금액이 계산할 수 있는 범위를 넘었습니다.";
+
+    public static Money of(final long amount) {
+        return new Money(amount);
+    }
+
+    public static Money priceOf(final int unitPrice, final int quantity) {
+        return new Money(multiply(unitPrice, quantity));
+    }
+
+    public Money plus(final Money other) {
+        return new Money(add(amount, other.amount));
+    }
+
+    public Money minus(final Money other) {
+        return new Money(subtract(amount, other.amount));
+    }
+
+    public Money times(final long quantity) {
+        return new Money(multiply(amount, quantity));
+    }
+
+    /**
+     * 금액에 백분율을 곱합니다. 원 미만은 음의 무한대 방향으로 버립니다.
+     */
+    public Money percent(final int percent) {
+        return new Money(Math.floorDiv(multiply(amount, percent), PERCENT_SCALE));
+    }
+
+    public Money min(final Money other) {
+        if (compareTo(other) <= 0) {
+            return this;
+        }
+
+        return other;
+    }
+
+    @Override
+    public int compareTo(final Money other) {
+        return Long.compare(amount, other.amount);
+    }
+
+    static long add(final long left, final long right) {
+        try {
+            return Math.addExact(left, right);
+        } catch (ArithmeticException e) {
+            throw new IllegalStateException(OVERFLOW_MESSAGE, e);
+        }
+    }
+
+    static long subtract(final long left, final long right) {
+        try {
+            return Math.subtractExact(left, right);
+        } catch (ArithmeticException e) {
+            throw new IllegalStateException(OVERFLOW_MESSAGE, e);
+        }
+    }
+
+    static long multiply(final long left, final long right) {
+        try {
+            return Math.multiplyExact(left, right);
+        } catch (ArithmeticException e) {
+            throw new IllegalStateException(OVERFLOW_MESSAGE, e);
+        }
+    }
+}
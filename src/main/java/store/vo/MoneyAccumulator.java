@@ -0,0 +1,23 @@
+package store.vo;
+
+/**
+ * 여러 금액을 {@link Money} 객체 없이 {@code long} 하나에 더합니다. 주문 항목을 순회하며 합계를 구할 때 항목마다 금액 객체를 만들지 않도록, 다 더한 뒤에 한 번만
+ * {@link #total()} 로 꺼냅니다. 더하는 도중 범위를 넘으면 {@link Money} 와 같은 예외를 던집니다.
+ */
+public class MoneyAccumulator {
+    private long amount;
+
+    public MoneyAccumulator add(final int unitPrice, final int quantity) {
+        amount = Money.add(amount, Money.multiply(unitPrice, quantity));
+        return this;
+    }
+
+    public MoneyAccumulator add(final Money money) {
+        amount = Money.add(amount, money.amount());
+        return this;
+    }
+
+    public Money total() {
+        return Money.of(amount);
+    }
+}
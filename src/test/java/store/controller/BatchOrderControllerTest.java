@@ -0,0 +1,113 @@
+package store.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static store.constant.ExceptionMessage.PRODUCT_NOT_FOUND;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import store.dto.ProductDto;
+import store.dto.PromotionFileDto;
+import store.model.domain.Products;
+import store.model.domain.Promotion;
+import store.model.domain.Promotions;
+import store.view.OutputView;
+
+class BatchOrderControllerTest {
+    private static final String PROMOTION_NAME = "탄산2+1";
+
+    private Products createProducts() {
+        return createProducts(10);
+    }
+
+    private Products createProducts(final int quantity) {
+        Promotions promotions = Promotions.from(List.of(Promotion.from(
+                PromotionFileDto.of(PROMOTION_NAME, "2", "1", "2000-01-01", "2999-12-31")
+        )));
+
+        return Products.from(List.of(
+                new ProductDto("콜라", 1000, quantity, PROMOTION_NAME),
+                new ProductDto("물", 500, quantity, null)
+        ), promotions);
+    }
+
+    private String process(final BatchPolicy policy, final Products products, final String orders)
+            throws IOException {
+        return process(policy, products, orders, 4);
+    }
+
+    private String process(
+            final BatchPolicy policy,
+            final Products products,
+            final String orders,
+            final int partitions
+    ) throws IOException {
+        StringWriter receipts = new StringWriter();
+        new BatchOrderController(policy, new OutputView(), partitions)
+                .process(products, new BufferedReader(new StringReader(orders)), receipts);
+        return receipts.toString();
+    }
+
+    @Test
+    void 병렬로_처리해도_순차_처리와_같은_영수증과_재고가_남는다() throws IOException {
+        // given
+        BatchPolicy policy = new BatchPolicy(true, false, true);
+        String orders = String.join("\n", Collections.nCopies(2000, "[콜라-4],[물-1]\n[물-3]\n[콜라-2]"));
+        Products sequentialProducts = createProducts(5000);
+        Products parallelProducts = createProducts(5000);
+
+        // when
+        String sequential = process(policy, sequentialProducts, orders, 1);
+        String parallel = process(policy, parallelProducts, orders, 4);
+
+        // then
+        assertThat(parallel).isEqualTo(sequential);
+        assertThat(stockOf(parallelProducts, "콜라")).isEqualTo(stockOf(sequentialProducts, "콜라"));
+        assertThat(stockOf(parallelProducts, "물")).isEqualTo(stockOf(sequentialProducts, "물"));
+    }
+
+    private int stockOf(final Products products, final String name) {
+        return products.findByName(name).orElseThrow().getTotalStock(LocalDate.now());
+    }
+
+    @Test
+    void 주문마다_영수증을_쓴다() throws IOException {
+        // given
+        Products products = createProducts();
+
+        // when
+        String receipts = process(new BatchPolicy(true, true, false), products, "[물-2]\n[물-3]\n");
+
+        // then
+        assertThat(receipts.split("W 편의점")).hasSize(3);
+        assertThat(products.findByName("물").orElseThrow().getNormalStock().getQuantity()).isEqualTo(5);
+    }
+
+    @Test
+    void 확인_질문에는_정책의_응답을_사용한다() throws IOException {
+        // when
+        String receipts = process(new BatchPolicy(true, true, true), createProducts(), "[콜라-2],[물-2]");
+
+        // then
+        assertThat(receipts)
+                .containsPattern("콜라\\s+3\\s+3,000")
+                .containsPattern("행사할인\\s+-1,000")
+                .containsPattern("멤버십할인\\s+-300");
+    }
+
+    @Test
+    void 처리할_수_없는_주문은_오류를_남기고_다음_주문을_처리한다() throws IOException {
+        // when
+        String receipts = process(new BatchPolicy(false, true, false), createProducts(), "[없는상품-1]\n\n[물-1]");
+
+        // then
+        assertThat(receipts)
+                .contains("[ERROR] " + PRODUCT_NOT_FOUND.message())
+                .containsPattern("물\\s+1\\s+500");
+    }
+}
@@ -0,0 +1,124 @@
+package store.loader;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import store.dto.CatalogDto;
+import store.dto.ProductDto;
+import store.dto.PromotionFileDto;
+import store.model.domain.Catalog;
+
+class CatalogReloaderTest {
+    @TempDir
+    Path tempDir;
+
+    private Path productsPath;
+    private Path promotionsPath;
+    private Supplier<CatalogDto> source;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        productsPath = tempDir.resolve("products.md");
+        promotionsPath = tempDir.resolve("promotions.md");
+        Files.writeString(productsPath, """
+                name,price,quantity,promotion
+                콜라,1000,10,null
+                """);
+        Files.writeString(promotionsPath, """
+                name,buy,get,start_date,end_date
+                탄산2+1,2,1,2024-01-01,2024-12-31
+                """);
+        source = () -> new CatalogDto(
+                new FileDataLoader<>(ProductDto.class).load(productsPath.toString()),
+                new FileDataLoader<>(PromotionFileDto.class).load(promotionsPath.toString())
+        );
+    }
+
+    @Test
+    void 다시_읽으면_새_스냅샷으로_교체하고_이전_스냅샷은_유지된다() throws IOException {
+        // given
+        Catalog initial = Catalog.from(source.get());
+        try (CatalogReloader reloader = start(initial)) {
+            Files.writeString(productsPath, """
+                    name,price,quantity,promotion
+                    콜라,1000,10,null
+                    물,500,10,null
+                    """);
+
+            // when
+            boolean reloaded = reloader.reload();
+
+            // then
+            assertThat(reloaded).isTrue();
+            assertThat(reloader.current().products().findByName("물")).isPresent();
+            assertThat(initial.products().findByName("물")).isEmpty();
+        }
+    }
+
+    @Test
+    void 파일이_올바르지_않으면_기존_스냅샷을_유지한다() throws IOException {
+        // given
+        Catalog initial = Catalog.from(source.get());
+        try (CatalogReloader reloader = start(initial)) {
+            Files.writeString(productsPath, """
+                    name,price,quantity,promotion
+                    콜라,천원,10,null
+                    """);
+
+            // when
+            boolean reloaded = reloader.reload();
+
+            // then
+            assertThat(reloaded).isFalse();
+            assertThat(reloader.current()).isSameAs(initial);
+        }
+    }
+
+    @Test
+    void 읽는_중_예상하지_못한_예외가_발생해도_기존_스냅샷을_유지한다() {
+        // given
+        Catalog initial = Catalog.from(source.get());
+        Supplier<CatalogDto> failing = () -> {
+            throw new UncheckedIOException(new IOException("읽기 실패"));
+        };
+        try (CatalogReloader reloader = CatalogReloader.start(initial, failing, productsPath.toString())) {
+            // when
+            boolean reloaded = reloader.reload();
+
+            // then
+            assertThat(reloaded).isFalse();
+            assertThat(reloader.current()).isSameAs(initial);
+        }
+    }
+
+    @Test
+    void 다시_읽을_때마다_파일의_수량_변화를_한_번만_반영한다() throws IOException {
+        // given
+        Catalog initial = Catalog.from(source.get());
+        try (CatalogReloader reloader = start(initial)) {
+            Files.writeString(productsPath, """
+                    name,price,quantity,promotion
+                    콜라,1000,15,null
+                    """);
+
+            // when
+            reloader.reload();
+            reloader.reload();
+
+            // then
+            assertThat(reloader.current().products().findByName("콜라").orElseThrow()
+                    .getNormalStock().getQuantity()).isEqualTo(15);
+        }
+    }
+
+    private CatalogReloader start(final Catalog initial) {
+        return CatalogReloader.start(initial, source, productsPath.toString(), promotionsPath.toString());
+    }
+}
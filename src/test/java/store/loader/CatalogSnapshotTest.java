@@ -0,0 +1,114 @@
+package store.loader;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import store.dto.CatalogDto;
+import store.dto.ProductDto;
+import store.dto.PromotionFileDto;
+
+class CatalogSnapshotTest {
+    @TempDir
+    Path tempDir;
+
+    private Path productsPath;
+    private Path promotionsPath;
+    private Path snapshotPath;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        productsPath = tempDir.resolve("products.md");
+        promotionsPath = tempDir.resolve("promotions.md");
+        snapshotPath = tempDir.resolve("cache/catalog.snapshot");
+        Files.writeString(productsPath, """
+                name,price,quantity,promotion
+                콜라,1000,10,탄산2+1
+                콜라,1000,10,null
+                물,500,10,null
+                """);
+        Files.writeString(promotionsPath, """
+                name,buy,get,start_date,end_date
+                탄산2+1,2,1,2024-01-01,2024-12-31
+                """);
+    }
+
+    @Test
+    void 저장한_스냅샷을_원본과_동일한_카탈로그로_읽는다() {
+        // given
+        CatalogDto catalog = loadFromText();
+        createSnapshot().saveIfStale(catalog);
+
+        // when & then
+        assertThat(createSnapshot().read()).contains(catalog);
+    }
+
+    @Test
+    void 원본_파일이_바뀌면_스냅샷을_사용하지_않는다() throws IOException {
+        // given
+        createSnapshot().saveIfStale(loadFromText());
+        Files.setLastModifiedTime(productsPath, FileTime.from(Instant.parse("2030-01-01T00:00:00Z")));
+
+        // when & then
+        assertThat(createSnapshot().read()).isEmpty();
+    }
+
+    @Test
+    void 크기와_수정_시각이_같아도_내용이_바뀌면_스냅샷을_사용하지_않는다() throws IOException {
+        // given
+        createSnapshot().saveIfStale(loadFromText());
+        FileTime modified = Files.getLastModifiedTime(productsPath);
+        Files.writeString(productsPath, Files.readString(productsPath).replace("물,500", "물,700"));
+        Files.setLastModifiedTime(productsPath, modified);
+
+        // when & then
+        assertThat(createSnapshot().read()).isEmpty();
+    }
+
+    @Test
+    void 손상된_스냅샷을_읽으면_예외가_발생한다() throws IOException {
+        // given
+        Files.createDirectories(snapshotPath.getParent());
+        Files.write(snapshotPath, new byte[]{1, 2, 3});
+
+        // when & then
+        assertThatThrownBy(() -> createSnapshot().read())
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining(snapshotPath.toString());
+    }
+
+    @Test
+    void 스냅샷을_저장할_수_없으면_예외가_발생한다() throws IOException {
+        // given
+        Files.writeString(snapshotPath.getParent(), "디렉터리가 아닌 파일");
+
+        // when & then
+        assertThatThrownBy(() -> createSnapshot().saveIfStale(loadFromText()))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining(snapshotPath.toString());
+    }
+
+    @Test
+    void 스냅샷이_없으면_빈_결과를_반환한다() {
+        // when & then
+        assertThat(createSnapshot().read()).isEmpty();
+    }
+
+    private CatalogSnapshot createSnapshot() {
+        return CatalogSnapshot.of(snapshotPath.toString(), productsPath.toString(), promotionsPath.toString());
+    }
+
+    private CatalogDto loadFromText() {
+        return new CatalogDto(
+                new FileDataLoader<>(ProductDto.class).load(productsPath.toString()),
+                new FileDataLoader<>(PromotionFileDto.class).load(promotionsPath.toString())
+        );
+    }
+}
@@ -0,0 +1,79 @@
+package store.loader;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.Test;
+import store.dto.FileDto;
+import store.dto.ProductDto;
+
+class DtoFactoryTest {
+
+    @Test
+    void of_메서드로_DTO를_생성한다() {
+        // given
+        DtoFactory<ProductDto> factory = DtoFactory.of(ProductDto.class);
+
+        // when
+        ProductDto result = factory.create(new String[]{"콜라", "1000", "10", "null"});
+
+        // then
+        assertThat(result).isEqualTo(new ProductDto("콜라", 1000, 10, null));
+    }
+
+    @Test
+    void 필드_개수와_일치하는_of_메서드가_없으면_예외가_발생한다() {
+        // given
+        DtoFactory<ProductDto> factory = DtoFactory.of(ProductDto.class);
+
+        // when & then
+        assertThatThrownBy(() -> factory.create(new String[]{"콜라", "1000"}))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("DTO 변환 중 오류가 발생했습니다.");
+    }
+
+    @Test
+    void of_메서드_내부에서_발생한_예외는_변환_예외로_감싼다() {
+        // given
+        DtoFactory<ProductDto> factory = DtoFactory.of(ProductDto.class);
+
+        // when & then
+        assertThatThrownBy(() -> factory.create(new String[]{"콜라", "가격", "10", "null"}))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("DTO 변환 중 오류가 발생했습니다.");
+    }
+
+    @Test
+    void of_메서드가_없는_DTO는_생성_시점에_예외가_발생한다() {
+        // given
+        DtoFactory<NoFactoryDto> factory = DtoFactory.of(NoFactoryDto.class);
+
+        // when & then
+        assertThatThrownBy(() -> factory.create(new String[]{"value"}))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("DTO 변환 중 오류가 발생했습니다.");
+    }
+
+    @Test
+    void of_메서드_내부에서_발생한_Error는_감싸지_않고_그대로_던진다() {
+        // given
+        DtoFactory<ErrorFactoryDto> factory = DtoFactory.of(ErrorFactoryDto.class);
+
+        // when & then
+        assertThatThrownBy(() -> factory.create(new String[]{"value"}))
+                .isInstanceOf(AssertionError.class)
+                .hasMessage("팩토리 오류");
+    }
+
+    static class ErrorFactoryDto implements FileDto {
+        public static ErrorFactoryDto of(String value) {
+            throw new AssertionError("팩토리 오류");
+        }
+    }
+
+    static class NoFactoryDto implements FileDto {
+        public static NoFactoryDto create(String value) {
+            return new NoFactoryDto();
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package store.loader;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import store.dto.ProductDto;
+import store.dto.PromotionFileDto;
+
+class MappedFileDataLoaderTest {
+
+    @Nested
+    class 파일_데이터_로드_테스트 {
+        @Test
+        void 상품_파일을_기존_로더와_동일한_DTO로_변환한다() {
+            // given
+            String filePath = "src/main/resources/products.md";
+
+            // when
+            List<ProductDto> result = MappedFileDataLoader.products().load(filePath);
+
+            // then
+            assertThat(result).isEqualTo(new FileDataLoader<>(ProductDto.class).load(filePath));
+        }
+
+        @Test
+        void 프로모션_파일을_기존_로더와_동일한_DTO로_변환한다() {
+            // given
+            String filePath = "src/main/resources/promotions.md";
+
+            // when
+            List<PromotionFileDto> result = MappedFileDataLoader.promotions().load(filePath);
+
+            // then
+            assertThat(result).isEqualTo(new FileDataLoader<>(PromotionFileDto.class).load(filePath));
+        }
+
+        @Test
+        void 필드의_앞뒤_공백과_CRLF를_제거하고_로드한다(@TempDir Path tempDir) throws IOException {
+            // given
+            Path mdFile = tempDir.resolve("test.md");
+            Files.writeString(mdFile, "name,buy,get,start_date,end_date\r\n 탄산2+1 , 2 , 1 ,2024-01-01, 2024-12-31 \r\n");
+
+            // when
+            List<PromotionFileDto> result = MappedFileDataLoader.promotions().load(mdFile.toString());
+
+            // then
+            assertThat(result).containsExactly(new PromotionFileDto(
+                    "탄산2+1", 2, 1, LocalDate.of(2024, 1, 1), LocalDate.of(2024, 12, 31)
+            ));
+        }
+    }
+
+    @Nested
+    class 예외_메시지_테스트 {
+        @Test
+        void 빈_파일은_예외를_발생시킨다(@TempDir Path tempDir) throws IOException {
+            // given
+            Path emptyFile = tempDir.resolve("empty.md");
+            Files.writeString(emptyFile, "");
+
+            // when & then
+            assertThatThrownBy(() -> MappedFileDataLoader.products().load(emptyFile.toString()))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessage("파일이 비어있습니다.");
+        }
+
+        @Test
+        void 빈_필드가_있는_경우_예외를_발생시킨다(@TempDir Path tempDir) throws IOException {
+            // given
+            Path mdFile = tempDir.resolve("test.md");
+            Files.writeString(mdFile, """
+                    name,price,quantity,promotion
+                    콜라,  ,10,null
+                    """);
+
+            // when & then
+            assertThatThrownBy(() -> MappedFileDataLoader.products().load(mdFile.toString()))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessage(FileDataLoader.ERROR_EMPTY_FIELD);
+        }
+
+        @Test
+        void 빈_라인이_있는_경우_예외를_발생시킨다(@TempDir Path tempDir) throws IOException {
+            // given
+            Path mdFile = tempDir.resolve("test.md");
+            Files.writeString(mdFile, """
+                    name,price,quantity,promotion
+                    콜라,1000,10,null
+
+                    사이다,1000,8,null
+                    """);
+
+            // when & then
+            assertThatThrownBy(() -> MappedFileDataLoader.products().load(mdFile.toString()))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessage("빈 라인이 존재합니다.");
+        }
+
+        @ParameterizedTest
+        @ValueSource(strings = {
+                "콜라,1000,10", "콜라,1000,10,null,5", "콜라,천원,10,null", "콜라,1000,1234567890,null", ",,,", "콜라,1000,10,"
+        })
+        void 변환할_수_없는_라인은_예외를_발생시킨다(final String line, @TempDir Path tempDir) throws IOException {
+            // given
+            Path mdFile = tempDir.resolve("test.md");
+            Files.writeString(mdFile, "name,price,quantity,promotion\n" + line + "\n");
+
+            // when & then
+            assertThatThrownBy(() -> MappedFileDataLoader.products().load(mdFile.toString()))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessage("DTO 변환 중 오류가 발생했습니다.");
+        }
+    }
+
+    @Nested
+    class 병렬_로드_테스트 {
+        @Test
+        void 병렬로_읽어도_행_순서가_유지된다(@TempDir Path tempDir) throws IOException {
+            // given
+            Path mdFile = writeProducts(tempDir, 100_000, -1);
+            ForkJoinPool pool = new ForkJoinPool(4);
+
+            // when
+            List<ProductDto> result = MappedFileDataLoader.products().loadParallel(mdFile.toString(), pool);
+
+            // then
+            assertThat(result).isEqualTo(MappedFileDataLoader.products().load(mdFile.toString()));
+            pool.shutdown();
+        }
+
+        @Test
+        void 잘못된_행의_예외_메시지에는_파일_기준_줄_번호가_표시된다(@TempDir Path tempDir) throws IOException {
+            // given
+            Path mdFile = writeProducts(tempDir, 100_000, 87_654);
+            ForkJoinPool pool = new ForkJoinPool(4);
+
+            // when & then
+            assertThatThrownBy(() -> MappedFileDataLoader.products().loadParallel(mdFile.toString(), pool))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessage("필드가 비어있습니다. (87656번째 줄)");
+            pool.shutdown();
+        }
+
+        private Path writeProducts(final Path tempDir, final int count, final int brokenIndex) throws IOException {
+            StringBuilder content = new StringBuilder("name,price,quantity,promotion\n");
+            for (int i = 0; i < count; i++) {
+                String price = String.valueOf(1000 + i);
+                if (i == brokenIndex) {
+                    price = " ";
+                }
+                content.append("상품").append(i).append(',').append(price).append(",10,null\n");
+            }
+
+            Path mdFile = tempDir.resolve("products.md");
+            Files.writeString(mdFile, content);
+            return mdFile;
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package store.loader;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class MappedLineScannerTest {
+
+    @Test
+    void 매핑_구간이_줄보다_작아도_줄_경계에서_이어서_읽는다(@TempDir Path tempDir) throws IOException {
+        // given
+        Path file = tempDir.resolve("lines.md");
+        Files.writeString(file, "first\nsecond\nthird");
+        List<String> lines = new ArrayList<>();
+
+        // when
+        try (FileChannel channel = FileChannel.open(file)) {
+            MappedLineScanner.of(channel, 8).scan(0, channel.size(), (buffer, start, end) -> {
+                byte[] bytes = new byte[end - start];
+                buffer.get(start, bytes);
+                lines.add(new String(bytes, StandardCharsets.UTF_8));
+            });
+        }
+
+        // then
+        assertThat(lines).containsExactly("first", "second", "third");
+    }
+}
@@ -0,0 +1,70 @@
+package store.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.management.ManagementFactory;
+import javax.management.ObjectName;
+import org.junit.jupiter.api.Test;
+
+class HandlerMetricsRegistryTest {
+    private final HandlerMetricsRegistry registry = new HandlerMetricsRegistry();
+
+    @Test
+    void 같은_종류의_처리기는_지표를_함께_사용한다() {
+        // when
+        HandlerMetrics first = registry.metricsFor(String.class);
+        HandlerMetrics second = registry.metricsFor(String.class);
+
+        // then
+        assertThat(first).isSameAs(second);
+        assertThat(first.getHandlerName()).isEqualTo("String");
+    }
+
+    @Test
+    void 확인을_기다린_시간은_처리_시간과_따로_기록한다() {
+        // given
+        HandlerMetrics metrics = registry.metricsFor(String.class);
+
+        // when
+        metrics.record(5_000_000, 4_000_000);
+        metrics.record(1_000_000, 0);
+
+        // then
+        assertThat(metrics.getInvocations()).isEqualTo(2);
+        assertThat(metrics.getMaxProcessingMicros()).isEqualTo(1_000);
+        assertThat(metrics.getConfirmationWaits()).isEqualTo(1);
+        assertThat(metrics.getTotalConfirmationWaitMillis()).isEqualTo(4);
+    }
+
+    @Test
+    void 처리기별_지표를_이름순으로_출력한다() {
+        // given
+        registry.metricsFor(StringBuilder.class).record(1_000, 0);
+        registry.metricsFor(Integer.class).recordError();
+
+        // when
+        String dump = registry.dump();
+
+        // then
+        assertThat(dump.lines()).hasSize(3);
+        assertThat(dump.indexOf("Integer")).isLessThan(dump.indexOf("StringBuilder"));
+    }
+
+    @Test
+    void JMX_에_처리기별_MBean_을_등록한다() throws Exception {
+        // given
+        registry.metricsFor(Long.class).record(1_000, 0);
+
+        // when
+        registry.exposeToJmx();
+        registry.metricsFor(Short.class);
+
+        // then
+        assertThat(ManagementFactory.getPlatformMBeanServer().getAttribute(
+                new ObjectName("store:type=OrderHandler,name=Long"), "Invocations"
+        )).isEqualTo(1L);
+        assertThat(ManagementFactory.getPlatformMBeanServer().isRegistered(
+                new ObjectName("store:type=OrderHandler,name=Short")
+        )).isTrue();
+    }
+}
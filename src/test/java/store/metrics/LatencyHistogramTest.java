@@ -0,0 +1,75 @@
+package store.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class LatencyHistogramTest {
+
+    @ParameterizedTest
+    @ValueSource(longs = {0, 31, 32, 33, 1_000, 65_535, 1_000_000, 987_654_321, Long.MAX_VALUE})
+    void 값이_속한_구간의_상한은_값보다_작지_않고_상대_오차가_32분의_1_이내이다(long value) {
+        // when
+        long highest = LatencyHistogram.highestValueAt(LatencyHistogram.indexOf(value));
+
+        // then
+        assertThat(highest).isGreaterThanOrEqualTo(value);
+        assertThat((double) (highest - value)).isLessThanOrEqualTo(value / 32.0);
+    }
+
+    @Test
+    void 기록한_값의_백분위를_구한다() {
+        // given
+        LatencyHistogram histogram = new LatencyHistogram();
+
+        // when
+        for (long value = 1; value <= 1_000; value++) {
+            histogram.record(value * 1_000);
+        }
+
+        // then
+        assertThat(histogram.count()).isEqualTo(1_000);
+        assertThat(histogram.valueAtPercentile(50)).isBetween(500_000L, 500_000L + 500_000L / 32);
+        assertThat(histogram.valueAtPercentile(99)).isBetween(990_000L, 990_000L + 990_000L / 32);
+        assertThat(histogram.valueAtPercentile(100)).isEqualTo(1_000_000);
+        assertThat(histogram.meanNanos()).isEqualTo(500_500);
+    }
+
+    @Test
+    void 기록이_없으면_0을_돌려준다() {
+        // given
+        LatencyHistogram histogram = new LatencyHistogram();
+
+        // then
+        assertThat(histogram.valueAtPercentile(99)).isZero();
+        assertThat(histogram.meanNanos()).isZero();
+    }
+
+    @Test
+    void 여러_스레드가_동시에_기록해도_빠지는_기록이_없다() throws InterruptedException {
+        // given
+        LatencyHistogram histogram = new LatencyHistogram();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+
+        // when
+        for (int thread = 0; thread < 4; thread++) {
+            executor.submit(() -> {
+                for (int i = 0; i < 10_000; i++) {
+                    histogram.record(i);
+                }
+            });
+        }
+        executor.shutdown();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+
+        // then
+        assertThat(histogram.count()).isEqualTo(40_000);
+        assertThat(histogram.totalNanos()).isEqualTo(4L * 9_999 * 10_000 / 2);
+        assertThat(histogram.maxNanos()).isEqualTo(9_999);
+    }
+}
@@ -0,0 +1,46 @@
+package store.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.Test;
+
+class MetricsReporterTest {
+    private final HandlerMetricsRegistry registry = new HandlerMetricsRegistry();
+
+    @Test
+    void 닫을_때_마지막_간격의_지표를_출력한다() {
+        // given
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        MetricsReporter reporter = MetricsReporter.start(
+                registry, new PrintStream(output, true, StandardCharsets.UTF_8), 3600
+        );
+        registry.metricsFor(String.class).record(1_000, 0);
+
+        // when
+        reporter.close();
+
+        // then
+        assertThat(output.toString(StandardCharsets.UTF_8)).isEqualTo(registry.dump());
+    }
+
+    @Test
+    void 간격을_지정하지_않으면_닫을_때도_출력하지_않는다() {
+        // given
+        PrintStream originalErr = System.err;
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        System.setErr(new PrintStream(output, true, StandardCharsets.UTF_8));
+
+        // when
+        try {
+            MetricsReporter.fromSystemProperties(registry).close();
+        } finally {
+            System.setErr(originalErr);
+        }
+
+        // then
+        assertThat(output.size()).isZero();
+    }
+}
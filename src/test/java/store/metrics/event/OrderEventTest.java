@@ -0,0 +1,139 @@
+package store.metrics.event;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import store.dto.CatalogDto;
+import store.dto.ProductDto;
+import store.dto.PromotionFileDto;
+import store.model.domain.Catalog;
+import store.model.domain.Products;
+import store.model.order.OrderConfirmation;
+import store.model.order.OrderContext;
+import store.model.order.StockReservation;
+import store.model.order.chain.CheckoutChain;
+import store.util.OrderParser;
+
+class OrderEventTest {
+    private static final LocalDateTime ORDER_DATE_TIME = LocalDateTime.of(2024, 2, 1, 10, 0);
+
+    @TempDir
+    Path tempDir;
+
+    private Products createProducts() {
+        return Catalog.from(new CatalogDto(List.of(
+                new ProductDto("콜라", 1000, 10, "탄산2+1"),
+                new ProductDto("콜라", 1000, 10, null),
+                new ProductDto("물", 500, 10, null)
+        ), List.of(
+                PromotionFileDto.of("탄산2+1", "2", "1", "2024-01-01", "2024-12-31")
+        ))).products();
+    }
+
+    private List<RecordedEvent> record(final Runnable checkout) throws IOException {
+        Path file = tempDir.resolve("order.jfr");
+        try (Recording recording = new Recording()) {
+            List.of("store.OrderParse", "store.OrderContextCreation", "store.OrderHandler",
+                    "store.Confirmation", "store.StockReduction").forEach(recording::enable);
+            recording.start();
+            checkout.run();
+            recording.stop();
+            recording.dump(file);
+        }
+        return RecordingFile.readAllEvents(file);
+    }
+
+    private List<RecordedEvent> eventsNamed(final List<RecordedEvent> events, final String name) {
+        return events.stream()
+                .filter(event -> event.getEventType().getName().equals(name))
+                .toList();
+    }
+
+    @Test
+    void 주문_처리의_단계마다_이벤트를_남긴다() throws IOException {
+        // given
+        Products products = createProducts();
+
+        // when
+        List<RecordedEvent> events = record(() -> CheckoutChain.create().handle(OrderContext.of(
+                ORDER_DATE_TIME,
+                OrderParser.parse("[콜라-2],[물-3],[콜라-2]"),
+                products,
+                OrderConfirmation.answering(true, true, false)
+        )));
+
+        // then
+        RecordedEvent parse = eventsNamed(events, "store.OrderParse").getFirst();
+        assertThat(parse.getInt("itemCount")).isEqualTo(3);
+        assertThat(parse.getInt("totalQuantity")).isEqualTo(7);
+
+        RecordedEvent creation = eventsNamed(events, "store.OrderContextCreation").getFirst();
+        assertThat(creation.getInt("requestedItemCount")).isEqualTo(3);
+        assertThat(creation.getInt("productCount")).isEqualTo(2);
+        assertThat(creation.getLong("promotionIds")).isEqualTo(1L);
+
+        assertThat(eventsNamed(events, "store.OrderHandler"))
+                .extracting(event -> event.getString("handler"))
+                .containsExactly("PromotionalItemAdditionHandler", "InsufficientPromotionalStockHandler",
+                        "MembershipDiscountHandler", "InventoryReduceHandler", "PurchaseHandler");
+    }
+
+    @Test
+    void 확인_질문과_재고_차감_결과를_남긴다() throws IOException {
+        // given
+        Products products = createProducts();
+
+        // when
+        List<RecordedEvent> events = record(() -> CheckoutChain.create().handle(OrderContext.of(
+                ORDER_DATE_TIME,
+                OrderParser.parse("[콜라-14],[물-1]"),
+                products,
+                OrderConfirmation.answering(true, true, true)
+        )));
+
+        // then
+        assertThat(eventsNamed(events, "store.Confirmation"))
+                .extracting(event -> event.getString("question"), event -> event.getInt("quantity"))
+                .containsExactly(
+                        tuple(ConfirmationEvent.NORMAL_PRICE, 5),
+                        tuple(ConfirmationEvent.MEMBERSHIP, 0)
+                );
+
+        RecordedEvent reduction = eventsNamed(events, "store.StockReduction").getFirst();
+        assertThat(reduction.getInt("totalQuantity")).isEqualTo(15);
+        assertThat(reduction.getInt("promotionalQuantity")).isEqualTo(10);
+        assertThat(reduction.getInt("normalQuantity")).isEqualTo(5);
+        assertThat(reduction.getInt("freeQuantity")).isEqualTo(3);
+        assertThat(reduction.getBoolean("succeeded")).isTrue();
+    }
+
+    @Test
+    void 재고가_부족하여_차감하지_못해도_실패로_남긴다() throws IOException {
+        // given
+        Products products = createProducts();
+        OrderContext orderContext = OrderContext.of(
+                ORDER_DATE_TIME, OrderParser.parse("[물-11]"), products, OrderConfirmation.UNAVAILABLE
+        );
+
+        // when
+        List<RecordedEvent> events = record(() -> assertThatThrownBy(() -> StockReservation.reserve(orderContext))
+                .isInstanceOf(IllegalStateException.class));
+
+        // then
+        RecordedEvent reduction = eventsNamed(events, "store.StockReduction").getFirst();
+        assertThat(reduction.getBoolean("succeeded")).isFalse();
+        assertThat(reduction.getInt("totalQuantity")).isEqualTo(11);
+        assertThat(reduction.getInt("normalQuantity")).isZero();
+    }
+}
@@ -0,0 +1,107 @@
+package store.model.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import store.dto.CatalogDto;
+import store.dto.OrderItemDto;
+import store.dto.ProductDto;
+import store.dto.PromotionFileDto;
+import store.model.order.OrderContext;
+import store.model.order.StockReservation;
+
+class CatalogTest {
+    private static final List<PromotionFileDto> PROMOTIONS = List.of(
+            PromotionFileDto.of("탄산2+1", "2", "1", "2024-01-01", "2024-12-31")
+    );
+
+    @Test
+    void 다시_읽어도_현재_재고_수량을_이어받는다() {
+        // given
+        Catalog catalog = Catalog.from(new CatalogDto(List.of(
+                ProductDto.of("콜라", "1000", "10", "탄산2+1"),
+                ProductDto.of("콜라", "1000", "10", "null")
+        ), PROMOTIONS));
+        catalog.products().findByName("콜라").orElseThrow().getPromotionalStock().reduceQuantity(4);
+
+        // when
+        Catalog reloaded = catalog.reload(new CatalogDto(List.of(
+                ProductDto.of("콜라", "1000", "10", "탄산2+1"),
+                ProductDto.of("콜라", "1200", "10", "null"),
+                ProductDto.of("물", "500", "10", "null")
+        ), PROMOTIONS));
+
+        // then
+        assertThat(reloaded.currentProductRows()).containsExactly(
+                new ProductDto("콜라", 1000, 6, "탄산2+1"),
+                new ProductDto("콜라", 1200, 10, null),
+                new ProductDto("물", 500, 10, null)
+        );
+    }
+
+    @Test
+    void 다시_읽어도_기존_스냅샷은_변경되지_않는다() {
+        // given
+        Catalog catalog = Catalog.from(new CatalogDto(List.of(ProductDto.of("콜라", "1000", "10", "null")), PROMOTIONS));
+
+        // when
+        catalog.reload(new CatalogDto(List.of(ProductDto.of("물", "500", "10", "null")), PROMOTIONS));
+
+        // then
+        assertThat(catalog.products().findByName("물")).isEmpty();
+        assertThat(catalog.currentProductRows()).containsExactly(new ProductDto("콜라", 1000, 10, null));
+    }
+
+    @Test
+    void 가격이_같은_재고는_이전_스냅샷과_공유하여_진행_중인_주문의_차감이_반영된다() {
+        // given
+        Catalog catalog = Catalog.from(new CatalogDto(List.of(ProductDto.of("콜라", "1000", "10", "null")), PROMOTIONS));
+        Catalog reloaded = catalog.reload(new CatalogDto(List.of(ProductDto.of("콜라", "1000", "10", "null")), PROMOTIONS));
+
+        // when
+        catalog.products().findByName("콜라").orElseThrow().getNormalStock().reduceQuantity(3);
+
+        // then
+        assertThat(reloaded.products().findByName("콜라").orElseThrow().getNormalStock().getQuantity()).isEqualTo(7);
+    }
+
+    @Test
+    void 가격이_바뀐_뒤_이전_스냅샷으로_예약해도_새_스냅샷에_차감이_반영된다() {
+        // given
+        Catalog catalog = Catalog.from(new CatalogDto(List.of(
+                ProductDto.of("콜라", "1000", "10", "탄산2+1"),
+                ProductDto.of("콜라", "1000", "10", "null")
+        ), PROMOTIONS));
+        Catalog reloaded = catalog.reload(new CatalogDto(List.of(
+                ProductDto.of("콜라", "1200", "10", "탄산2+1"),
+                ProductDto.of("콜라", "1200", "10", "null")
+        ), PROMOTIONS));
+        OrderContext order = OrderContext.of(
+                LocalDateTime.of(2024, 2, 1, 10, 0), List.of(new OrderItemDto("콜라", 13)), catalog.products()
+        );
+
+        // when
+        StockReservation.reserve(order);
+
+        // then
+        Product cola = reloaded.products().findByName("콜라").orElseThrow();
+        assertThat(cola.getPromotionalStock().getQuantity()).isZero();
+        assertThat(cola.getNormalStock().getQuantity()).isEqualTo(7);
+        assertThat(cola.getNormalStock().getPrice()).isEqualTo(1200);
+    }
+
+    @Test
+    void 파일의_수량을_늘리면_진행된_판매를_유지한_채_입고된다() {
+        // given
+        Catalog catalog = Catalog.from(new CatalogDto(List.of(ProductDto.of("콜라", "1000", "10", "null")), PROMOTIONS));
+        catalog.products().findByName("콜라").orElseThrow().getNormalStock().reduceQuantity(4);
+
+        // when
+        Catalog reloaded = catalog.reload(new CatalogDto(List.of(ProductDto.of("콜라", "1000", "30", "null")), PROMOTIONS));
+
+        // then
+        assertThat(reloaded.currentProductRows()).containsExactly(new ProductDto("콜라", 1000, 26, null));
+    }
+}
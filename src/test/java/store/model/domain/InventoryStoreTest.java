@@ -0,0 +1,105 @@
+package store.model.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class InventoryStoreTest {
+
+    @Nested
+    class 슬롯_할당_테스트 {
+        @Test
+        void 할당한_순서대로_슬롯_번호를_부여한다() {
+            // given
+            InventoryStore store = InventoryStore.create();
+
+            // when
+            int first = store.allocate(1000, 10);
+            int second = store.allocate(2000, 20);
+
+            // then
+            assertThat(first).isZero();
+            assertThat(second).isEqualTo(1);
+            assertThat(store.size()).isEqualTo(2);
+        }
+
+        @Test
+        void 페이지를_넘어서_할당해도_기존_슬롯의_값은_유지된다() {
+            // given
+            InventoryStore store = InventoryStore.create();
+            int first = store.allocate(1000, 10);
+
+            // when
+            for (int i = 0; i < 5000; i++) {
+                store.allocate(i, i);
+            }
+
+            // then
+            assertThat(store.price(first)).isEqualTo(1000);
+            assertThat(store.quantity(first)).isEqualTo(10);
+            assertThat(store.quantity(4000)).isEqualTo(3999);
+        }
+    }
+
+    @Nested
+    class 재고_뷰_테스트 {
+        @Test
+        void 같은_슬롯을_가리키는_재고는_수량을_공유한다() {
+            // given
+            InventoryStore store = InventoryStore.create();
+            ProductStock stock = ProductStock.allocate(store, 1000, 10);
+            ProductStock sameSlot = ProductStock.at(store, stock.slot());
+
+            // when
+            sameSlot.reduceQuantity(3);
+
+            // then
+            assertThat(stock).isEqualTo(sameSlot);
+            assertThat(stock.getQuantity()).isEqualTo(7);
+        }
+
+        @Test
+        void 가격이_바뀌어도_같은_슬롯에서_가격만_바꾼다() {
+            // given
+            InventoryStore store = InventoryStore.create();
+            ProductStock stock = ProductStock.allocate(store, 1000, 10);
+            stock.reduceQuantity(3);
+
+            // when
+            ProductStock repriced = stock.reload(1200, 10);
+
+            // then
+            assertThat(repriced).isEqualTo(stock);
+            assertThat(stock.getPrice()).isEqualTo(1200);
+            assertThat(stock.getQuantity()).isEqualTo(7);
+            assertThat(store.size()).isEqualTo(1);
+        }
+
+        @Test
+        void 파일_수량이_바뀐_만큼_현재_수량에_더한다() {
+            // given
+            ProductStock stock = ProductStock.allocate(InventoryStore.create(), 1000, 10);
+            stock.reduceQuantity(4);
+
+            // when
+            stock.reload(1000, 15);
+
+            // then
+            assertThat(stock.getQuantity()).isEqualTo(11);
+        }
+
+        @Test
+        void 파일_수량을_현재_수량보다_많이_줄이면_수량은_0이_된다() {
+            // given
+            ProductStock stock = ProductStock.allocate(InventoryStore.create(), 1000, 10);
+            stock.reduceQuantity(8);
+
+            // when
+            stock.reload(1000, 5);
+
+            // then
+            assertThat(stock.getQuantity()).isZero();
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package store.model.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import store.dto.ProductDto;
+import store.dto.PromotionFileDto;
+
+class InventoryViewTest {
+    private static final List<ProductDto> PRODUCT_ROWS = List.of(
+            new ProductDto("콜라", 1000, 10, "탄산2+1"),
+            new ProductDto("콜라", 1000, 10, null),
+            new ProductDto("물", 500, 10, null)
+    );
+
+    private Products createProducts() {
+        Promotions promotions = Promotions.from(List.of(Promotion.from(
+                PromotionFileDto.of("탄산2+1", "2", "1", "2024-01-01", "2024-12-31")
+        )));
+        return Products.from(PRODUCT_ROWS, promotions);
+    }
+
+    @Nested
+    class 조회_테스트 {
+        @Test
+        void 차감된_재고의_행만_현재_수량으로_갱신한다() {
+            // given
+            Products products = createProducts();
+            InventoryView inventory = InventoryView.of(PRODUCT_ROWS, products);
+            List<ProductDto> before = inventory.rows();
+            ProductDto untouched = before.get(2);
+
+            // when
+            products.findByName("콜라").orElseThrow().getPromotionalStock().reduceQuantity(3);
+            List<ProductDto> after = inventory.rows();
+
+            // then
+            assertThat(after).containsExactly(
+                    new ProductDto("콜라", 1000, 7, "탄산2+1"),
+                    new ProductDto("콜라", 1000, 10, null),
+                    new ProductDto("물", 500, 10, null)
+            );
+            assertThat(after.get(2)).isSameAs(untouched);
+        }
+
+        @Test
+        void 반환된_목록은_읽기_전용이다() {
+            // given
+            InventoryView inventory = InventoryView.of(PRODUCT_ROWS, createProducts());
+
+            // when & then
+            assertThatThrownBy(() -> inventory.rows().set(0, PRODUCT_ROWS.get(0)))
+                    .isInstanceOf(UnsupportedOperationException.class);
+        }
+    }
+
+    @Nested
+    class 생성_예외_테스트 {
+        @Test
+        void 상품_목록에_없는_상품의_행이면_예외가_발생한다() {
+            // given
+            List<ProductDto> rows = List.of(new ProductDto("사이다", 1000, 10, null));
+
+            // when & then
+            assertThatThrownBy(() -> InventoryView.of(rows, createProducts()))
+                    .isInstanceOf(IllegalStateException.class);
+        }
+
+        @Test
+        void 프로모션이_일치하지_않는_행이면_예외가_발생한다() {
+            // given
+            List<ProductDto> rows = List.of(new ProductDto("콜라", 1000, 10, "MD추천상품"));
+
+            // when & then
+            assertThatThrownBy(() -> InventoryView.of(rows, createProducts()))
+                    .isInstanceOf(IllegalStateException.class);
+        }
+    }
+}
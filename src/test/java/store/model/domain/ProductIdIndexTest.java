@@ -0,0 +1,106 @@
+package store.model.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class ProductIdIndexTest {
+
+    @Test
+    void 등록한_상품명으로_상품_번호를_찾는다() {
+        // given
+        ProductIdIndex index = ProductIdIndex.withExpectedSize(1000);
+        for (int id = 0; id < 1000; id++) {
+            index.put("상품" + id, id);
+        }
+
+        // when & then
+        assertThat(index.get("상품0")).isZero();
+        assertThat(index.get("상품999")).isEqualTo(999);
+    }
+
+    @Test
+    void 등록하지_않은_상품명이면_음수를_반환한다() {
+        // given
+        ProductIdIndex index = ProductIdIndex.withExpectedSize(1);
+        index.put("콜라", 0);
+
+        // when & then
+        assertThat(index.get("사이다")).isEqualTo(-1);
+    }
+
+    @Test
+    void 상품명이_null이면_음수를_반환한다() {
+        // given
+        ProductIdIndex index = ProductIdIndex.withExpectedSize(1);
+        index.put("콜라", 0);
+
+        // when & then
+        assertThat(index.get(null)).isEqualTo(-1);
+    }
+
+    @Test
+    void 해시가_충돌하는_상품명도_구분한다() {
+        // given
+        ProductIdIndex index = ProductIdIndex.withExpectedSize(2);
+        index.put("Aa", 0);
+        index.put("BB", 1);
+
+        // when & then
+        assertThat(index.get("Aa")).isZero();
+        assertThat(index.get("BB")).isEqualTo(1);
+    }
+
+    @Test
+    void 해시가_같은_상품명이_여럿이어도_등록한_상품명만_찾는다() {
+        // given
+        ProductIdIndex index = ProductIdIndex.withExpectedSize(4);
+        index.put("AaAa", 0);
+        index.put("AaBB", 1);
+        index.put("BBAa", 2);
+
+        // when & then
+        assertThat("BBBB".hashCode()).isEqualTo("AaAa".hashCode());
+        assertThat(index.get("AaAa")).isZero();
+        assertThat(index.get("AaBB")).isEqualTo(1);
+        assertThat(index.get("BBAa")).isEqualTo(2);
+        assertThat(index.get("BBBB")).isEqualTo(-1);
+    }
+
+    @Test
+    void 같은_상품명을_다시_등록하면_나중에_등록한_번호로_찾는다() {
+        // given
+        ProductIdIndex index = ProductIdIndex.withExpectedSize(2);
+        index.put("콜라", 0);
+        index.put("사이다", 1);
+
+        // when
+        index.put("콜라", 2);
+
+        // then
+        assertThat(index.get("콜라")).isEqualTo(2);
+        assertThat(index.get("사이다")).isEqualTo(1);
+    }
+
+    @Test
+    void 예상_크기만큼_등록해도_모든_상품명을_찾는다() {
+        // given
+        int size = 100_000;
+        ProductIdIndex index = ProductIdIndex.withExpectedSize(size);
+        for (int id = 0; id < size; id++) {
+            index.put("상품" + id, id);
+        }
+
+        // when
+        int found = 0;
+        for (int id = 0; id < size; id++) {
+            if (index.get("상품" + id) == id) {
+                found++;
+            }
+        }
+
+        // then
+        assertThat(found).isEqualTo(size);
+        assertThat(index.get("상품" + size)).isEqualTo(-1);
+    }
+}
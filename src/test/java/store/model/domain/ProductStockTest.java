@@ -3,6 +3,12 @@ package store.model.domain;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -80,4 +86,117 @@ class ProductStockTest {
                     .hasMessage("수량은 0 이상의 정수여야 합니다.");
         }
     }
+
+    @Nested
+    class 재고_차감_테스트 {
+        @Test
+        void 재고가_충분하면_차감하고_true_를_반환한다() {
+            // given
+            ProductStock stock = ProductStock.of(1000, 10);
+
+            // when
+            boolean reduced = stock.tryReduce(4);
+
+            // then
+            assertThat(reduced).isTrue();
+            assertThat(stock.getQuantity()).isEqualTo(6);
+        }
+
+        @Test
+        void 재고가_부족하면_차감하지_않고_false_를_반환한다() {
+            // given
+            ProductStock stock = ProductStock.of(1000, 3);
+
+            // when
+            boolean reduced = stock.tryReduce(4);
+
+            // then
+            assertThat(reduced).isFalse();
+            assertThat(stock.getQuantity()).isEqualTo(3);
+        }
+
+        @Test
+        void 재고보다_많이_차감하면_예외가_발생한다() {
+            // given
+            ProductStock stock = ProductStock.of(1000, 3);
+
+            // when & then
+            assertThatThrownBy(() -> stock.reduceQuantity(4))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessage("재고가 부족합니다.");
+        }
+
+        @Test
+        void 여러_스레드가_동시에_차감해도_재고보다_많이_팔지_않는다() throws Exception {
+            // given
+            int threadCount = 8;
+            int attemptsPerThread = 10_000;
+            ProductStock stock = ProductStock.of(1000, 50_000);
+            ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<Integer>> results = new ArrayList<>();
+
+            // when
+            for (int i = 0; i < threadCount; i++) {
+                results.add(executor.submit(() -> reduceRepeatedly(stock, start, attemptsPerThread)));
+            }
+            start.countDown();
+            int soldCount = 0;
+            for (Future<Integer> result : results) {
+                soldCount += result.get();
+            }
+            executor.shutdown();
+
+            // then
+            assertThat(soldCount).isEqualTo(50_000);
+            assertThat(stock.getQuantity()).isZero();
+        }
+
+        private int reduceRepeatedly(final ProductStock stock, final CountDownLatch start, final int attempts)
+                throws InterruptedException {
+            start.await();
+            int sold = 0;
+            for (int i = 0; i < attempts; i++) {
+                if (stock.tryReduce(1)) {
+                    sold++;
+                }
+            }
+            return sold;
+        }
+    }
+
+    @Nested
+    class 임시_확보_테스트 {
+        @Test
+        void 확보_수량보다_적게_재입고된_뒤에도_확보를_풀면_남은_재고를_사용할_수_있다() {
+            // given
+            ProductStock stock = ProductStock.of(1000, 10);
+            stock.tryHold(8);
+            stock.reload(1000, 2);
+
+            // when
+            stock.releaseHold(8);
+
+            // then
+            assertThat(stock.getQuantity()).isEqualTo(2);
+            assertThat(stock.getAvailableQuantity()).isEqualTo(2);
+            assertThat(stock.tryReduce(2)).isTrue();
+        }
+
+        @Test
+        void 확보_수량보다_적게_재입고된_뒤에도_차감했던_수량을_되돌린다() {
+            // given
+            ProductStock stock = ProductStock.of(1000, 10);
+            stock.tryReduce(2);
+            stock.tryHold(8);
+            stock.reload(1000, 4);
+
+            // when
+            stock.restoreQuantity(2);
+
+            // then
+            assertThat(stock.getQuantity()).isEqualTo(4);
+            assertThat(stock.getAvailableQuantity()).isEqualTo(2);
+        }
+    }
 }
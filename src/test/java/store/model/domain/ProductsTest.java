@@ -63,6 +63,41 @@ class ProductsTest {
             assertThat(products).isNotNull();
         }
 
+        @Test
+        void 같은_이름으로_조회한_상품은_서로_같은_상품이다() {
+            // given
+            List<ProductDto> dtos = List.of(ProductDto.of("상품1", "1000", "10", "null"));
+            Products products = Products.from(dtos, Promotions.from(List.of()));
+
+            // when
+            Product first = products.findByName("상품1").orElseThrow();
+            Product second = products.findByName("상품1").orElseThrow();
+            first.getNormalStock().reduceQuantity(3);
+
+            // then
+            assertThat(first).isEqualTo(second);
+            assertThat(second.getNormalStock().getQuantity()).isEqualTo(7);
+        }
+
+        @Test
+        void 같은_상품을_다시_조회해도_새_객체를_만들지_않는다() {
+            // given
+            Promotions promotions = Promotions.from(List.of(createPromotion("테스트프로모션")));
+            Products products = Products.from(List.of(
+                    ProductDto.of("상품1", "1000", "10", "null"),
+                    ProductDto.of("상품2", "2000", "20", "테스트프로모션")
+            ), promotions);
+
+            // when
+            Product first = products.findByName("상품2").orElseThrow();
+            Product second = products.productAt(products.idOf("상품2"));
+
+            // then
+            assertThat(first).isSameAs(second);
+            assertThat(first.getNormalStock()).isSameAs(second.getNormalStock());
+            assertThat(first.getPromotionalStock()).isSameAs(second.getPromotionalStock());
+        }
+
         @Test
         void 빈_상품_목록을_생성한다() {
             // given
@@ -75,6 +110,32 @@ class ProductsTest {
             // then
             assertThat(products).isNotNull();
         }
+
+        @Test
+        void 상품_번호로_상품을_찾는다() {
+            // given
+            Products products = Products.from(List.of(
+                    ProductDto.of("상품1", "1000", "10", "null"),
+                    ProductDto.of("상품2", "2000", "20", "null")
+            ), Promotions.from(List.of()));
+
+            // when
+            int id = products.idOf("상품2");
+
+            // then
+            assertThat(products.productAt(id)).isEqualTo(products.findByName("상품2").orElseThrow());
+            assertThat(products.idOf("없는상품")).isEqualTo(-1);
+        }
+
+        @Test
+        void 상품명이_null이면_빈_결과를_반환한다() {
+            // given
+            Products products = Products.from(List.of(ProductDto.of("상품1", "1000", "10", "null")),
+                    Promotions.from(List.of()));
+
+            // when & then
+            assertThat(products.findByName(null)).isEmpty();
+        }
     }
 
     @Nested
@@ -96,114 +157,63 @@ class ProductsTest {
     }
 
     @Nested
-    class 상품_재고_수량_갱신_테스트 {
+    class 상품_재고_조회_테스트 {
         @Test
-        void 일반_상품의_수량을_갱신한다() {
+        void 일반_상품_행으로_일반_재고를_찾는다() {
             // given
-            List<ProductDto> originalDtos = List.of(
+            Products products = Products.from(List.of(
                     ProductDto.of("상품1", "1000", "10", "null")
-            );
-            Products products = Products.from(originalDtos, Promotions.from(List.of()));
-
-            List<ProductDto> updateTargetDtos = List.of(
-                    ProductDto.of("상품1", "1000", "5", "null")
-            );
+            ), Promotions.from(List.of()));
 
             // when
-            List<ProductDto> updatedDtos = products.updateDtoQuantities(updateTargetDtos);
+            ProductStock stock = products.findStock(ProductDto.of("상품1", "1000", "5", "null"));
 
             // then
-            assertThat(updatedDtos)
-                    .hasSize(1)
-                    .element(0)
-                    .extracting(ProductDto::quantity)
-                    .isEqualTo(10); // 원래 재고량이 반영되어야 함
+            assertThat(stock.getQuantity()).isEqualTo(10); // 파일의 수량이 아닌 현재 재고량
         }
 
         @Test
-        void 프로모션_상품의_수량을_갱신한다() {
+        void 프로모션_상품_행으로_프로모션_재고를_찾는다() {
             // given
             String promotionName = "테스트프로모션";
             Promotions promotions = Promotions.from(List.of(createPromotion(promotionName)));
-            List<ProductDto> originalDtos = List.of(
-                    ProductDto.of("상품1", "1000", "10", promotionName)
-            );
-            Products products = Products.from(originalDtos, promotions);
-
-            List<ProductDto> updateTargetDtos = List.of(
-                    ProductDto.of("상품1", "1000", "5", promotionName)
-            );
+            Products products = Products.from(List.of(
+                    ProductDto.of("상품1", "1000", "10", promotionName),
+                    ProductDto.of("상품1", "1000", "20", "null")
+            ), promotions);
 
             // when
-            List<ProductDto> updatedDtos = products.updateDtoQuantities(updateTargetDtos);
+            ProductStock stock = products.findStock(ProductDto.of("상품1", "1000", "5", promotionName));
 
             // then
-            assertThat(updatedDtos)
-                    .hasSize(1)
-                    .element(0)
-                    .extracting(ProductDto::quantity)
-                    .isEqualTo(10); // 원래 프로모션 재고량이 반영되어야 함
+            assertThat(stock.getQuantity()).isEqualTo(10);
         }
 
         @Test
-        void 존재하지_않는_상품_수량_갱신시_예외가_발생한다() {
+        void 존재하지_않는_상품의_재고를_찾으면_예외가_발생한다() {
             // given
             Products products = Products.from(List.of(), Promotions.from(List.of()));
-            List<ProductDto> updateTargetDtos = List.of(
-                    ProductDto.of("존재하지_않는_상품", "1000", "10", "null")
-            );
 
             // when & then
-            assertThatThrownBy(() -> products.updateDtoQuantities(updateTargetDtos))
+            assertThatThrownBy(() -> products.findStock(ProductDto.of("존재하지_않는_상품", "1000", "10", "null")))
                     .isInstanceOf(IllegalStateException.class)
                     .hasMessage("상품을 찾을 수 없습니다: 존재하지_않는_상품");
         }
 
         @Test
-        void 유효하지_않은_프로모션으로_수량_갱신시_예외가_발생한다() {
+        void 유효하지_않은_프로모션의_재고를_찾으면_예외가_발생한다() {
             // given
             String promotionName = "테스트프로모션";
             Promotions promotions = Promotions.from(List.of(createPromotion(promotionName)));
-            List<ProductDto> originalDtos = List.of(
+            Products products = Products.from(List.of(
                     ProductDto.of("상품1", "1000", "10", "null")  // 일반 상품으로 생성
-            );
-            Products products = Products.from(originalDtos, promotions);
-
-            List<ProductDto> updateTargetDtos = List.of(
-                    ProductDto.of("상품1", "1000", "5", promotionName)  // 프로모션 상품으로 조회 시도
-            );
+            ), promotions);
 
             // when & then
-            assertThatThrownBy(() -> products.updateDtoQuantities(updateTargetDtos))
+            assertThatThrownBy(() -> products.findStock(ProductDto.of("상품1", "1000", "5", promotionName)))
                     .isInstanceOf(IllegalStateException.class)
                     .hasMessage("유효하지 않은 프로모션 재고입니다.");
         }
-
-        @Test
-        void 여러_상품의_수량을_한번에_갱신한다() {
-            // given
-            String promotionName = "테스트프로모션";
-            Promotions promotions = Promotions.from(List.of(createPromotion(promotionName)));
-            List<ProductDto> originalDtos = List.of(
-                    ProductDto.of("상품1", "1000", "10", "null"),
-                    ProductDto.of("상품2", "2000", "20", promotionName)
-            );
-            Products products = Products.from(originalDtos, promotions);
-
-            List<ProductDto> updateTargetDtos = List.of(
-                    ProductDto.of("상품1", "1000", "5", "null"),
-                    ProductDto.of("상품2", "2000", "15", promotionName)
-            );
-
-            // when
-            List<ProductDto> updatedDtos = products.updateDtoQuantities(updateTargetDtos);
-
-            // then
-            assertThat(updatedDtos)
-                    .hasSize(2)
-                    .extracting(ProductDto::quantity)
-                    .containsExactly(10, 20); // 각각 원래 재고량이 반영되어야 함
-        }
     }
 
     private Promotion createPromotion(String name) {
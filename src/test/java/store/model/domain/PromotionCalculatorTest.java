@@ -0,0 +1,82 @@
+package store.model.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import store.dto.PromotionFileDto;
+
+class PromotionCalculatorTest {
+    private PromotionCalculator createCalculator(final int buy, final int get) {
+        return Promotion.from(new PromotionFileDto(
+                "행사", buy, get, LocalDate.of(2024, 1, 1), LocalDate.of(2024, 12, 31)
+        )).getCalculator();
+    }
+
+    @Test
+    void 세트_크기는_구매_수량과_증정_수량의_합이다() {
+        // when & then
+        assertThat(createCalculator(2, 1).setSize()).isEqualTo(3);
+    }
+
+    @Nested
+    class 증정_수량_계산_테스트 {
+        @ParameterizedTest(name = "프로모션[{0}+{1}] 프로모션 재고 사용[{2}] -> 증정[{3}] 세트 수량[{4}]")
+        @CsvSource({
+                "2, 1, 7,  2, 6",
+                "2, 1, 2,  0, 0",
+                "1, 1, 5,  2, 4",
+                "3, 2, 10, 4, 10",
+        })
+        void 완성된_세트만큼_증정한다(int buy, int get, int promotionalQuantity, int expectedFree, int expectedInSets) {
+            // given
+            PromotionCalculator calculator = createCalculator(buy, get);
+
+            // when & then
+            assertThat(calculator.freeQuantity(promotionalQuantity)).isEqualTo(expectedFree);
+            assertThat(calculator.quantityInSets(promotionalQuantity)).isEqualTo(expectedInSets);
+        }
+    }
+
+    @Nested
+    class 추가_수량_계산_테스트 {
+        @ParameterizedTest(name = "프로모션[{0}+{1}] 주문[{2}] 프로모션 재고[{3}] -> 추가[{4}]")
+        @CsvSource({
+                "2, 1, 2, 10, 1",     // 구매 수량만큼 담았으므로 증정 1개
+                "2, 1, 5, 10, 1",
+                "2, 1, 4, 10, 0",     // 구매 수량을 채우지 못함
+                "2, 1, 3, 10, 0",     // 세트가 이미 완성됨
+                "2, 1, 2, 2,  0",     // 프로모션 재고 부족
+                "3, 2, 4, 5,  1",
+        })
+        void 구매_수량을_채운_세트의_증정_수량을_구한다(int buy, int get, int quantity, int stock, int expected) {
+            // when & then
+            assertThat(createCalculator(buy, get).topUpQuantity(quantity, stock)).isEqualTo(expected);
+        }
+    }
+
+    @Nested
+    class 정가_구매_수량_계산_테스트 {
+        @ParameterizedTest(name = "프로모션[{0}+{1}] 주문[{2}] 프로모션 재고[{3}] -> 정가[{4}]")
+        @CsvSource({
+                "2, 1, 12, 9,  3",
+                "2, 1, 12, 8,  6",
+                "3, 2, 12, 10, 2",
+                "2, 1, 9,  12, 0",
+                "2, 1, 5,  2,  5",
+        })
+        void 프로모션_재고로_채울_수_없는_수량을_구한다(int buy, int get, int quantity, int stock, int expected) {
+            // when & then
+            assertThat(createCalculator(buy, get).normalPriceQuantity(quantity, stock)).isEqualTo(expected);
+        }
+
+        @Test
+        void 프로모션_재고로_채울_수_있는_세트_수량을_구한다() {
+            // when & then
+            assertThat(createCalculator(2, 1).maxPromotionalQuantity(8)).isEqualTo(6);
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package store.model.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+import store.dto.PromotionFileDto;
+
+class PromotionCalendarTest {
+
+    private PromotionFileDto createRow(final String name, final String startDate, final String endDate) {
+        return PromotionFileDto.of(name, "2", "1", startDate, endDate);
+    }
+
+    @Test
+    void 오늘_진행_중인_프로모션만_적용_가능하다() {
+        // given
+        List<PromotionFileDto> rows = List.of(
+                createRow("진행중", "2024-01-01", "2024-12-31"),
+                createRow("종료", "2023-01-01", "2023-12-31")
+        );
+        PromotionCalendar calendar = PromotionCalendar.of(rows);
+        Promotion current = Promotion.from(rows.get(0), calendar, 0);
+        Promotion ended = Promotion.from(rows.get(1), calendar, 1);
+        LocalDate today = LocalDate.of(2024, 2, 1);
+
+        // when & then
+        assertThat(calendar.isActive(0, today)).isTrue();
+        assertThat(calendar.isActive(1, today)).isFalse();
+        assertThat(current.isApplicable(today)).isTrue();
+        assertThat(ended.isApplicable(today)).isFalse();
+    }
+
+    @Test
+    void 영업일이_바뀌면_그날_기준으로_다시_판단한다() {
+        // given
+        PromotionCalendar calendar = PromotionCalendar.of(List.of(createRow("하루", "2024-02-01", "2024-02-01")));
+
+        // when
+        boolean firstDay = calendar.isActive(0, LocalDate.of(2024, 2, 1));
+        boolean nextDay = calendar.isActive(0, LocalDate.of(2024, 2, 2));
+
+        // then
+        assertThat(firstDay).isTrue();
+        assertThat(nextDay).isFalse();
+    }
+
+    @Test
+    void 이전_날짜를_조회해도_기간으로_판단한다() {
+        // given
+        PromotionCalendar calendar = PromotionCalendar.of(List.of(createRow("하루", "2024-02-01", "2024-02-01")));
+        calendar.isActive(0, LocalDate.of(2024, 3, 1));
+
+        // when & then
+        assertThat(calendar.isActive(0, LocalDate.of(2024, 2, 1))).isTrue();
+        assertThat(calendar.isActive(0, LocalDate.of(2024, 3, 1))).isFalse();
+    }
+
+    @Test
+    void 이전_날짜와_번갈아_조회해도_날짜마다_올바르게_판단한다() {
+        // given
+        PromotionCalendar calendar = PromotionCalendar.of(List.of(createRow("하루", "2024-02-01", "2024-02-01")));
+        calendar.isActive(0, LocalDate.of(2024, 2, 2));
+
+        // when & then
+        for (int i = 0; i < 3; i++) {
+            assertThat(calendar.isActive(0, LocalDate.of(2024, 2, 1))).isTrue();
+            assertThat(calendar.isActive(0, LocalDate.of(2024, 2, 2))).isFalse();
+            assertThat(calendar.isActive(0, LocalDate.of(2024, 1, 31))).isFalse();
+        }
+    }
+
+    @Test
+    void 달력_없이_만든_프로모션은_기간으로_판단하고_번호가_없다() {
+        // given
+        Promotion promotion = Promotion.from(createRow("하루", "2024-02-01", "2024-02-01"));
+        Promotions.from(List.of(promotion));
+
+        // when & then
+        assertThat(promotion.getId()).isEqualTo(-1);
+        assertThat(promotion.isApplicable(LocalDate.of(2024, 2, 1))).isTrue();
+        assertThat(promotion.isApplicable(LocalDate.of(2024, 2, 2))).isFalse();
+    }
+
+    @Test
+    void 여러_날짜를_동시에_조회해도_날짜마다_올바르게_판단한다() throws Exception {
+        // given
+        PromotionCalendar calendar = PromotionCalendar.of(List.of(createRow("하루", "2024-02-01", "2024-02-01")));
+        LocalDate promotionDay = LocalDate.of(2024, 2, 1);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        List<Future<Boolean>> results = new ArrayList<>();
+
+        // when
+        for (int i = 0; i < 4000; i++) {
+            LocalDate date = promotionDay.plusDays(i % 4);
+            results.add(executor.submit(() -> calendar.isActive(0, date) == date.equals(promotionDay)));
+        }
+        boolean allCorrect = true;
+        for (Future<Boolean> result : results) {
+            allCorrect &= result.get();
+        }
+        executor.shutdown();
+
+        // then
+        assertThat(allCorrect).isTrue();
+    }
+
+    @Test
+    void 프로모션이_64개를_넘어도_번호별로_구분한다() {
+        // given
+        List<PromotionFileDto> rows = IntStream.range(0, 130)
+                .mapToObj(id -> createRow("프로모션" + id, "2024-01-01", endDateOf(id)))
+                .toList();
+        PromotionCalendar calendar = PromotionCalendar.of(rows);
+        LocalDate today = LocalDate.of(2024, 6, 1);
+
+        // when & then
+        assertThat(calendar.isActive(64, today)).isTrue();
+        assertThat(calendar.isActive(65, today)).isFalse();
+        assertThat(calendar.isActive(128, today)).isTrue();
+        assertThat(calendar.isActive(129, today)).isFalse();
+    }
+
+    private String endDateOf(final int id) {
+        if (id % 2 == 0) {
+            return "2024-12-31";
+        }
+        return "2024-01-31";
+    }
+}
@@ -0,0 +1,115 @@
+package store.model.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import store.dto.PromotionFileDto;
+import store.vo.DateRange;
+
+class PromotionIntervalIndexTest {
+
+    private Promotion createPromotion(final String name, final LocalDate startDate, final LocalDate endDate) {
+        return Promotion.from(new PromotionFileDto(name, 2, 1, startDate, endDate));
+    }
+
+    @Nested
+    class 구간_조회_테스트 {
+        private final Promotion winter = createPromotion(
+                "겨울", LocalDate.of(2024, 1, 1), LocalDate.of(2024, 2, 29));
+        private final Promotion february = createPromotion(
+                "2월", LocalDate.of(2024, 2, 1), LocalDate.of(2024, 2, 29));
+        private final Promotion spring = createPromotion(
+                "봄", LocalDate.of(2024, 3, 1), LocalDate.of(2024, 5, 31));
+        private final PromotionIntervalIndex index = PromotionIntervalIndex.of(List.of(spring, february, winter));
+
+        @Test
+        void 하루를_조회하면_그날_진행_중인_프로모션을_시작일_순으로_반환한다() {
+            // given
+            LocalDate date = LocalDate.of(2024, 2, 15);
+
+            // when
+            List<Promotion> found = index.findOverlapping(DateRange.of(date, date));
+
+            // then
+            assertThat(found).containsExactly(winter, february);
+        }
+
+        @Test
+        void 구간의_경계가_맞닿는_프로모션도_포함한다() {
+            // given
+            DateRange range = DateRange.of(LocalDate.of(2024, 2, 29), LocalDate.of(2024, 3, 1));
+
+            // when
+            List<Promotion> found = index.findOverlapping(range);
+
+            // then
+            assertThat(found).containsExactly(winter, february, spring);
+        }
+
+        @Test
+        void 겹치는_프로모션이_없으면_빈_목록을_반환한다() {
+            // given
+            DateRange range = DateRange.of(LocalDate.of(2024, 6, 1), LocalDate.of(2024, 6, 30));
+
+            // when & then
+            assertThat(index.findOverlapping(range)).isEmpty();
+        }
+    }
+
+    @Test
+    void 모든_프로모션을_확인한_결과와_같다() {
+        // given
+        Random random = new Random(42);
+        LocalDate base = LocalDate.of(2024, 1, 1);
+        List<Promotion> promotions = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            LocalDate startDate = base.plusDays(random.nextInt(365));
+            promotions.add(createPromotion("프로모션" + i, startDate, startDate.plusDays(random.nextInt(30))));
+        }
+        PromotionIntervalIndex index = PromotionIntervalIndex.of(promotions);
+
+        for (int i = 0; i < 200; i++) {
+            // when
+            LocalDate startDate = base.plusDays(random.nextInt(400));
+            DateRange range = DateRange.of(startDate, startDate.plusDays(random.nextInt(10)));
+
+            // then
+            assertThat(index.findOverlapping(range))
+                    .containsExactlyInAnyOrderElementsOf(scan(promotions, range));
+        }
+    }
+
+    @Test
+    void 겹치는_프로모션이_많아도_모두_시작일_순으로_반환한다() {
+        // given
+        LocalDate base = LocalDate.of(2024, 1, 1);
+        List<Promotion> promotions = new ArrayList<>();
+        for (int i = 0; i < 100_000; i++) {
+            promotions.add(createPromotion("프로모션" + i, base.plusDays(i % 365), base.plusDays(365 + i)));
+        }
+        PromotionIntervalIndex index = PromotionIntervalIndex.of(promotions);
+        DateRange range = DateRange.of(base.plusDays(200), base.plusDays(200));
+
+        // when
+        List<Promotion> found = index.findOverlapping(range);
+
+        // then
+        assertThat(found).hasSize(201 * 274);
+        assertThat(found).containsExactlyElementsOf(scan(promotions, range).stream()
+                .sorted(Comparator.comparing(promotion -> promotion.getDateRange().startDate()))
+                .toList());
+    }
+
+    private List<Promotion> scan(final List<Promotion> promotions, final DateRange range) {
+        return promotions.stream()
+                .filter(promotion -> !promotion.getDateRange().endDate().isBefore(range.startDate()))
+                .filter(promotion -> !promotion.getDateRange().startDate().isAfter(range.endDate()))
+                .toList();
+    }
+}
@@ -124,6 +124,25 @@ class PromotionsTest {
         }
     }
 
+    @Nested
+    class 기간_검색_테스트 {
+        @Test
+        void 주어진_날짜에_진행_중인_프로모션을_찾는다() {
+            // given
+            Promotion current = createPromotion("진행중");
+            Promotion ended = Promotion.from(new PromotionFileDto(
+                    "종료", 2, 1, LocalDate.of(2023, 1, 1), LocalDate.of(2023, 12, 31)
+            ));
+            Promotions promotions = Promotions.from(List.of(ended, current));
+
+            // when
+            List<Promotion> active = promotions.findActiveOn(LocalDate.of(2024, 2, 1));
+
+            // then
+            assertThat(active).isEqualTo(List.of(current));
+        }
+    }
+
     private Promotion createPromotion(String name) {
         return Promotion.from(new PromotionFileDto(
                 name,
@@ -61,6 +61,32 @@ class OrderContextTest {
         }
     }
 
+    @Nested
+    class 주문_재사용_테스트 {
+        @Test
+        void 처리한_주문을_다른_주문으로_다시_채운다() {
+            // given
+            OrderContext orderContext = OrderContext.of(LocalDateTime.now(), List.of(
+                    OrderItemDto.of("상품A", 1),
+                    OrderItemDto.of("상품B", 2)
+            ), products);
+            orderContext.setMembershipDiscountSupplier(price -> price);
+            orderContext.getOrderLines().recordReduction(0, 1, 0, 0);
+
+            // when
+            orderContext.reset(LocalDateTime.now(), List.of(OrderItemDto.of("상품B", 3)), products,
+                    OrderConfirmation.UNAVAILABLE);
+
+            // then
+            assertThat(orderContext.getOrderLines().size()).isEqualTo(1);
+            assertThat(orderContext.getOrderLines().product(0)).isEqualTo(products.findByName("상품B").orElseThrow());
+            assertThat(orderContext.getOrderLines().quantity(0)).isEqualTo(3);
+            assertThat(orderContext.getOrderLines().normalQuantity(0)).isZero();
+            assertThat(orderContext.isMembershipDiscountApplied()).isFalse();
+            assertThat(orderContext.getReceipt()).isNull();
+        }
+    }
+
     @Nested
     class 주문_검증_테스트 {
         @Test
@@ -89,6 +115,20 @@ class OrderContextTest {
                     .hasMessage(WRONG_ORDER_INPUT.message());
         }
 
+        @Test
+        void 같은_상품의_주문_수량_합이_int_범위를_넘으면_예외가_발생한다() {
+            // given
+            List<OrderItemDto> items = List.of(
+                    OrderItemDto.of("상품A", Integer.MAX_VALUE),
+                    OrderItemDto.of("상품A", 1)
+            );
+
+            // when & then
+            assertThatThrownBy(() -> OrderContext.of(LocalDateTime.now(), items, products))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessage(WRONG_ORDER_INPUT.message());
+        }
+
         @Test
         void 주문_수량이_음수이면_예외가_발생한다() {
             // given
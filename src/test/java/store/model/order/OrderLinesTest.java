@@ -0,0 +1,128 @@
+package store.model.order;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static store.constant.ExceptionMessage.WRONG_ORDER_INPUT;
+
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import store.dto.ProductDto;
+import store.model.domain.Products;
+import store.model.domain.Promotions;
+
+class OrderLinesTest {
+    private Products products;
+    private OrderLines orderLines;
+
+    @BeforeEach
+    void setUp() {
+        products = Products.from(List.of(
+                ProductDto.of("상품A", "1000", "10", "null"),
+                ProductDto.of("상품B", "2000", "20", "null"),
+                ProductDto.of("상품C", "3000", "30", "null")
+        ), Promotions.from(List.of()));
+        orderLines = new OrderLines();
+    }
+
+    private void add(final String name, final int quantity) {
+        orderLines.add(products, products.idOf(name), quantity);
+    }
+
+    @Test
+    void 같은_상품은_하나의_항목으로_합친다() {
+        // when
+        add("상품A", 1);
+        add("상품B", 2);
+        add("상품A", 3);
+
+        // then
+        assertThat(orderLines.size()).isEqualTo(2);
+        assertThat(orderLines.product(0).getName()).isEqualTo("상품A");
+        assertThat(orderLines.quantity(0)).isEqualTo(4);
+        assertThat(orderLines.totalQuantity()).isEqualTo(6);
+    }
+
+    @Test
+    void 같은_상품의_수량을_더해_int_범위를_넘으면_예외가_발생한다() {
+        // given
+        add("상품A", Integer.MAX_VALUE);
+
+        // when & then
+        assertThatThrownBy(() -> add("상품A", 1))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage(WRONG_ORDER_INPUT.message());
+        assertThatThrownBy(() -> orderLines.addQuantity(0, 1))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage(WRONG_ORDER_INPUT.message());
+        assertThat(orderLines.quantity(0)).isEqualTo(Integer.MAX_VALUE);
+    }
+
+    @Test
+    void 다른_상품을_더해_총_수량이_int_범위를_넘으면_예외가_발생한다() {
+        // given
+        add("상품A", Integer.MAX_VALUE);
+
+        // when & then
+        assertThatThrownBy(() -> add("상품B", 1))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage(WRONG_ORDER_INPUT.message());
+        assertThat(orderLines.size()).isEqualTo(1);
+    }
+
+    @Test
+    void 수량이_0인_항목을_삭제해도_나머지_항목의_순서와_차감_결과를_유지한다() {
+        // given
+        add("상품A", 1);
+        add("상품B", 2);
+        add("상품C", 3);
+        orderLines.recordReduction(2, 1, 2, 1);
+
+        // when
+        orderLines.updateQuantity(1, 0);
+        orderLines.removeEmptyLines();
+
+        // then
+        assertThat(orderLines.size()).isEqualTo(2);
+        assertThat(orderLines.product(1).getName()).isEqualTo("상품C");
+        assertThat(orderLines.normalQuantity(1)).isEqualTo(1);
+        assertThat(orderLines.promotionalQuantity(1)).isEqualTo(2);
+        assertThat(orderLines.freeQuantity(1)).isEqualTo(1);
+    }
+
+    @Test
+    void 비운_뒤_다시_채우면_이전_주문의_항목과_차감_결과가_남지_않는다() {
+        // given
+        add("상품A", 1);
+        orderLines.recordReduction(0, 1, 0, 0);
+
+        // when
+        orderLines.clear();
+        add("상품B", 5);
+
+        // then
+        assertThat(orderLines.size()).isEqualTo(1);
+        assertThat(orderLines.product(0).getName()).isEqualTo("상품B");
+        assertThat(orderLines.normalQuantity(0)).isZero();
+    }
+
+    @Test
+    void 초기_용량보다_많은_상품도_담는다() {
+        // given
+        List<ProductDto> dtos = IntStream.range(0, 20)
+                .mapToObj(i -> ProductDto.of("상품" + i, "100", "10", "null"))
+                .toList();
+        products = Products.from(dtos, Promotions.from(List.of()));
+
+        // when
+        for (int i = 0; i < 20; i++) {
+            add("상품" + i, i + 1);
+        }
+
+        // then
+        assertThat(orderLines.size()).isEqualTo(20);
+        assertThat(orderLines.product(19).getName()).isEqualTo("상품19");
+        assertThat(orderLines.quantity(19)).isEqualTo(20);
+    }
+}
@@ -0,0 +1,112 @@
+package store.model.order;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import store.dto.OrderItemDto;
+import store.dto.ProductDto;
+import store.model.domain.Products;
+import store.model.domain.Promotions;
+
+class PartitionedOrderExecutorTest {
+    private static final LocalDateTime ORDER_DATE_TIME = LocalDateTime.of(2024, 2, 1, 10, 0);
+    private static final List<String> NAMES = List.of("콜라", "사이다", "물", "감자칩", "초코바", "컵라면");
+
+    private final PartitionedOrderExecutor executor = PartitionedOrderExecutor.start(4);
+    private final Products products = Products.from(
+            NAMES.stream().map(name -> new ProductDto(name, 1000, 1000, null)).toList(),
+            Promotions.from(List.of())
+    );
+
+    @AfterEach
+    void tearDown() {
+        executor.close();
+    }
+
+    // i 번째 주문은 i 번째 상품과 그다음 상품을 주문하므로 이웃한 주문끼리 상품이 겹친다
+    private List<OrderContext> createOrders(final int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> OrderContext.of(ORDER_DATE_TIME, List.of(
+                        new OrderItemDto(NAMES.get(i % NAMES.size()), 1),
+                        new OrderItemDto(NAMES.get((i + 1) % NAMES.size()), 1)
+                ), products))
+                .toList();
+    }
+
+    @Test
+    void 처리_결과를_전달한_주문_순서대로_반환한다() {
+        // given
+        List<OrderContext> orders = createOrders(100);
+
+        // when
+        List<Integer> results = executor.execute(orders, orders::indexOf, e -> -1);
+
+        // then
+        assertThat(results).containsExactlyElementsOf(IntStream.range(0, 100).boxed().toList());
+    }
+
+    @Test
+    void 같은_상품을_주문한_주문들은_전달한_순서대로_처리한다() {
+        // given
+        List<OrderContext> orders = createOrders(300);
+        Map<String, List<Integer>> processed = new ConcurrentHashMap<>();
+
+        // when
+        executor.execute(orders, order -> {
+            OrderLines orderLines = order.getOrderLines();
+            for (int line = 0; line < orderLines.size(); line++) {
+                processed.computeIfAbsent(orderLines.product(line).getName(),
+                        name -> Collections.synchronizedList(new ArrayList<>())).add(orders.indexOf(order));
+            }
+            return order;
+        }, e -> null);
+
+        // then
+        assertThat(processed).hasSize(NAMES.size());
+        processed.values().forEach(sequences -> assertThat(sequences).isSorted().hasSize(100));
+    }
+
+    @Test
+    void 여러_파티션에_걸친_주문도_재고를_정확히_차감한다() {
+        // given
+        List<OrderContext> orders = createOrders(600);
+
+        // when
+        executor.execute(orders, order -> {
+            StockReservation.reserve(order);
+            return order;
+        }, e -> null);
+
+        // then
+        NAMES.forEach(name -> assertThat(products.findByName(name).orElseThrow().getNormalStock().getQuantity())
+                .isEqualTo(800));
+    }
+
+    @Test
+    void 처리_중_예외가_발생한_주문만_실패로_처리하고_나머지_주문은_처리한다() {
+        // given
+        List<OrderContext> orders = createOrders(10);
+
+        // when
+        List<String> results = executor.execute(orders, order -> {
+            if (orders.indexOf(order) == 3) {
+                throw new ArithmeticException("처리 실패");
+            }
+            StockReservation.reserve(order);
+            return "완료";
+        }, e -> e.getMessage());
+
+        // then
+        assertThat(results.get(3)).isEqualTo("처리 실패");
+        assertThat(results).filteredOn("완료"::equals).hasSize(9);
+        assertThat(products.findByName("콜라").orElseThrow().getNormalStock().getQuantity()).isEqualTo(997);
+    }
+}
@@ -0,0 +1,174 @@
+package store.model.order;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import store.dto.OrderItemDto;
+import store.dto.ProductDto;
+import store.dto.PromotionFileDto;
+import store.dto.ReceiptDto;
+import store.model.domain.Products;
+import store.model.domain.Promotion;
+import store.model.domain.Promotions;
+import store.model.order.chain.CheckoutChain;
+import store.vo.Money;
+
+class PriceQuoterTest {
+    private static final LocalDateTime ORDER_DATE_TIME = LocalDateTime.of(2024, 2, 1, 10, 0);
+
+    private Products createProducts() {
+        return createProducts(List.of(
+                new ProductDto("콜라", 1000, 5, "탄산2+1"),
+                new ProductDto("콜라", 1000, 10, null),
+                new ProductDto("물", 500, 10, null)
+        ));
+    }
+
+    private Products createProducts(final List<ProductDto> productDtos) {
+        Promotions promotions = Promotions.from(List.of(Promotion.from(
+                PromotionFileDto.of("탄산2+1", "2", "1", "2024-01-01", "2024-12-31")
+        )));
+        return Products.from(productDtos, promotions);
+    }
+
+    private OrderContext createOrder(final Products products, final OrderItemDto... items) {
+        return OrderContext.of(
+                ORDER_DATE_TIME, List.of(items), products, OrderConfirmation.answering(false, true, false)
+        );
+    }
+
+    private int stockOf(final Products products, final String name) {
+        return products.findByName(name).orElseThrow().getTotalStock(ORDER_DATE_TIME.toLocalDate());
+    }
+
+    @Nested
+    class 견적_계산_테스트 {
+        @Test
+        void 결제한_영수증과_같은_금액을_계산한다() {
+            // given
+            Products quotedProducts = createProducts();
+            Products paidProducts = createProducts();
+            OrderItemDto[] items = {new OrderItemDto("콜라", 7), new OrderItemDto("물", 3)};
+
+            // when
+            ReceiptDto quote = new PriceQuoter().quote(createOrder(quotedProducts, items));
+            OrderContext paid = createOrder(paidProducts, items);
+            CheckoutChain.create().handle(paid);
+
+            // then
+            assertThat(quote).isEqualTo(paid.getReceipt());
+            assertThat(quote.promotionalItems()).containsEntry("콜라", 1);
+            assertThat(quote.priceInfo().calculateFinalPrice()).isEqualTo(Money.of(7500));
+        }
+
+        @Test
+        void 재고와_주문을_바꾸지_않는다() {
+            // given
+            Products products = createProducts();
+            OrderContext order = createOrder(products, new OrderItemDto("콜라", 7));
+
+            // when
+            new PriceQuoter().quote(order);
+
+            // then
+            assertThat(stockOf(products, "콜라")).isEqualTo(15);
+            assertThat(order.getOrderLines().promotionalQuantity(0)).isZero();
+            assertThat(order.getReceipt()).isNull();
+        }
+
+        @Test
+        void 멤버십_할인이_적용된_주문은_할인_금액을_포함한다() {
+            // given
+            OrderContext order = createOrder(createProducts(), new OrderItemDto("물", 4));
+            order.setMembershipDiscountSupplier(price -> price.percent(30));
+
+            // when
+            ReceiptDto quote = new PriceQuoter().quote(order);
+
+            // then
+            assertThat(quote.priceInfo().membershipDiscount()).isEqualTo(Money.of(600));
+        }
+    }
+
+    @Nested
+    class 재계산_테스트 {
+        @Test
+        void 수량이_바뀐_항목을_반영한다() {
+            // given
+            Products products = createProducts();
+            OrderContext order = createOrder(products, new OrderItemDto("콜라", 2), new OrderItemDto("물", 1));
+            PriceQuoter quoter = new PriceQuoter();
+            quoter.quote(order);
+
+            // when
+            order.getOrderLines().addQuantity(0, 1);
+            ReceiptDto quote = quoter.quote(order);
+
+            // then
+            assertThat(quote).isEqualTo(new PriceQuoter().quote(order));
+            assertThat(quote.priceInfo().totalPrice()).isEqualTo(Money.of(3500));
+            assertThat(quote.priceInfo().promotionDiscount()).isEqualTo(Money.of(1000));
+        }
+
+        @Test
+        void 주문에서_빠진_상품은_견적에서도_빠진다() {
+            // given
+            Products products = createProducts();
+            OrderContext order = createOrder(products, new OrderItemDto("콜라", 3), new OrderItemDto("물", 1));
+            PriceQuoter quoter = new PriceQuoter();
+            quoter.quote(order);
+
+            // when
+            order.reset(ORDER_DATE_TIME, List.of(new OrderItemDto("물", 2)), products, OrderConfirmation.UNAVAILABLE);
+            ReceiptDto quote = quoter.quote(order);
+
+            // then
+            assertThat(quote.orderedItems()).containsOnlyKeys("물");
+            assertThat(quote.promotionalItems()).isEmpty();
+            assertThat(quote.priceInfo().totalQuantity()).isEqualTo(2);
+            assertThat(quote.priceInfo().calculateFinalPrice()).isEqualTo(Money.of(1000));
+        }
+
+        @Test
+        void 다시_읽은_재고에서_상품_번호가_바뀌어도_모든_항목을_계산한다() {
+            // given
+            OrderItemDto[] items = {new OrderItemDto("콜라", 2), new OrderItemDto("물", 1)};
+            OrderContext order = createOrder(createProducts(), items);
+            PriceQuoter quoter = new PriceQuoter();
+            quoter.quote(order);
+            Products reloaded = createProducts(List.of(
+                    new ProductDto("물", 500, 10, null),
+                    new ProductDto("콜라", 1000, 5, "탄산2+1"),
+                    new ProductDto("콜라", 1000, 10, null)
+            ));
+
+            // when
+            order.reset(ORDER_DATE_TIME, List.of(items), reloaded, OrderConfirmation.UNAVAILABLE);
+            ReceiptDto quote = quoter.quote(order);
+
+            // then
+            assertThat(quote).isEqualTo(new PriceQuoter().quote(order));
+            assertThat(quote.orderedItems()).containsOnlyKeys("콜라", "물");
+        }
+
+        @Test
+        void 프로모션_재고가_바뀌면_항목을_다시_계산한다() {
+            // given
+            Products products = createProducts();
+            OrderContext order = createOrder(products, new OrderItemDto("콜라", 3));
+            PriceQuoter quoter = new PriceQuoter();
+            quoter.quote(order);
+
+            // when
+            products.findByName("콜라").orElseThrow().getPromotionalStock().reduceQuantity(3);
+            ReceiptDto quote = quoter.quote(order);
+
+            // then
+            assertThat(quote.promotionalItems()).isEmpty();
+            assertThat(quote.priceInfo().promotionDiscount()).isEqualTo(Money.ZERO);
+        }
+    }
+}
@@ -0,0 +1,175 @@
+package store.model.order;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import store.dto.OrderItemDto;
+import store.dto.ProductDto;
+import store.dto.PromotionFileDto;
+import store.model.domain.Product;
+import store.model.domain.Products;
+import store.model.domain.Promotion;
+import store.model.domain.Promotions;
+import store.util.HashedTimingWheel;
+
+class StockReservationTest {
+    private static final LocalDateTime ORDER_DATE_TIME = LocalDateTime.of(2024, 2, 1, 10, 0);
+
+    private Products createProducts(final int colaQuantity, final int waterQuantity) {
+        Promotions promotions = Promotions.from(List.of(Promotion.from(
+                PromotionFileDto.of("탄산2+1", "2", "1", "2024-01-01", "2024-12-31")
+        )));
+        return Products.from(List.of(
+                new ProductDto("콜라", 1000, colaQuantity, "탄산2+1"),
+                new ProductDto("콜라", 1000, colaQuantity, null),
+                new ProductDto("물", 500, waterQuantity, null)
+        ), promotions);
+    }
+
+    private OrderContext createOrder(final Products products, final int colaQuantity, final int waterQuantity) {
+        return OrderContext.of(ORDER_DATE_TIME, List.of(
+                new OrderItemDto("콜라", colaQuantity),
+                new OrderItemDto("물", waterQuantity)
+        ), products);
+    }
+
+    private Product find(final Products products, final String name) {
+        return products.findByName(name).orElseThrow();
+    }
+
+    @Nested
+    class 예약_테스트 {
+        @Test
+        void 프로모션_재고를_먼저_사용하고_남은_수량은_일반_재고에서_차감한다() {
+            // given
+            Products products = createProducts(5, 10);
+
+            // when
+            OrderContext order = createOrder(products, 7, 3);
+            StockReservation.reserve(order);
+            OrderLines orderLines = order.getOrderLines();
+
+            // then
+            assertThat(orderLines.normalQuantity(0)).isEqualTo(2);
+            assertThat(orderLines.promotionalQuantity(0)).isEqualTo(5);
+            assertThat(orderLines.freeQuantity(0)).isEqualTo(1);
+            assertThat(orderLines.normalQuantity(1)).isEqualTo(3);
+            assertThat(orderLines.promotionalQuantity(1)).isZero();
+            assertThat(orderLines.freeQuantity(1)).isZero();
+            assertThat(find(products, "콜라").getPromotionalStock().getQuantity()).isZero();
+            assertThat(find(products, "콜라").getNormalStock().getQuantity()).isEqualTo(3);
+            assertThat(find(products, "물").getNormalStock().getQuantity()).isEqualTo(7);
+        }
+
+        @Test
+        void 하나라도_재고가_부족하면_모든_차감을_되돌린다() {
+            // given
+            Products products = createProducts(5, 2);
+
+            // when & then
+            assertThatThrownBy(() -> StockReservation.reserve(createOrder(products, 7, 3)))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessage("재고가 부족합니다.");
+            assertThat(find(products, "콜라").getPromotionalStock().getQuantity()).isEqualTo(5);
+            assertThat(find(products, "콜라").getNormalStock().getQuantity()).isEqualTo(5);
+            assertThat(find(products, "물").getNormalStock().getQuantity()).isEqualTo(2);
+        }
+    }
+
+    @Nested
+    class 임시_확보_테스트 {
+        @Test
+        void 주문이_사용할_수_있는_재고는_다른_주문이_확보한_수량을_빼고_자신이_확보한_수량을_더한다() {
+            // given
+            Products products = createProducts(5, 10);
+            OrderContext other = createOrder(products, 2, 1);
+            OrderContext order = createOrder(products, 3, 1);
+            other.attachStockHold(StockReservation.hold(other));
+            order.attachStockHold(StockReservation.hold(order));
+
+            // when
+            int available = StockReservation.availableQuantityOf(order, find(products, "콜라").getPromotionalStock());
+
+            // then
+            assertThat(find(products, "콜라").getPromotionalStock().getAvailableQuantity()).isZero();
+            assertThat(available).isEqualTo(3);
+        }
+
+        @Test
+        void 재고를_차감하면_유지_시간_만료_예약을_취소한다() {
+            // given
+            Products products = createProducts(5, 10);
+            OrderContext order = createOrder(products, 3, 1);
+            HashedTimingWheel wheel = HashedTimingWheel.manual(100, 16, () -> 0L);
+            StockReservation stockHold = StockReservation.hold(order);
+            order.attachStockHold(stockHold);
+            HashedTimingWheel.Timeout timeout = stockHold.expireAfter(wheel, Duration.ofSeconds(3));
+
+            // when
+            StockReservation.reserve(order);
+
+            // then
+            assertThat(timeout.isCancelled()).isTrue();
+            assertThat(StockReservation.availableQuantityOf(order, find(products, "콜라").getPromotionalStock()))
+                    .isEqualTo(2);
+        }
+    }
+
+    @Nested
+    class 동시_예약_테스트 {
+        @Test
+        void 여러_주문이_동시에_예약해도_재고보다_많이_팔지_않는다() throws Exception {
+            // given
+            Products products = createProducts(500, 1000);
+            ExecutorService executor = Executors.newFixedThreadPool(8);
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<Boolean>> results = new ArrayList<>();
+
+            // when
+            for (int i = 0; i < 800; i++) {
+                results.add(executor.submit(() -> reserveAfter(start, createOrder(products, 2, 1))));
+            }
+            start.countDown();
+            int reservedCount = 0;
+            for (Future<Boolean> result : results) {
+                reservedCount += countIfReserved(result.get());
+            }
+            executor.shutdown();
+
+            // then
+            assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+            assertThat(reservedCount).isEqualTo(500);
+            assertThat(find(products, "콜라").getTotalStock(ORDER_DATE_TIME.toLocalDate())).isZero();
+            assertThat(find(products, "물").getNormalStock().getQuantity()).isEqualTo(500);
+        }
+
+        private boolean reserveAfter(final CountDownLatch start, final OrderContext orderContext)
+                throws InterruptedException {
+            start.await();
+            try {
+                StockReservation.reserve(orderContext);
+                return true;
+            } catch (IllegalStateException e) {
+                return false;
+            }
+        }
+
+        private int countIfReserved(final boolean reserved) {
+            if (reserved) {
+                return 1;
+            }
+            return 0;
+        }
+    }
+}
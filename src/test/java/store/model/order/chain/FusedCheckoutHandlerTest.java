@@ -0,0 +1,129 @@
+package store.model.order.chain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import store.dto.OrderItemDto;
+import store.dto.ProductDto;
+import store.dto.PromotionFileDto;
+import store.metrics.HandlerMetrics;
+import store.metrics.HandlerMetricsRegistry;
+import store.model.domain.Products;
+import store.model.domain.Promotion;
+import store.model.domain.Promotions;
+import store.model.order.OrderConfirmation;
+import store.model.order.OrderContext;
+import store.model.order.OrderLines;
+
+class FusedCheckoutHandlerTest {
+    private static final LocalDateTime ORDER_DATE_TIME = LocalDateTime.of(2024, 2, 1, 10, 0);
+
+    private Products createProducts() {
+        Promotions promotions = Promotions.from(List.of(
+                Promotion.from(PromotionFileDto.of("탄산2+1", "2", "1", "2024-01-01", "2024-12-31")),
+                Promotion.from(PromotionFileDto.of("지난행사", "1", "1", "2023-01-01", "2023-12-31"))
+        ));
+        return Products.from(List.of(
+                new ProductDto("콜라", 1000, 7, "탄산2+1"),
+                new ProductDto("콜라", 1000, 10, null),
+                new ProductDto("감자칩", 1500, 5, "지난행사"),
+                new ProductDto("감자칩", 1500, 5, null),
+                new ProductDto("물", 500, 10, null)
+        ), promotions);
+    }
+
+    private OrderContext createOrder(
+            final Products products,
+            final OrderConfirmation confirmation,
+            final int cola,
+            final int chips,
+            final int water
+    ) {
+        return OrderContext.of(ORDER_DATE_TIME, List.of(
+                new OrderItemDto("콜라", cola),
+                new OrderItemDto("감자칩", chips),
+                new OrderItemDto("물", water)
+        ), products, confirmation);
+    }
+
+    @ParameterizedTest(name = "콜라[{0}] 감자칩[{1}] 물[{2}] 증정[{3}] 정가[{4}] 멤버십[{5}]")
+    @CsvSource({
+            "2, 1, 1, true, true, true",
+            "2, 1, 1, false, true, false",
+            "5, 2, 3, true, true, true",
+            "9, 1, 2, true, false, true",
+            "9, 1, 2, true, true, false",
+            "3, 5, 10, false, false, true",
+    })
+    void 처리기_체인과_같은_영수증과_재고를_만든다(
+            int cola, int chips, int water, boolean addFreeItems, boolean acceptNormalPrice, boolean membership
+    ) {
+        // given
+        OrderConfirmation confirmation = OrderConfirmation.answering(addFreeItems, acceptNormalPrice, membership);
+        Products chainProducts = createProducts();
+        Products fusedProducts = createProducts();
+        OrderContext chainOrder = createOrder(chainProducts, confirmation, cola, chips, water);
+        OrderContext fusedOrder = createOrder(fusedProducts, confirmation, cola, chips, water);
+
+        // when
+        CheckoutChain.create().handle(chainOrder);
+        new FusedCheckoutHandler().handle(fusedOrder);
+
+        // then
+        assertThat(fusedOrder.getReceipt()).isEqualTo(chainOrder.getReceipt());
+        assertThat(reductionsOf(fusedOrder)).containsExactlyElementsOf(reductionsOf(chainOrder));
+        assertThat(fusedProducts.findByName("콜라").orElseThrow().getTotalStock(ORDER_DATE_TIME.toLocalDate()))
+                .isEqualTo(chainProducts.findByName("콜라").orElseThrow().getTotalStock(ORDER_DATE_TIME.toLocalDate()));
+    }
+
+    @Test
+    void 상품마다_필요한_확인_질문을_한_번씩만_한다() {
+        // given
+        Products products = createProducts();
+        List<String> questions = new ArrayList<>();
+        OrderContext order = createOrder(products, new OrderConfirmation(
+                (name, quantity) -> questions.add("증정 " + name + quantity),
+                (name, quantity) -> !questions.add("정가 " + name + quantity),
+                () -> questions.add("멤버십")
+        ), 9, 1, 2);
+
+        // when
+        new FusedCheckoutHandler().handle(order);
+
+        // then
+        assertThat(questions).containsExactly("정가 콜라3", "멤버십");
+        assertThat(order.getOrderLines().product(0)).isEqualTo(products.findByName("콜라").orElseThrow());
+        assertThat(order.getOrderLines().quantity(0)).isEqualTo(6);
+    }
+
+    @Test
+    void 멤버십_할인_처리기의_지표를_체인과_같이_기록한다() {
+        // given
+        HandlerMetrics metrics = HandlerMetricsRegistry.global().metricsFor(MembershipDiscountHandler.class);
+        long invocationsBefore = metrics.getInvocations();
+        OrderContext order = createOrder(createProducts(), OrderConfirmation.answering(true, true, true), 2, 1, 1);
+
+        // when
+        new FusedCheckoutHandler().handle(order);
+
+        // then
+        assertThat(metrics.getInvocations()).isEqualTo(invocationsBefore + 1);
+    }
+
+    // 항목마다 일반/프로모션/증정 수량을 주문 순서대로 모은다
+    private List<List<Integer>> reductionsOf(final OrderContext order) {
+        OrderLines orderLines = order.getOrderLines();
+        List<List<Integer>> reductions = new ArrayList<>();
+        for (int line = 0; line < orderLines.size(); line++) {
+            reductions.add(List.of(
+                    orderLines.normalQuantity(line), orderLines.promotionalQuantity(line), orderLines.freeQuantity(line)
+            ));
+        }
+        return reductions;
+    }
+}
@@ -5,7 +5,6 @@ import static org.assertj.core.api.Assertions.assertThat;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Map;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -13,11 +12,12 @@ import org.junit.jupiter.params.provider.CsvSource;
 import store.dto.OrderItemDto;
 import store.dto.ProductDto;
 import store.dto.PromotionFileDto;
-import store.model.domain.Product;
 import store.model.domain.Products;
 import store.model.domain.Promotion;
 import store.model.domain.Promotions;
+import store.model.order.OrderConfirmation;
 import store.model.order.OrderContext;
+import store.model.order.StockReservation;
 
 class InsufficientPromotionalStockHandlerTest {
 
@@ -37,38 +37,30 @@ class InsufficientPromotionalStockHandlerTest {
         ) {
             // given
             OrderContext orderContext = createOrderContext(
-                    "상품A", buy, get, 1000, stockQuantity, orderQuantity
+                    "상품A", buy, get, 1000, stockQuantity, orderQuantity, false  // 일반가 구매 거부
             );
-            InsufficientPromotionalStockHandler handler = createHandler(false);  // 일반가 구매 거부
+            InsufficientPromotionalStockHandler handler = new InsufficientPromotionalStockHandler();
 
             // when
             handler.process(orderContext);
 
             // then
-            Map<Product, Integer> orderItems = orderContext.getOrderItems();
-            if (expectedQuantity == 0) {
-                assertThat(orderItems).isEmpty();
-            } else {
-                assertThat(orderItems.values().stream().mapToInt(Integer::intValue).sum())
-                        .isEqualTo(expectedQuantity);
-            }
+            assertThat(orderContext.getOrderLines().totalQuantity()).isEqualTo(expectedQuantity);
         }
 
         @Test
         void 일반가_구매_수락시_주문수량을_유지한다() {
             // given
             OrderContext orderContext = createOrderContext(
-                    "상품A", 2, 1, 1000, 6, 12  // 2+1 프로모션, 재고 6개, 주문 12개
+                    "상품A", 2, 1, 1000, 6, 12, true  // 2+1 프로모션, 재고 6개, 주문 12개, 일반가 구매 수락
             );
-            InsufficientPromotionalStockHandler handler = createHandler(true);  // 일반가 구매 수락
+            InsufficientPromotionalStockHandler handler = new InsufficientPromotionalStockHandler();
 
             // when
             handler.process(orderContext);
 
             // then
-            Map<Product, Integer> orderItems = orderContext.getOrderItems();
-            assertThat(orderItems.values().stream().mapToInt(Integer::intValue).sum())
-                    .isEqualTo(12);  // 주문수량 유지
+            assertThat(orderContext.getOrderLines().totalQuantity()).isEqualTo(12);  // 주문수량 유지
         }
 
         @Test
@@ -77,32 +69,69 @@ class InsufficientPromotionalStockHandlerTest {
             OrderContext orderContext = createNonPromotionalOrderContext(
                     "상품A", 1000, 5, 10  // 일반상품, 재고 5개, 주문 10개
             );
-            InsufficientPromotionalStockHandler handler = createHandler(false);
+            InsufficientPromotionalStockHandler handler = new InsufficientPromotionalStockHandler();
 
             // when
             handler.process(orderContext);
 
             // then
-            Map<Product, Integer> orderItems = orderContext.getOrderItems();
-            assertThat(orderItems.values().stream().mapToInt(Integer::intValue).sum())
-                    .isEqualTo(10);  // 수량 변화 없음
+            assertThat(orderContext.getOrderLines().totalQuantity()).isEqualTo(10);  // 수량 변화 없음
         }
 
         @Test
         void 프로모션_재고가_충분한_경우_처리하지_않는다() {
             // given
             OrderContext orderContext = createOrderContext(
-                    "상품A", 2, 1, 1000, 12, 9  // 재고 12개로 충분
+                    "상품A", 2, 1, 1000, 12, 9, false  // 재고 12개로 충분
             );
-            InsufficientPromotionalStockHandler handler = createHandler(false);
+            InsufficientPromotionalStockHandler handler = new InsufficientPromotionalStockHandler();
 
             // when
             handler.process(orderContext);
 
             // then
-            Map<Product, Integer> orderItems = orderContext.getOrderItems();
-            assertThat(orderItems.values().stream().mapToInt(Integer::intValue).sum())
-                    .isEqualTo(9);  // 수량 변화 없음
+            assertThat(orderContext.getOrderLines().totalQuantity()).isEqualTo(9);  // 수량 변화 없음
+        }
+
+        @Test
+        void 다른_주문이_확보한_프로모션_재고는_빼고_정가_구매_수량을_정한다() {
+            // given
+            OrderContext orderContext = createOrderContext(
+                    "상품A", 2, 1, 1000, 6, 6, false  // 다른 주문이 프로모션 재고 3개를 확보
+            );
+            orderContext.getOrderLines().product(0).getPromotionalStock().tryHold(3);
+            orderContext.attachStockHold(StockReservation.hold(orderContext));
+            InsufficientPromotionalStockHandler handler = new InsufficientPromotionalStockHandler();
+
+            // when
+            handler.process(orderContext);
+
+            // then
+            assertThat(orderContext.getOrderLines().quantity(0)).isEqualTo(3);
+        }
+
+        @Test
+        void 일반가_구매_거부로_주문_항목을_삭제해도_나머지_항목을_유지한다() {
+            // given
+            Promotions promotions = Promotions.from(List.of(Promotion.from(new PromotionFileDto(
+                    "탄산2+1", 2, 1, LocalDate.now(), LocalDate.now().plusDays(7)
+            ))));
+            Products products = Products.from(List.of(
+                    ProductDto.of("콜라", "1000", "2", "탄산2+1"),
+                    ProductDto.of("콜라", "1000", "10", null),
+                    ProductDto.of("물", "500", "10", null)
+            ), promotions);
+            OrderContext orderContext = OrderContext.of(LocalDateTime.now(), List.of(
+                    new OrderItemDto("콜라", 3),
+                    new OrderItemDto("물", 2)
+            ), products, OrderConfirmation.answering(false, false, false));
+
+            // when
+            new InsufficientPromotionalStockHandler().process(orderContext);
+
+            // then
+            assertThat(orderContext.getOrderLines().size()).isEqualTo(1);
+            assertThat(orderContext.getOrderLines().product(0)).isEqualTo(products.findByName("물").orElseThrow());
         }
     }
 
@@ -112,7 +141,8 @@ class InsufficientPromotionalStockHandlerTest {
             int get,
             int normalPrice,
             int promotionalStock,
-            int orderQuantity
+            int orderQuantity,
+            boolean confirmNormalPrice
     ) {
         // 프로모션 생성
         PromotionFileDto promotionDto = new PromotionFileDto(
@@ -152,7 +182,12 @@ class InsufficientPromotionalStockHandlerTest {
                 new OrderItemDto(productName, orderQuantity)
         );
 
-        return OrderContext.of(LocalDateTime.now(), orderItems, products);
+        return OrderContext.of(
+                LocalDateTime.now(),
+                orderItems,
+                products,
+                OrderConfirmation.answering(false, confirmNormalPrice, false)
+        );
     }
 
     private OrderContext createNonPromotionalOrderContext(
@@ -182,8 +217,4 @@ class InsufficientPromotionalStockHandlerTest {
 
         return OrderContext.of(LocalDateTime.now(), orderItems, products);
     }
-
-    private InsufficientPromotionalStockHandler createHandler(boolean confirmNormalPrice) {
-        return new InsufficientPromotionalStockHandler((name, quantity) -> confirmNormalPrice);
-    }
 }
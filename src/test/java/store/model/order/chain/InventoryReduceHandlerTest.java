@@ -4,7 +4,6 @@ import static org.assertj.core.api.SoftAssertions.assertSoftly;
 
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Map;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -12,12 +11,11 @@ import org.junit.jupiter.params.provider.CsvSource;
 import store.dto.OrderItemDto;
 import store.dto.ProductDto;
 import store.dto.PromotionFileDto;
-import store.dto.StockReduceResultDto;
-import store.model.domain.Product;
 import store.model.domain.Products;
 import store.model.domain.Promotion;
 import store.model.domain.Promotions;
 import store.model.order.OrderContext;
+import store.model.order.OrderLines;
 
 class InventoryReduceHandlerTest {
 
@@ -34,14 +32,14 @@ class InventoryReduceHandlerTest {
             handler.process(orderContext);
 
             // then
-            Map<Product, StockReduceResultDto> results = orderContext.getStockReduceResults();
-            StockReduceResultDto result = results.values().iterator().next();
+            OrderLines orderLines = orderContext.getOrderLines();
 
             assertSoftly(softly -> {
-                softly.assertThat(result.normalQuantity()).isEqualTo(5);  // 일반 재고에서 5개 차감
-                softly.assertThat(result.promotionalQuantity()).isZero();  // 프로모션 재고 차감 없음
-                softly.assertThat(result.freeQuantity()).isZero();  // 증정 수량 없음
-                softly.assertThat(result.getTotalQuantity()).isEqualTo(5);  // 총 차감 수량
+                softly.assertThat(orderLines.normalQuantity(0)).isEqualTo(5);  // 일반 재고에서 5개 차감
+                softly.assertThat(orderLines.promotionalQuantity(0)).isZero();  // 프로모션 재고 차감 없음
+                softly.assertThat(orderLines.freeQuantity(0)).isZero();  // 증정 수량 없음
+                softly.assertThat(orderLines.normalQuantity(0) + orderLines.promotionalQuantity(0))
+                        .isEqualTo(5);  // 총 차감 수량
             });
         }
     }
@@ -81,14 +79,13 @@ class InventoryReduceHandlerTest {
             handler.process(orderContext);
 
             // then
-            Map<Product, StockReduceResultDto> results = orderContext.getStockReduceResults();
-            StockReduceResultDto result = results.values().iterator().next();
+            OrderLines orderLines = orderContext.getOrderLines();
 
             assertSoftly(softly -> {
-                softly.assertThat(result.normalQuantity()).isEqualTo(expectedNormalUse);
-                softly.assertThat(result.promotionalQuantity()).isEqualTo(expectedPromotionalUse);
-                softly.assertThat(result.freeQuantity()).isEqualTo(expectedFreeItems);
-                softly.assertThat(result.getTotalQuantity())
+                softly.assertThat(orderLines.normalQuantity(0)).isEqualTo(expectedNormalUse);
+                softly.assertThat(orderLines.promotionalQuantity(0)).isEqualTo(expectedPromotionalUse);
+                softly.assertThat(orderLines.freeQuantity(0)).isEqualTo(expectedFreeItems);
+                softly.assertThat(orderLines.normalQuantity(0) + orderLines.promotionalQuantity(0))
                         .isEqualTo(expectedNormalUse + expectedPromotionalUse);
             });
         }
@@ -105,14 +102,14 @@ class InventoryReduceHandlerTest {
             handler.process(orderContext);
 
             // then
-            Map<Product, StockReduceResultDto> results = orderContext.getStockReduceResults();
-            StockReduceResultDto result = results.values().iterator().next();
+            OrderLines orderLines = orderContext.getOrderLines();
 
             assertSoftly(softly -> {
-                softly.assertThat(result.normalQuantity()).isEqualTo(6);
-                softly.assertThat(result.promotionalQuantity()).isZero();
-                softly.assertThat(result.freeQuantity()).isZero();
-                softly.assertThat(result.getTotalQuantity()).isEqualTo(6);
+                softly.assertThat(orderLines.normalQuantity(0)).isEqualTo(6);
+                softly.assertThat(orderLines.promotionalQuantity(0)).isZero();
+                softly.assertThat(orderLines.freeQuantity(0)).isZero();
+                softly.assertThat(orderLines.normalQuantity(0) + orderLines.promotionalQuantity(0))
+                        .isEqualTo(6);
             });
         }
     }
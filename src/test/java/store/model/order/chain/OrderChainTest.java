@@ -0,0 +1,108 @@
+package store.model.order.chain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+import store.dto.OrderItemDto;
+import store.dto.ProductDto;
+import store.dto.PromotionFileDto;
+import store.model.domain.Products;
+import store.model.domain.Promotion;
+import store.model.domain.Promotions;
+import store.model.order.OrderConfirmation;
+import store.model.order.OrderContext;
+
+class OrderChainTest {
+    private static final LocalDateTime ORDER_DATE_TIME = LocalDateTime.of(2024, 2, 1, 10, 0);
+
+    @Test
+    void 처리기를_전달한_순서대로_실행한다() {
+        // given
+        List<String> executionOrder = new ArrayList<>();
+        OrderChain chain = OrderChain.of(
+                new RecordingHandler("handler1", executionOrder),
+                new RecordingHandler("handler2", executionOrder),
+                new RecordingHandler("handler3", executionOrder)
+        );
+
+        // when
+        chain.handle(null);
+
+        // then
+        assertThat(executionOrder).containsExactly("handler1", "handler2", "handler3");
+    }
+
+    @Test
+    void 체인을_이어_붙여도_기존_체인은_바뀌지_않는다() {
+        // given
+        List<String> executionOrder = new ArrayList<>();
+        OrderChain first = OrderChain.of(new RecordingHandler("handler1", executionOrder));
+        OrderChain second = OrderChain.of(new RecordingHandler("handler2", executionOrder));
+
+        // when
+        first.then(second).handle(null);
+        first.handle(null);
+
+        // then
+        assertThat(executionOrder).containsExactly("handler1", "handler2", "handler1");
+    }
+
+    @Test
+    void 하나의_체인으로_서로_다른_응답의_주문을_동시에_처리한다() throws Exception {
+        // given
+        OrderChain chain = CheckoutChain.create();
+        Products products = Products.from(List.of(
+                new ProductDto("콜라", 1000, 1000, "탄산2+1"),
+                new ProductDto("콜라", 1000, 1000, null)
+        ), Promotions.from(List.of(Promotion.from(
+                PromotionFileDto.of("탄산2+1", "2", "1", "2024-01-01", "2024-12-31")
+        ))));
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+
+        // when
+        List<Future<Integer>> purchasedQuantities = IntStream.range(0, 200)
+                .mapToObj(i -> executor.submit(() -> checkout(chain, products, i % 2 == 0)))
+                .toList();
+        executor.shutdown();
+
+        // then
+        for (int i = 0; i < purchasedQuantities.size(); i++) {
+            assertThat(purchasedQuantities.get(i).get()).isEqualTo(2 + (i + 1) % 2);
+        }
+        assertThat(products.findByName("콜라").orElseThrow().getTotalStock(ORDER_DATE_TIME.toLocalDate()))
+                .isEqualTo(2000 - 500);
+    }
+
+    private int checkout(final OrderChain chain, final Products products, final boolean addFreeItem) {
+        OrderContext order = OrderContext.of(
+                ORDER_DATE_TIME,
+                List.of(new OrderItemDto("콜라", 2)),
+                products,
+                OrderConfirmation.answering(addFreeItem, true, false)
+        );
+        chain.handle(order);
+        return order.getReceipt().priceInfo().totalQuantity();
+    }
+
+    private static class RecordingHandler extends OrderHandler {
+        private final String handlerName;
+        private final List<String> executionOrder;
+
+        RecordingHandler(final String handlerName, final List<String> executionOrder) {
+            this.handlerName = handlerName;
+            this.executionOrder = executionOrder;
+        }
+
+        @Override
+        protected void process(final OrderContext context) {
+            executionOrder.add(handlerName);
+        }
+    }
+}
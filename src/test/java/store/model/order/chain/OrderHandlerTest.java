@@ -1,11 +1,15 @@
 package store.model.order.chain;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import java.util.ArrayList;
 import java.util.List;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import store.metrics.ConfirmationTimer;
+import store.metrics.HandlerMetrics;
+import store.metrics.HandlerMetricsRegistry;
 import store.model.order.OrderContext;
 
 class OrderHandlerTest {
@@ -27,25 +31,68 @@ class OrderHandlerTest {
                     .hasSize(1)
                     .containsExactly("handler1");
         }
+    }
 
+    @Nested
+    class 처리기_지표_테스트 {
         @Test
-        void 다음_핸들러가_있으면_순차적으로_실행한다() {
+        void 처리기_종류별로_호출_수와_오류_수를_기록한다() {
             // given
-            List<String> executionOrder = new ArrayList<>();
-            TestOrderHandler firstHandler = new TestOrderHandler("handler1", executionOrder);
-            TestOrderHandler secondHandler = new TestOrderHandler("handler2", executionOrder);
-            TestOrderHandler thirdHandler = new TestOrderHandler("handler3", executionOrder);
+            HandlerMetrics metrics = HandlerMetricsRegistry.global().metricsFor(FailingHandler.class);
+            FailingHandler handler = new FailingHandler();
 
-            firstHandler.setNext(secondHandler).setNext(thirdHandler);
-            OrderContext context = createOrderContext();
+            // when
+            handler.handle(createOrderContext());
+            assertThatThrownBy(() -> handler.handle(createOrderContext()))
+                    .isInstanceOf(IllegalStateException.class);
+
+            // then
+            assertThat(metrics.getInvocations()).isEqualTo(2);
+            assertThat(metrics.getErrors()).isEqualTo(1);
+        }
+
+        @Test
+        void 고객_확인을_기다린_시간은_처리_시간에서_뺀다() {
+            // given
+            HandlerMetrics metrics = HandlerMetricsRegistry.global().metricsFor(ConfirmingHandler.class);
 
             // when
-            firstHandler.handle(context);
+            new ConfirmingHandler().handle(createOrderContext());
 
             // then
-            assertThat(executionOrder)
-                    .hasSize(3)
-                    .containsExactly("handler1", "handler2", "handler3");
+            assertThat(metrics.getConfirmationWaits()).isEqualTo(1);
+            assertThat(metrics.getTotalConfirmationWaitMillis()).isGreaterThanOrEqualTo(50);
+            assertThat(metrics.getMaxProcessingMicros()).isLessThan(50_000);
+        }
+    }
+
+    private static class FailingHandler extends OrderHandler {
+        private boolean called;
+
+        @Override
+        protected void process(OrderContext context) {
+            if (called) {
+                throw new IllegalStateException();
+            }
+            called = true;
+        }
+    }
+
+    private static class ConfirmingHandler extends OrderHandler {
+        @Override
+        protected void process(OrderContext context) {
+            ConfirmationTimer.measure(() -> {
+                sleep(50);
+                return true;
+            });
+        }
+
+        private static void sleep(long millis) {
+            try {
+                Thread.sleep(millis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
         }
     }
 
@@ -5,21 +5,22 @@ import static org.assertj.core.api.Assertions.assertThat;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Map;
 import java.util.stream.Stream;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.CsvSource;
 import org.junit.jupiter.params.provider.MethodSource;
 import store.dto.OrderItemDto;
 import store.dto.ProductDto;
 import store.dto.PromotionFileDto;
-import store.model.domain.Product;
 import store.model.domain.Products;
 import store.model.domain.Promotion;
 import store.model.domain.Promotions;
+import store.model.order.OrderConfirmation;
 import store.model.order.OrderContext;
+import store.model.order.StockReservation;
 
 class PromotionalItemAdditionHandlerTest {
 
@@ -30,16 +31,15 @@ class PromotionalItemAdditionHandlerTest {
         void 프로모션_기준을_정확히_충족하는_경우_추가_상품을_제공한다() {
             // given
             OrderContext orderContext = createOrderContext(
-                    "상품A", 2, 1, 1000, 10, 2  // 2+1 프로모션, 2개 구매
+                    "상품A", 2, 1, 1000, 10, 2, true  // 2+1 프로모션, 2개 구매
             );
-            PromotionalItemAdditionHandler handler = createHandler(true);
+            PromotionalItemAdditionHandler handler = new PromotionalItemAdditionHandler();
 
             // when
             handler.process(orderContext);
 
             // then
-            Map<Product, Integer> orderItems = orderContext.getOrderItems();
-            assertThat(orderItems.values().stream().mapToInt(Integer::intValue).sum()).isEqualTo(3);
+            assertThat(orderContext.getOrderLines().totalQuantity()).isEqualTo(3);
         }
 
         @ParameterizedTest(name = "{0}개 구매시 {1}개 증정 ({2}+{3}행사)")
@@ -48,16 +48,15 @@ class PromotionalItemAdditionHandlerTest {
                 int orderQuantity, int expectedAddition, int buy, int get) {
             // given
             OrderContext orderContext = createOrderContext(
-                    "상품A", buy, get, 1000, 10, orderQuantity
+                    "상품A", buy, get, 1000, 10, orderQuantity, true
             );
-            PromotionalItemAdditionHandler handler = createHandler(true);
+            PromotionalItemAdditionHandler handler = new PromotionalItemAdditionHandler();
 
             // when
             handler.process(orderContext);
 
             // then
-            Map<Product, Integer> orderItems = orderContext.getOrderItems();
-            assertThat(orderItems.values().stream().mapToInt(Integer::intValue).sum())
+            assertThat(orderContext.getOrderLines().totalQuantity())
                     .isEqualTo(orderQuantity + expectedAddition);
         }
 
@@ -65,32 +64,52 @@ class PromotionalItemAdditionHandlerTest {
         void 프로모션_재고_부족시_추가_상품을_제공하지_않는다() {
             // given
             OrderContext orderContext = createOrderContext(
-                    "상품A", 2, 1, 1000, 0, 2  // 재고 0개
+                    "상품A", 2, 1, 1000, 0, 2, true  // 재고 0개
             );
-            PromotionalItemAdditionHandler handler = createHandler(true);
+            PromotionalItemAdditionHandler handler = new PromotionalItemAdditionHandler();
 
             // when
             handler.process(orderContext);
 
             // then
-            Map<Product, Integer> orderItems = orderContext.getOrderItems();
-            assertThat(orderItems.values().stream().mapToInt(Integer::intValue).sum()).isEqualTo(2);
+            assertThat(orderContext.getOrderLines().totalQuantity()).isEqualTo(2);
         }
 
         @Test
         void 사용자가_거절하면_추가_상품을_제공하지_않는다() {
             // given
             OrderContext orderContext = createOrderContext(
-                    "상품A", 2, 1, 1000, 10, 2
+                    "상품A", 2, 1, 1000, 10, 2, false
             );
-            PromotionalItemAdditionHandler handler = createHandler(false);
+            PromotionalItemAdditionHandler handler = new PromotionalItemAdditionHandler();
 
             // when
             handler.process(orderContext);
 
             // then
-            Map<Product, Integer> orderItems = orderContext.getOrderItems();
-            assertThat(orderItems.values().stream().mapToInt(Integer::intValue).sum()).isEqualTo(2);
+            assertThat(orderContext.getOrderLines().totalQuantity()).isEqualTo(2);
+        }
+
+        @ParameterizedTest(name = "다른 주문이 프로모션 재고 6개 중 {0}개 확보 -> 추가[{1}]")
+        @CsvSource({
+                "3, 1",     // 남은 1개와 이 주문이 확보한 2개로 세트를 채울 수 있다
+                "4, 0",     // 이 주문이 확보한 2개만 남아 세트를 채울 수 없다
+        })
+        void 다른_주문이_확보한_재고는_빼고_이_주문이_확보한_재고는_더해_추가_수량을_정한다(
+                int heldByOther, int expectedAddition) {
+            // given
+            OrderContext orderContext = createOrderContext(
+                    "상품A", 2, 1, 1000, 6, 2, true
+            );
+            orderContext.getOrderLines().product(0).getPromotionalStock().tryHold(heldByOther);
+            orderContext.attachStockHold(StockReservation.hold(orderContext));
+            PromotionalItemAdditionHandler handler = new PromotionalItemAdditionHandler();
+
+            // when
+            handler.process(orderContext);
+
+            // then
+            assertThat(orderContext.getOrderLines().quantity(0)).isEqualTo(2 + expectedAddition);
         }
 
         private static Stream<Arguments> 여러_세트_프로모션_케이스() {
@@ -114,7 +133,8 @@ class PromotionalItemAdditionHandlerTest {
             int get,
             int normalPrice,
             int promotionalStock,
-            int orderQuantity
+            int orderQuantity,
+            boolean shouldConfirm
     ) {
         // 프로모션 생성
         PromotionFileDto promotionDto = new PromotionFileDto(
@@ -154,10 +174,11 @@ class PromotionalItemAdditionHandlerTest {
                 new OrderItemDto(productName, orderQuantity)
         );
 
-        return OrderContext.of(LocalDateTime.now(), orderItems, products);
-    }
-
-    private PromotionalItemAdditionHandler createHandler(boolean shouldConfirm) {
-        return new PromotionalItemAdditionHandler((name, quantity) -> shouldConfirm);
+        return OrderContext.of(
+                LocalDateTime.now(),
+                orderItems,
+                products,
+                OrderConfirmation.answering(shouldConfirm, false, false)
+        );
     }
 }
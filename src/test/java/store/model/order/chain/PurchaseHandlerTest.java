@@ -3,9 +3,7 @@ package store.model.order.chain;
 import static org.assertj.core.api.SoftAssertions.assertSoftly;
 
 import java.time.LocalDateTime;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -14,12 +12,11 @@ import store.dto.OrderItemDto;
 import store.dto.ProductDto;
 import store.dto.PromotionFileDto;
 import store.dto.ReceiptDto;
-import store.dto.StockReduceResultDto;
-import store.model.domain.Product;
 import store.model.domain.Products;
 import store.model.domain.Promotion;
 import store.model.domain.Promotions;
 import store.model.order.OrderContext;
+import store.vo.Money;
 
 class PurchaseHandlerTest {
 
@@ -42,12 +39,12 @@ class PurchaseHandlerTest {
             ReceiptDto receipt = orderContext.getReceipt();
             assertSoftly(softly -> {
                 softly.assertThat(receipt.orderedItems().get("상품A").quantity()).isEqualTo(3);
-                softly.assertThat(receipt.orderedItems().get("상품A").price()).isEqualTo(3000);
+                softly.assertThat(receipt.orderedItems().get("상품A").price()).isEqualTo(Money.of(3000));
                 softly.assertThat(receipt.promotionalItems()).isEmpty();
                 softly.assertThat(receipt.priceInfo().totalQuantity()).isEqualTo(3);
-                softly.assertThat(receipt.priceInfo().totalPrice()).isEqualTo(3000);
-                softly.assertThat(receipt.priceInfo().promotionDiscount()).isZero();
-                softly.assertThat(receipt.priceInfo().membershipDiscount()).isZero();
+                softly.assertThat(receipt.priceInfo().totalPrice()).isEqualTo(Money.of(3000));
+                softly.assertThat(receipt.priceInfo().promotionDiscount()).isEqualTo(Money.ZERO);
+                softly.assertThat(receipt.priceInfo().membershipDiscount()).isEqualTo(Money.ZERO);
             });
         }
 
@@ -80,15 +77,15 @@ class PurchaseHandlerTest {
             ReceiptDto receipt = orderContext.getReceipt();
             assertSoftly(softly -> {
                 softly.assertThat(receipt.orderedItems().get("상품A").quantity()).isEqualTo(orderQuantity);
-                softly.assertThat(receipt.orderedItems().get("상품A").price()).isEqualTo(expectedTotal);
+                softly.assertThat(receipt.orderedItems().get("상품A").price()).isEqualTo(Money.of(expectedTotal));
                 if (freeItems > 0) {
                     softly.assertThat(receipt.promotionalItems()).containsEntry("상품A", freeItems);
                 } else {
                     softly.assertThat(receipt.promotionalItems()).isEmpty();
                 }
                 softly.assertThat(receipt.priceInfo().totalQuantity()).isEqualTo(orderQuantity);
-                softly.assertThat(receipt.priceInfo().totalPrice()).isEqualTo(expectedTotal);
-                softly.assertThat(receipt.priceInfo().promotionDiscount()).isEqualTo(expectedDiscount);
+                softly.assertThat(receipt.priceInfo().totalPrice()).isEqualTo(Money.of(expectedTotal));
+                softly.assertThat(receipt.priceInfo().promotionDiscount()).isEqualTo(Money.of(expectedDiscount));
             });
         }
 
@@ -106,9 +103,34 @@ class PurchaseHandlerTest {
             // then
             ReceiptDto receipt = orderContext.getReceipt();
             assertSoftly(softly -> {
-                softly.assertThat(receipt.priceInfo().totalPrice()).isEqualTo(6000);
-                softly.assertThat(receipt.priceInfo().promotionDiscount()).isEqualTo(1000);
-                softly.assertThat(receipt.priceInfo().membershipDiscount()).isEqualTo(900); // 3000 * 0.3
+                softly.assertThat(receipt.priceInfo().totalPrice()).isEqualTo(Money.of(6000));
+                softly.assertThat(receipt.priceInfo().promotionDiscount()).isEqualTo(Money.of(1000));
+                softly.assertThat(receipt.priceInfo().membershipDiscount()).isEqualTo(Money.of(900)); // 3000 * 0.3
+            });
+        }
+
+        @Test
+        void 금액이_int_범위를_넘어도_정확히_합산한다() {
+            // given
+            Products products = Products.from(List.of(
+                    ProductDto.of("상품A", "1000000", "3000", null),
+                    ProductDto.of("상품B", "2000000", "3000", null)
+            ), Promotions.from(List.of()));
+            OrderContext orderContext = OrderContext.of(LocalDateTime.now(), List.of(
+                    new OrderItemDto("상품A", 3000),
+                    new OrderItemDto("상품B", 3000)
+            ), products);
+            attachStockReduceResult(orderContext, false, 3000, 0, 0);
+
+            // when
+            new PurchaseHandler().process(orderContext);
+
+            // then
+            ReceiptDto receipt = orderContext.getReceipt();
+            assertSoftly(softly -> {
+                softly.assertThat(receipt.orderedItems().get("상품B").price()).isEqualTo(Money.of(6_000_000_000L));
+                softly.assertThat(receipt.priceInfo().totalPrice()).isEqualTo(Money.of(9_000_000_000L));
+                softly.assertThat(receipt.priceInfo().calculateFinalPrice()).isEqualTo(Money.of(9_000_000_000L));
             });
         }
     }
@@ -182,19 +204,15 @@ class PurchaseHandlerTest {
             int promotionalQuantity,
             int freeQuantity
     ) {
-        Product product = orderContext.getOrderItems().keySet().iterator().next();
-        StockReduceResultDto result = StockReduceResultDto.of(
+        orderContext.getOrderLines().recordReduction(
+                0,
                 normalQuantity,
                 promotionalQuantity,
                 freeQuantity
         );
-
-        Map<Product, StockReduceResultDto> results = new HashMap<>();
-        results.put(product, result);
-        orderContext.attachStockReduceResults(results);
     }
 
     private void applyMembershipDiscount(OrderContext orderContext) {
-        orderContext.setMembershipDiscountSupplier(price -> (int) (price * 0.3));
+        orderContext.setMembershipDiscountSupplier(price -> price.percent(30));
     }
 }
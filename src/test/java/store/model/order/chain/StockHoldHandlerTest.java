@@ -0,0 +1,79 @@
+package store.model.order.chain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static store.constant.ExceptionMessage.INSUFFICIENT_STOCK;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+import store.dto.OrderItemDto;
+import store.dto.ProductDto;
+import store.model.domain.ProductStock;
+import store.model.domain.Products;
+import store.model.domain.Promotions;
+import store.model.order.OrderContext;
+import store.util.HashedTimingWheel;
+
+class StockHoldHandlerTest {
+    private static final LocalDateTime ORDER_DATE_TIME = LocalDateTime.of(2024, 2, 1, 10, 0);
+
+    private final AtomicLong clock = new AtomicLong();
+    private final HashedTimingWheel wheel = HashedTimingWheel.manual(100, 16, clock::get);
+    private final StockHoldHandler handler = new StockHoldHandler(wheel, Duration.ofSeconds(3));
+    private final Products products = Products.from(
+            List.of(new ProductDto("물", 500, 10, null)), Promotions.from(List.of())
+    );
+
+    private OrderContext createOrder(final int quantity) {
+        return OrderContext.of(ORDER_DATE_TIME, List.of(new OrderItemDto("물", quantity)), products);
+    }
+
+    private ProductStock waterStock() {
+        return products.findByName("물").orElseThrow().getNormalStock();
+    }
+
+    @Test
+    void 확보한_재고는_다른_주문이_사용할_수_없다() {
+        // given
+        handler.process(createOrder(7));
+
+        // when & then
+        assertThat(waterStock().getQuantity()).isEqualTo(10);
+        assertThat(waterStock().getAvailableQuantity()).isEqualTo(3);
+        assertThatThrownBy(() -> handler.process(createOrder(4)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage(INSUFFICIENT_STOCK.message());
+    }
+
+    @Test
+    void 유지_시간이_지나면_확보한_재고가_풀린다() {
+        // given
+        handler.process(createOrder(7));
+
+        // when
+        clock.addAndGet(Duration.ofSeconds(3).toMillis());
+        wheel.expireDue();
+
+        // then
+        assertThat(waterStock().getAvailableQuantity()).isEqualTo(10);
+    }
+
+    @Test
+    void 재고를_차감하면_확보한_재고를_사용한다() {
+        // given
+        OrderContext orderContext = createOrder(7);
+        handler.process(orderContext);
+
+        // when
+        new InventoryReduceHandler().process(orderContext);
+        clock.addAndGet(Duration.ofSeconds(3).toMillis());
+        wheel.expireDue();
+
+        // then
+        assertThat(waterStock().getQuantity()).isEqualTo(3);
+        assertThat(waterStock().getAvailableQuantity()).isEqualTo(3);
+    }
+}
@@ -0,0 +1,83 @@
+package store.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+class HashedTimingWheelTest {
+    private final AtomicLong clock = new AtomicLong(1_000);
+    private final HashedTimingWheel wheel = HashedTimingWheel.manual(10, 8, clock::get);
+
+    @Test
+    void 만료_시각이_지나면_작업을_실행한다() {
+        // given
+        AtomicInteger executed = new AtomicInteger();
+        wheel.schedule(25, executed::incrementAndGet);
+
+        // when
+        clock.addAndGet(20);
+        wheel.expireDue();
+        int beforeDeadline = executed.get();
+        clock.addAndGet(10);
+        wheel.expireDue();
+
+        // then
+        assertThat(beforeDeadline).isZero();
+        assertThat(executed.get()).isEqualTo(1);
+    }
+
+    @Test
+    void 휠을_한_바퀴_넘는_작업도_만료_시각에_실행한다() {
+        // given
+        AtomicInteger executed = new AtomicInteger();
+        wheel.schedule(200, executed::incrementAndGet);
+
+        // when
+        clock.addAndGet(120);
+        wheel.expireDue();
+        int beforeDeadline = executed.get();
+        clock.addAndGet(80);
+        wheel.expireDue();
+
+        // then
+        assertThat(beforeDeadline).isZero();
+        assertThat(executed.get()).isEqualTo(1);
+    }
+
+    @Test
+    void 취소한_작업은_실행하지_않는다() {
+        // given
+        AtomicInteger executed = new AtomicInteger();
+        HashedTimingWheel.Timeout timeout = wheel.schedule(10, executed::incrementAndGet);
+
+        // when
+        timeout.cancel();
+        clock.addAndGet(50);
+        wheel.expireDue();
+
+        // then
+        assertThat(executed.get()).isZero();
+    }
+
+    @Test
+    void 여러_작업을_만료_순서와_관계없이_각자의_시각에_실행한다() {
+        // given
+        AtomicInteger executed = new AtomicInteger();
+        for (int i = 1; i <= 1_000; i++) {
+            wheel.schedule(i, executed::incrementAndGet);
+        }
+
+        // when
+        clock.addAndGet(500);
+        wheel.expireDue();
+        int half = executed.get();
+        clock.addAndGet(500);
+        wheel.expireDue();
+
+        // then
+        assertThat(half).isEqualTo(500);
+        assertThat(executed.get()).isEqualTo(1_000);
+    }
+}
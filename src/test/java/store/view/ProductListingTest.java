@@ -0,0 +1,93 @@
+package store.view;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import store.dto.ProductDto;
+
+class ProductListingTest {
+
+    @Nested
+    class 상품_목록_출력_테스트 {
+        @Test
+        void 일반_재고와_프로모션_재고를_순서대로_출력한다() {
+            // given
+            ProductListing listing = new ProductListing();
+            List<ProductDto> products = List.of(
+                    new ProductDto("콜라", 1000, 10, "탄산2+1"),
+                    new ProductDto("콜라", 1000, 10, null),
+                    new ProductDto("물", 500, 0, null)
+            );
+
+            // when
+            String result = listing.render(products);
+
+            // then
+            assertThat(result).isEqualTo(
+                    "- 콜라 1,000원 10개 탄산2+1\n"
+                            + "- 콜라 1,000원 10개\n"
+                            + "- 물 500원 재고 없음\n"
+            );
+        }
+
+        @Test
+        void 일반_재고가_없는_프로모션_상품은_재고_없음_행을_함께_출력한다() {
+            // given
+            ProductListing listing = new ProductListing();
+            List<ProductDto> products = List.of(new ProductDto("오렌지주스", 1800, 9, "MD추천상품"));
+
+            // when
+            String result = listing.render(products);
+
+            // then
+            assertThat(result).isEqualTo(
+                    "- 오렌지주스 1,800원 9개 MD추천상품\n"
+                            + "- 오렌지주스 1,800원 재고 없음\n"
+            );
+        }
+    }
+
+    @Nested
+    class 재출력_테스트 {
+        @Test
+        void 수량이_바뀐_행만_새로운_수량으로_출력한다() {
+            // given
+            ProductListing listing = new ProductListing();
+            listing.render(List.of(
+                    new ProductDto("콜라", 1000, 10, null),
+                    new ProductDto("사이다", 1000, 8, null)
+            ));
+
+            // when
+            String result = listing.render(List.of(
+                    new ProductDto("콜라", 1000, 7, null),
+                    new ProductDto("사이다", 1000, 8, null)
+            ));
+
+            // then
+            assertThat(result).isEqualTo(
+                    "- 콜라 1,000원 7개\n"
+                            + "- 사이다 1,000원 8개\n"
+            );
+        }
+
+        @Test
+        void 일반_재고_행이_사라지면_재고_없음_행을_다시_출력한다() {
+            // given
+            ProductListing listing = new ProductListing();
+            ProductDto promotional = new ProductDto("콜라", 1000, 10, "탄산2+1");
+            listing.render(List.of(promotional, new ProductDto("콜라", 1000, 10, null)));
+
+            // when
+            String result = listing.render(List.of(promotional));
+
+            // then
+            assertThat(result).isEqualTo(
+                    "- 콜라 1,000원 10개 탄산2+1\n"
+                            + "- 콜라 1,000원 재고 없음\n"
+            );
+        }
+    }
+}
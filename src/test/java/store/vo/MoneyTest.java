@@ -0,0 +1,106 @@
+package store.vo;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+class MoneyTest {
+
+    @Nested
+    class 금액_계산_테스트 {
+        @Test
+        void 단가와_수량을_곱한_금액은_int_범위를_넘을_수_있다() {
+            // when
+            Money price = Money.priceOf(Integer.MAX_VALUE, 3);
+
+            // then
+            assertThat(price.amount()).isEqualTo(3L * Integer.MAX_VALUE);
+        }
+
+        @Test
+        void 금액을_더하고_뺀다() {
+            // when
+            Money money = Money.of(10_000).plus(Money.of(3_000)).minus(Money.of(500));
+
+            // then
+            assertThat(money).isEqualTo(Money.of(12_500));
+        }
+
+        @ParameterizedTest(name = "{0}원의 {1}% -> {2}원")
+        @CsvSource({
+                "3000,  30, 900",
+                "1001,  30, 300",
+                "10,    30, 3",
+                "-1001, 30, -301",
+        })
+        void 백분율을_적용하면_원_미만을_버린다(long amount, int percent, long expected) {
+            // when
+            Money money = Money.of(amount).percent(percent);
+
+            // then
+            assertThat(money).isEqualTo(Money.of(expected));
+        }
+
+        @Test
+        void 작은_금액을_고른다() {
+            // given
+            Money small = Money.of(8_000);
+            Money large = Money.of(9_000);
+
+            // when & then
+            assertThat(large.min(small)).isEqualTo(small);
+            assertThat(small.min(large)).isEqualTo(small);
+        }
+    }
+
+    @Nested
+    class 범위_초과_테스트 {
+        @Test
+        void 더한_금액이_범위를_넘으면_예외가_발생한다() {
+            // given
+            Money money = Money.of(Long.MAX_VALUE);
+
+            // when & then
+            assertThatThrownBy(() -> money.plus(Money.of(1)))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasCauseInstanceOf(ArithmeticException.class);
+        }
+
+        @Test
+        void 곱한_금액이_범위를_넘으면_예외가_발생한다() {
+            // given
+            Money money = Money.of(Long.MAX_VALUE / 2 + 1);
+
+            // when & then
+            assertThatThrownBy(() -> money.times(2))
+                    .isInstanceOf(IllegalStateException.class);
+        }
+
+        @Test
+        void 누적한_금액이_범위를_넘으면_예외가_발생한다() {
+            // given
+            MoneyAccumulator accumulator = new MoneyAccumulator().add(Money.of(Long.MAX_VALUE - 10));
+
+            // when & then
+            assertThatThrownBy(() -> accumulator.add(1, 11))
+                    .isInstanceOf(IllegalStateException.class);
+        }
+    }
+
+    @Test
+    void 누적기는_단가와_수량을_곱해_더한다() {
+        // when
+        Money total = new MoneyAccumulator()
+                .add(1_000, 3)
+                .add(500, 2)
+                .add(Money.of(100))
+                .total();
+
+        // then
+        assertThat(total).isEqualTo(Money.of(4_100));
+    }
+}